@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# 로컬 Redis Cluster (Master 3 + Replica 3) 기동/종료
+#
+#   ./scripts/redis-cluster.sh start   # 127.0.0.1:7000-7005
+#   ./scripts/redis-cluster.sh stop
+#
+# 필요: redis-server, redis-cli (6.0 이상)
+set -euo pipefail
+
+BASE_PORT=${REDIS_CLUSTER_BASE_PORT:-7000}
+NODES=6
+DIR=${REDIS_CLUSTER_DIR:-build/redis-cluster}
+
+start() {
+  mkdir -p "$DIR"
+  local addresses=()
+  for i in $(seq 0 $((NODES - 1))); do
+    local port=$((BASE_PORT + i))
+    mkdir -p "$DIR/$port"
+    redis-server --port "$port" \
+      --cluster-enabled yes \
+      --cluster-config-file "nodes-$port.conf" \
+      --cluster-node-timeout 5000 \
+      --appendonly no --save "" \
+      --dir "$DIR/$port" \
+      --daemonize yes \
+      --logfile "redis.log" \
+      --pidfile "$PWD/$DIR/$port/redis.pid"
+    addresses+=("127.0.0.1:$port")
+  done
+
+  for i in $(seq 0 $((NODES - 1))); do
+    until redis-cli -p $((BASE_PORT + i)) ping >/dev/null 2>&1; do sleep 0.1; done
+  done
+
+  redis-cli --cluster create "${addresses[@]}" --cluster-replicas 1 --cluster-yes
+  echo "Redis Cluster started: SPRING_DATA_REDIS_CLUSTER_NODES=$(IFS=,; echo "${addresses[*]:0:3}")"
+}
+
+stop() {
+  for i in $(seq 0 $((NODES - 1))); do
+    redis-cli -p $((BASE_PORT + i)) shutdown nosave >/dev/null 2>&1 || true
+  done
+  rm -rf "$DIR"
+}
+
+case "${1:-}" in
+  start) start ;;
+  stop) stop ;;
+  *) echo "usage: $0 start|stop" >&2; exit 1 ;;
+esac
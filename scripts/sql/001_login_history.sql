@@ -0,0 +1,18 @@
+-- 로그인 이벤트 기록 (LoginEventWriter)
+-- ddl-auto: none 환경(prod, stag)에서 배포 전에 한 번 실행 (MySQL 8)
+-- dev(ddl-auto: create)는 엔티티(User.lastLoginAt, LoginHistory)에서 같은 스키마가 생성됨
+
+-- 마지막 로그인 시각 (성공 이벤트 중 가장 늦은 시각으로만 갱신)
+alter table tb_user
+    add column last_login_at datetime(6) null;
+
+-- 로그인 시도 이력 (존재하지 않는 이메일로 실패한 경우 user_id 는 null)
+create table tb_login_history (
+    login_history_id bigint      not null auto_increment,
+    user_id          bigint      null,
+    email            varchar(100) null,
+    success          bit         not null,
+    logged_in_at     datetime(6) not null,
+    primary key (login_history_id),
+    index idx_login_history_user (user_id, logged_in_at)
+);
@@ -0,0 +1,7 @@
+-- 역할 + 세부 권한 비트마스크 (Authorities)
+-- ddl-auto: none 환경(prod, stag)에서 배포 전에 한 번 실행 (MySQL 8)
+-- dev(ddl-auto: create)는 엔티티(User.authorities)에서 같은 스키마가 생성됨
+
+-- 기존 사용자는 0 으로 채워지며, 0 은 역할의 기본 권한으로 해석됨 (Authorities.effective)
+alter table tb_user
+    add column authorities bigint not null default 0;
@@ -0,0 +1,391 @@
+package springboot.boilerplate.loadtest;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 테스트용 인프로세스 Redis 대체 서버
+ *
+ * 애플리케이션(Lettuce)이 사용하는 RESP2 명령만 구현
+ * (GET, SET PX/EX, DEL, EXISTS, MGET, SCAN, PUBLISH, SUBSCRIBE, PING, INFO)
+ * 만료는 조회 시점에 확인하며, HELLO는 거부하여 클라이언트가 RESP2로 동작하도록 함
+ * setLatencyMillis 로 데이터 명령마다 지연을 넣어 느린 Redis를 흉내낼 수 있음
+ */
+public class InMemoryRedisServer implements Closeable {
+
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private final Map<String, Entry> store = new ConcurrentHashMap<>();
+    private final Map<String, Set<Connection>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService connectionExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "redis-stand-in");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ServerSocket serverSocket;
+    // 데이터 명령 처리 전 지연 (밀리초)
+    private volatile long latencyMillis;
+
+    private record Entry(byte[] value, long expiresAtMillis) {
+        boolean isExpired(long now) {
+            return expiresAtMillis > 0 && expiresAtMillis <= now;
+        }
+    }
+
+    public InMemoryRedisServer() throws IOException {
+        this.serverSocket = new ServerSocket(0, 1024, InetAddress.getLoopbackAddress());
+        connectionExecutor.execute(this::acceptLoop);
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+    /**
+     * 데이터 명령(GET, SET, DEL 등) 처리 전 지연 설정 (연결별로 명령이 순서대로 처리되므로 지연이 누적됨)
+     */
+    public void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        connectionExecutor.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                connectionExecutor.execute(new Connection(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private final class Connection implements Runnable {
+
+        private final Socket socket;
+        private final Set<String> channels = ConcurrentHashMap.newKeySet();
+        private OutputStream out;
+
+        private Connection(Socket socket) {
+            this.socket = socket;
+        }
+
+        @Override
+        public void run() {
+            try (socket) {
+                InputStream in = new BufferedInputStream(socket.getInputStream());
+                out = new BufferedOutputStream(socket.getOutputStream());
+                while (true) {
+                    List<byte[]> command = readCommand(in);
+                    synchronized (this) {
+                        if (!execute(command)) {
+                            out.flush();
+                            return;
+                        }
+                        // 파이프라인 요청은 모아서 한 번에 전송
+                        if (in.available() == 0) {
+                            out.flush();
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                // 연결 종료
+            } finally {
+                channels.forEach(channel -> unsubscribe(channel, this));
+            }
+        }
+
+        private boolean execute(List<byte[]> command) throws IOException {
+            String name = text(command.get(0)).toUpperCase(Locale.ROOT);
+            injectLatency(name);
+            long now = System.currentTimeMillis();
+            switch (name) {
+                case "PING" -> writeSimple("PONG");
+                case "AUTH", "SELECT", "CLIENT", "READONLY" -> writeSimple("OK");
+                case "QUIT" -> {
+                    writeSimple("OK");
+                    return false;
+                }
+                case "INFO" -> writeBulk("# Server\r\nredis_version:7.2.0\r\nredis_mode:standalone\r\n".getBytes(StandardCharsets.UTF_8));
+                case "GET" -> writeBulk(get(text(command.get(1)), now));
+                case "SET" -> {
+                    set(command, now);
+                    writeSimple("OK");
+                }
+                case "DEL" -> {
+                    int removed = 0;
+                    for (int i = 1; i < command.size(); i++) {
+                        if (store.remove(text(command.get(i))) != null) {
+                            removed++;
+                        }
+                    }
+                    writeInteger(removed);
+                }
+                case "EXISTS" -> {
+                    int found = 0;
+                    for (int i = 1; i < command.size(); i++) {
+                        if (get(text(command.get(i)), now) != null) {
+                            found++;
+                        }
+                    }
+                    writeInteger(found);
+                }
+                case "MGET" -> {
+                    writeArrayHeader(command.size() - 1);
+                    for (int i = 1; i < command.size(); i++) {
+                        writeBulk(get(text(command.get(i)), now));
+                    }
+                }
+                case "SCAN" -> scan(command, now);
+                case "PUBLISH" -> writeInteger(publish(text(command.get(1)), command.get(2)));
+                case "SUBSCRIBE" -> {
+                    for (int i = 1; i < command.size(); i++) {
+                        String channel = text(command.get(i));
+                        channels.add(channel);
+                        subscribers.computeIfAbsent(channel, key -> ConcurrentHashMap.newKeySet()).add(this);
+                        writePush("subscribe", channel, channels.size());
+                    }
+                }
+                case "UNSUBSCRIBE" -> {
+                    List<String> targets = new ArrayList<>();
+                    for (int i = 1; i < command.size(); i++) {
+                        targets.add(text(command.get(i)));
+                    }
+                    if (targets.isEmpty()) {
+                        targets.addAll(channels);
+                    }
+                    for (String channel : targets) {
+                        channels.remove(channel);
+                        unsubscribe(channel, this);
+                        writePush("unsubscribe", channel, channels.size());
+                    }
+                }
+                default -> writeError("ERR unknown command '" + name + "'");
+            }
+            return true;
+        }
+
+        private void injectLatency(String name) throws IOException {
+            long delay = latencyMillis;
+            if (delay <= 0 || name.equals("PING") || name.contains("SUBSCRIBE")) {
+                return;
+            }
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted", e);
+            }
+        }
+
+        private void set(List<byte[]> command, long now) {
+            long expiresAt = 0;
+            for (int i = 3; i + 1 < command.size(); i++) {
+                String option = text(command.get(i)).toUpperCase(Locale.ROOT);
+                if (option.equals("PX")) {
+                    expiresAt = now + Long.parseLong(text(command.get(i + 1)));
+                } else if (option.equals("EX")) {
+                    expiresAt = now + Long.parseLong(text(command.get(i + 1))) * 1000;
+                }
+            }
+            store.put(text(command.get(1)), new Entry(command.get(2), expiresAt));
+        }
+
+        private void scan(List<byte[]> command, long now) throws IOException {
+            Pattern pattern = null;
+            for (int i = 2; i + 1 < command.size(); i++) {
+                if (text(command.get(i)).equalsIgnoreCase("MATCH")) {
+                    pattern = globToPattern(text(command.get(i + 1)));
+                }
+            }
+            // 커서 없이 한 번에 전체 결과 반환
+            List<String> keys = new ArrayList<>();
+            for (Map.Entry<String, Entry> entry : store.entrySet()) {
+                if (!entry.getValue().isExpired(now) && (pattern == null || pattern.matcher(entry.getKey()).matches())) {
+                    keys.add(entry.getKey());
+                }
+            }
+            writeArrayHeader(2);
+            writeBulk("0".getBytes(StandardCharsets.UTF_8));
+            writeArrayHeader(keys.size());
+            for (String key : keys) {
+                writeBulk(key.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        private synchronized void deliver(String channel, byte[] message) throws IOException {
+            writeArrayHeader(3);
+            writeBulk("message".getBytes(StandardCharsets.UTF_8));
+            writeBulk(channel.getBytes(StandardCharsets.UTF_8));
+            writeBulk(message);
+            out.flush();
+        }
+
+        private void writePush(String kind, String channel, int count) throws IOException {
+            writeArrayHeader(3);
+            writeBulk(kind.getBytes(StandardCharsets.UTF_8));
+            writeBulk(channel.getBytes(StandardCharsets.UTF_8));
+            writeInteger(count);
+        }
+
+        private void writeSimple(String value) throws IOException {
+            out.write('+');
+            out.write(value.getBytes(StandardCharsets.UTF_8));
+            out.write(CRLF);
+        }
+
+        private void writeError(String message) throws IOException {
+            out.write('-');
+            out.write(message.getBytes(StandardCharsets.UTF_8));
+            out.write(CRLF);
+        }
+
+        private void writeInteger(long value) throws IOException {
+            out.write(':');
+            out.write(Long.toString(value).getBytes(StandardCharsets.UTF_8));
+            out.write(CRLF);
+        }
+
+        private void writeArrayHeader(int size) throws IOException {
+            out.write('*');
+            out.write(Integer.toString(size).getBytes(StandardCharsets.UTF_8));
+            out.write(CRLF);
+        }
+
+        private void writeBulk(byte[] value) throws IOException {
+            if (value == null) {
+                out.write("$-1\r\n".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            out.write('$');
+            out.write(Integer.toString(value.length).getBytes(StandardCharsets.UTF_8));
+            out.write(CRLF);
+            out.write(value);
+            out.write(CRLF);
+        }
+    }
+
+    private byte[] get(String key, long now) {
+        Entry entry = store.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(now)) {
+            store.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    private int publish(String channel, byte[] message) {
+        Set<Connection> targets = subscribers.get(channel);
+        if (targets == null) {
+            return 0;
+        }
+        int delivered = 0;
+        for (Connection connection : targets) {
+            try {
+                connection.deliver(channel, message);
+                delivered++;
+            } catch (IOException e) {
+                unsubscribe(channel, connection);
+            }
+        }
+        return delivered;
+    }
+
+    private void unsubscribe(String channel, Connection connection) {
+        subscribers.computeIfPresent(channel, (key, set) -> {
+            set.remove(connection);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    // RESP 배열 명령 읽기: *<n>\r\n($<len>\r\n<bytes>\r\n)*
+    private static List<byte[]> readCommand(InputStream in) throws IOException {
+        int type = in.read();
+        if (type < 0) {
+            throw new EOFException();
+        }
+        if (type != '*') {
+            throw new IOException("Unsupported RESP type: " + (char) type);
+        }
+        int count = (int) readNumber(in);
+        List<byte[]> parts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (in.read() != '$') {
+                throw new IOException("Expected bulk string");
+            }
+            int length = (int) readNumber(in);
+            byte[] value = in.readNBytes(length);
+            if (value.length < length) {
+                throw new EOFException();
+            }
+            in.skipNBytes(2);
+            parts.add(value);
+        }
+        return parts;
+    }
+
+    private static long readNumber(InputStream in) throws IOException {
+        long value = 0;
+        boolean negative = false;
+        int b;
+        while ((b = in.read()) != '\r') {
+            if (b < 0) {
+                throw new EOFException();
+            }
+            if (b == '-') {
+                negative = true;
+            } else {
+                value = value * 10 + (b - '0');
+            }
+        }
+        in.read();
+        return negative ? -value : value;
+    }
+
+    private static String text(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static Pattern globToPattern(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : glob.toCharArray()) {
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+}
@@ -0,0 +1,231 @@
+package springboot.boilerplate.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 개방형(open-model) 부하 발생기
+ *
+ * 요청은 응답 완료와 무관하게 정해진 도착 시각에 전송되며,
+ * 지연 시간은 실제 전송 시각이 아닌 예정 도착 시각부터 측정하여 coordinated omission을 피함
+ */
+final class LoadGenerator {
+
+    // 기록 가능한 최대 지연 시간 60초 (마이크로초 단위, 유효 숫자 3자리)
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestSettings settings;
+    private final URI baseUri;
+    private final SeededUsers users;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService clientExecutor;
+    private final HttpClient httpClient;
+
+    private final Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+    private final Operation[] weightedOperations;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong signupSequence = new AtomicLong();
+
+    private static final class Stats {
+        final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final LongAdder failures = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+    }
+
+    LoadGenerator(LoadTestSettings settings, URI baseUri, SeededUsers users, ObjectMapper objectMapper) {
+        this.settings = settings;
+        this.baseUri = baseUri;
+        this.users = users;
+        this.objectMapper = objectMapper;
+        this.clientExecutor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        int totalWeight = settings.mix().values().stream().mapToInt(Integer::intValue).sum();
+        this.weightedOperations = new Operation[totalWeight];
+        int position = 0;
+        for (Map.Entry<Operation, Integer> entry : settings.mix().entrySet()) {
+            stats.put(entry.getKey(), new Stats());
+            for (int i = 0; i < entry.getValue(); i++) {
+                weightedOperations[position++] = entry.getKey();
+            }
+        }
+    }
+
+    /**
+     * 워밍업 후 측정 시간 동안 부하 발생
+     *
+     * @return 측정 시간 (나노초)
+     */
+    long run() throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.rate();
+        long start = System.nanoTime();
+        long measureStart = start + TimeUnit.SECONDS.toNanos(settings.warmupSeconds());
+        long end = measureStart + TimeUnit.SECONDS.toNanos(settings.durationSeconds());
+
+        double next = start;
+        while (next < end) {
+            long intended = (long) next;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Operation operation = weightedOperations[random.nextInt(weightedOperations.length)];
+            boolean measured = intended >= measureStart;
+            if (inFlight.incrementAndGet() > settings.maxInFlight()) {
+                inFlight.decrementAndGet();
+                if (measured) {
+                    stats.get(operation).dropped.increment();
+                }
+            } else {
+                send(operation, intended, measured);
+            }
+
+            next += settings.arrival() == LoadTestSettings.Arrival.POISSON
+                    ? -Math.log(1 - random.nextDouble()) * meanIntervalNanos
+                    : meanIntervalNanos;
+        }
+
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        clientExecutor.shutdownNow();
+        return end - measureStart;
+    }
+
+    private void send(Operation operation, long intended, boolean measured) {
+        int userIndex = users.randomIndex();
+        HttpRequest request = switch (operation) {
+            case SIGNUP -> post("/api/v1/auth/save", Map.of(
+                    "email", "signup" + signupSequence.incrementAndGet() + "@loadtest.com",
+                    "password", SeededUsers.PASSWORD));
+            case LOGIN -> post("/api/v1/auth/login", Map.of(
+                    "email", users.emailAt(userIndex),
+                    "password", SeededUsers.PASSWORD));
+            case REISSUE -> post("/api/v1/auth/reissue", Map.of(
+                    "refreshToken", users.tokensAt(userIndex).refreshToken()));
+            case AUTHENTICATED -> HttpRequest.newBuilder(baseUri.resolve(settings.authenticatedPath()))
+                    .header("Authorization", "Bearer " + users.tokensAt(userIndex).accessToken())
+                    .GET()
+                    .build();
+        };
+
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, error) -> {
+                    long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended);
+                    inFlight.decrementAndGet();
+                    boolean success = error == null && operation.isSuccess(response.statusCode());
+                    if (success && operation == Operation.LOGIN) {
+                        updateTokens(userIndex, response.body());
+                    }
+                    if (measured) {
+                        Stats operationStats = stats.get(operation);
+                        operationStats.latency.recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+                        if (!success) {
+                            operationStats.failures.increment();
+                        }
+                    }
+                });
+    }
+
+    private HttpRequest post(String path, Map<String, String> body) {
+        try {
+            return HttpRequest.newBuilder(baseUri.resolve(path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 로그인으로 Refresh Token이 교체되므로 이후 재발급/인증 요청에 새 토큰 사용
+    private void updateTokens(int userIndex, byte[] body) {
+        try {
+            JsonNode data = objectMapper.readTree(body).path("data");
+            users.update(userIndex, data.path("accessToken").asText(), data.path("refreshToken").asText());
+        } catch (IOException e) {
+            // 응답 형식 오류는 다음 요청에서 실패로 드러남
+        }
+    }
+
+    /**
+     * 작업별 처리량/지연 시간 백분위 출력 및 HdrHistogram 분포 파일(.hgrm) 저장
+     *
+     * @param out 요약 출력 대상
+     * @param measuredNanos 측정 시간 (나노초)
+     */
+    void report(PrintStream out, long measuredNanos) throws IOException {
+        Path reportDir = settings.reportDir();
+        Files.createDirectories(reportDir);
+        double seconds = measuredNanos / 1e9;
+
+        out.printf("%n%-14s %10s %10s %8s %8s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "req/s", "failed", "dropped", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+            Stats operationStats = entry.getValue();
+            Histogram histogram = operationStats.latency.copy();
+            total.add(histogram);
+            printRow(out, entry.getKey().key(), histogram, seconds,
+                    operationStats.failures.sum(), operationStats.dropped.sum());
+            writeDistribution(reportDir.resolve(entry.getKey().key() + ".hgrm"), histogram);
+        }
+        long totalFailures = stats.values().stream().mapToLong(s -> s.failures.sum()).sum();
+        long totalDropped = stats.values().stream().mapToLong(s -> s.dropped.sum()).sum();
+        printRow(out, "total", total, seconds, totalFailures, totalDropped);
+        writeDistribution(reportDir.resolve("total.hgrm"), total);
+        out.printf("%nHdrHistogram percentile distributions written to %s%n", reportDir.toAbsolutePath());
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, double seconds,
+                                 long failures, long dropped) {
+        out.printf("%-14s %10d %10.1f %8d %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds,
+                failures,
+                dropped,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+
+    private static void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            // 마이크로초 -> 밀리초
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package springboot.boilerplate.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import springboot.boilerplate.BoilerplateApplication;
+import springboot.boilerplate.auth.dto.request.RequestUserSaveDto;
+import springboot.boilerplate.auth.dto.response.ResponseUserSaveDto;
+import springboot.boilerplate.auth.dto.response.TokenDto;
+import springboot.boilerplate.auth.enums.Role;
+import springboot.boilerplate.auth.service.AuthService;
+import springboot.boilerplate.global.security.TokenIssuer;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 부하 테스트 실행기
+ *
+ * 1. 인프로세스 Redis 대체 서버 기동
+ * 2. 내장 H2(MySQL 모드)로 애플리케이션 기동 (DB_*, REDIS_* 환경 변수 불필요)
+ * 3. AuthService.save로 사용자 시드 후 초기 토큰 발급
+ * 4. 개방형 부하 발생 후 처리량/지연 시간 백분위 출력
+ *
+ * ./gradlew loadTest 로 실행
+ */
+public final class LoadTestApplication {
+
+    private LoadTestApplication() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        try (InMemoryRedisServer redis = new InMemoryRedisServer();
+             ConfigurableApplicationContext context = SpringApplication.run(
+                     BoilerplateApplication.class, applicationArguments(redis.getPort()))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+
+            System.out.printf("Seeding %d users...%n", settings.users());
+            SeededUsers users = seed(settings.users(), context, objectMapper);
+            if (settings.redisLatencyMillis() > 0) {
+                // 시드 이후부터 Redis 지연 주입 (장애 보호/브레이커 동작 확인)
+                System.out.printf("Injecting %d ms Redis latency%n", settings.redisLatencyMillis());
+                redis.setLatencyMillis(settings.redisLatencyMillis());
+            }
+
+            System.out.printf("Running %s arrivals at %.1f req/s for %ds (+%ds warmup), mix=%s%n",
+                    settings.arrival(), settings.rate(), settings.durationSeconds(), settings.warmupSeconds(), settings.mix());
+            LoadGenerator generator = new LoadGenerator(settings, URI.create("http://localhost:" + port), users, objectMapper);
+            long measuredNanos = generator.run();
+            generator.report(System.out, measuredNanos);
+        }
+        // 비데몬 스레드(Redis 구독, 스케줄러 등)가 남아 있어도 종료
+        System.exit(0);
+    }
+
+    private static String[] applicationArguments(int redisPort) {
+        return new String[]{
+                "--spring.profiles.active=dev",
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.routing.enabled=false",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--spring.data.redis.host=localhost",
+                "--spring.data.redis.port=" + redisPort,
+                "--spring.jwt.secret=load-test-secret-key-0123456789abcdefghijklmnop",
+                "--spring.jwt.accessTokenExpiration=3600000",
+                "--spring.jwt.refreshTokenExpiration=1209600000",
+                "--logging.level.root=warn"
+        };
+    }
+
+    // 회원가입 경로(AuthService.save, BCrypt 포함)로 시드 후 사용자별 초기 토큰 발급
+    private static SeededUsers seed(int count, ConfigurableApplicationContext context, ObjectMapper objectMapper) throws Exception {
+        AuthService authService = context.getBean(AuthService.class);
+        TokenIssuer tokenIssuer = context.getBean(TokenIssuer.class);
+        SeededUsers users = new SeededUsers(count);
+
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            List<Future<?>> futures = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    String email = SeededUsers.email(index);
+                    RequestUserSaveDto dto = objectMapper.convertValue(
+                            Map.of("email", email, "password", SeededUsers.PASSWORD), RequestUserSaveDto.class);
+                    ResponseUserSaveDto saved = authService.save(dto);
+                    TokenDto tokens = tokenIssuer.issue(saved.getId(), email, Role.USER.name());
+                    users.register(index, email,
+                            new SeededUsers.Tokens(saved.getId(), tokens.getAccessToken(), tokens.getRefreshToken()));
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return users;
+    }
+}
@@ -0,0 +1,75 @@
+package springboot.boilerplate.loadtest;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (loadtest.* 시스템 프로퍼티)
+ *
+ * @param users 시드 사용자 수
+ * @param rate 초당 요청 도착률 (응답 시간과 무관하게 유지되는 개방형 부하)
+ * @param durationSeconds 측정 시간
+ * @param warmupSeconds 측정 전 워밍업 시간 (결과에서 제외)
+ * @param mix 작업별 가중치
+ * @param arrival 도착 간격 분포
+ * @param maxInFlight 동시 진행 요청 상한 (초과 시 요청을 보내지 않고 dropped로 집계)
+ * @param authenticatedPath 인증 요청 경로
+ * @param redisLatencyMillis Redis 대체 서버의 명령당 지연 (장애 보호 동작 확인용)
+ * @param reportDir HdrHistogram 결과 저장 경로
+ */
+record LoadTestSettings(
+        int users,
+        double rate,
+        int durationSeconds,
+        int warmupSeconds,
+        Map<Operation, Integer> mix,
+        Arrival arrival,
+        int maxInFlight,
+        String authenticatedPath,
+        long redisLatencyMillis,
+        Path reportDir
+) {
+
+    enum Arrival {
+        // 포아송 도착 (지수 분포 간격)
+        POISSON,
+        // 고정 간격
+        CONSTANT
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.users", 1_000),
+                Double.parseDouble(System.getProperty("loadtest.rate", "200")),
+                Integer.getInteger("loadtest.duration-seconds", 60),
+                Integer.getInteger("loadtest.warmup-seconds", 15),
+                parseMix(System.getProperty("loadtest.mix", "signup:1,login:2,reissue:3,authenticated:14")),
+                Arrival.valueOf(System.getProperty("loadtest.arrival", "poisson").toUpperCase(Locale.ROOT)),
+                Integer.getInteger("loadtest.max-in-flight", 2_000),
+                System.getProperty("loadtest.authenticated-path", "/api/v1/users/me"),
+                Long.getLong("loadtest.redis-latency-ms", 0),
+                Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest"))
+        );
+    }
+
+    // 형식: signup:1,login:2,reissue:3,authenticated:14
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.fromKey(pair[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix has no positive weights: " + value);
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,33 @@
+package springboot.boilerplate.loadtest;
+
+import java.util.Locale;
+
+/**
+ * 부하 테스트 작업 종류
+ */
+enum Operation {
+    SIGNUP,
+    LOGIN,
+    REISSUE,
+    AUTHENTICATED;
+
+    String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    static Operation fromKey(String key) {
+        return valueOf(key.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * 응답 상태 코드의 성공 여부
+     *
+     * 인증 요청은 JwtAuthenticationFilter 통과 여부만 확인 (401/403/5xx가 아니면 성공)
+     */
+    boolean isSuccess(int status) {
+        if (this == AUTHENTICATED) {
+            return status != 401 && status != 403 && status < 500;
+        }
+        return status >= 200 && status < 300;
+    }
+}
@@ -0,0 +1,51 @@
+package springboot.boilerplate.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 시드 사용자와 사용자별 최신 토큰
+ *
+ * 로그인 응답으로 Refresh Token이 교체되면 이후 재발급 요청은 새 토큰을 사용
+ */
+final class SeededUsers {
+
+    static final String PASSWORD = "load-test-password";
+
+    record Tokens(long userId, String accessToken, String refreshToken) {
+    }
+
+    private final String[] emails;
+    private final AtomicReferenceArray<Tokens> tokens;
+
+    SeededUsers(int size) {
+        this.emails = new String[size];
+        this.tokens = new AtomicReferenceArray<>(size);
+    }
+
+    static String email(int index) {
+        return "seed" + index + "@loadtest.com";
+    }
+
+    int randomIndex() {
+        return ThreadLocalRandom.current().nextInt(emails.length);
+    }
+
+    String emailAt(int index) {
+        return emails[index];
+    }
+
+    Tokens tokensAt(int index) {
+        return tokens.get(index);
+    }
+
+    void register(int index, String email, Tokens issued) {
+        emails[index] = email;
+        tokens.set(index, issued);
+    }
+
+    void update(int index, String accessToken, String refreshToken) {
+        Tokens current = tokens.get(index);
+        tokens.set(index, new Tokens(current.userId(), accessToken, refreshToken));
+    }
+}
@@ -0,0 +1,60 @@
+package springboot.boilerplate.auth.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import springboot.boilerplate.auth.dto.response.ResponseUserSearchDto;
+import springboot.boilerplate.auth.search.UserSearchProperties;
+import springboot.boilerplate.auth.service.UserService;
+import springboot.boilerplate.global.common.BaseResponse;
+import springboot.boilerplate.global.common.PagedResponse;
+import springboot.boilerplate.global.common.RequestPagingDto;
+import springboot.boilerplate.global.exception.CustomException;
+import springboot.boilerplate.global.exception.ErrorCode;
+import springboot.boilerplate.global.swagger.ApiErrorCodeExamples;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "AdminUserController", description = "관리자 사용자 API")
+@RequestMapping("/api/v1/admin/users")
+public class AdminUserController {
+
+    private final UserService userService;
+    private final UserSearchProperties properties;
+
+    /**
+     * 이메일 앞부분으로 사용자 검색 API
+     *
+     * 메모리 색인에서 이메일 순으로 조회하며 (대소문자 무관), size 는 maxPageSize 까지 허용
+     * USER_READ_ALL 권한이 필요
+     *
+     * @param prefix 이메일 앞부분
+     * @param paging 페이지 번호(0부터)와 크기
+     * @return 검색 결과 페이지
+     */
+    @Operation(summary = "이메일 앞부분으로 사용자 검색 API")
+    @ApiErrorCodeExamples({
+            ErrorCode.INVALID_REQUEST,
+            ErrorCode.UNAUTHORIZED,
+            ErrorCode.FORBIDDEN,
+            ErrorCode.INTERNAL_SERVER_ERROR
+    })
+    @GetMapping("/search")
+    public ResponseEntity<BaseResponse<PagedResponse<ResponseUserSearchDto>>> search(
+            @RequestParam("prefix") String prefix,
+            @Parameter(description = "페이지 번호(page)와 크기(size)") @ModelAttribute RequestPagingDto paging) {
+        if (paging.getPage() < 0 || paging.getSize() < 1) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        PageRequest pageable = PageRequest.of(paging.getPage(), Math.min(paging.getSize(), properties.getMaxPageSize()));
+        return ResponseEntity.ok(PagedResponse.fromPage(userService.searchByEmail(prefix, pageable)));
+    }
+}
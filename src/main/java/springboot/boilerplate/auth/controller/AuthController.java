@@ -4,10 +4,12 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import springboot.boilerplate.auth.dto.request.RequestTokenReissueDto;
@@ -17,6 +19,7 @@ import springboot.boilerplate.auth.dto.response.TokenDto;
 import springboot.boilerplate.auth.dto.response.ResponseUserSaveDto;
 import springboot.boilerplate.auth.service.AuthService;
 import springboot.boilerplate.global.common.BaseResponse;
+import springboot.boilerplate.global.exception.CustomException;
 import springboot.boilerplate.global.exception.ErrorCode;
 import springboot.boilerplate.global.swagger.ApiErrorCodeExamples;
 
@@ -38,7 +41,8 @@ public class AuthController {
     @ApiErrorCodeExamples({
             ErrorCode.INVALID_REQUEST,
             ErrorCode.EMAIL_ALREADY_EXISTS,
-            ErrorCode.INTERNAL_SERVER_ERROR
+            ErrorCode.INTERNAL_SERVER_ERROR,
+            ErrorCode.DATABASE_UNAVAILABLE
     })
     @PostMapping("/save")
     public ResponseEntity<BaseResponse<ResponseUserSaveDto>> save(@Valid @RequestBody RequestUserSaveDto dto) {
@@ -56,7 +60,10 @@ public class AuthController {
     @ApiErrorCodeExamples({
             ErrorCode.INVALID_REQUEST,
             ErrorCode.INVALID_CREDENTIALS,
-            ErrorCode.INTERNAL_SERVER_ERROR
+            ErrorCode.INTERNAL_SERVER_ERROR,
+            ErrorCode.DATABASE_UNAVAILABLE,
+            ErrorCode.TOKEN_STORE_UNAVAILABLE,
+            ErrorCode.DEADLINE_EXCEEDED
     })
     @PostMapping("/login")
     public ResponseEntity<BaseResponse<TokenDto>> login(@Valid @RequestBody RequestUserLoginDto dto) {
@@ -75,11 +82,35 @@ public class AuthController {
             ErrorCode.INVALID_REQUEST,
             ErrorCode.TOKEN_EXPIRED,
             ErrorCode.TOKEN_INVALID,
-            ErrorCode.INTERNAL_SERVER_ERROR
+            ErrorCode.INTERNAL_SERVER_ERROR,
+            ErrorCode.TOKEN_STORE_UNAVAILABLE,
+            ErrorCode.DEADLINE_EXCEEDED
     })
     @PostMapping("/reissue")
     public ResponseEntity<BaseResponse<TokenDto>> reissue(@Valid @RequestBody RequestTokenReissueDto dto) {
         TokenDto newToken = authService.reissueAccessToken(dto);
         return ResponseEntity.ok(BaseResponse.success(newToken, "토큰 재발급 성공", HttpStatus.OK));
     }
-}
\ No newline at end of file
+
+    /**
+     * 로그아웃 API
+     * 
+     * @param authorization Authorization 헤더 (Bearer Access Token)
+     * @return 로그아웃 결과
+     */
+    @Operation(summary = "로그아웃 API")
+    @ApiErrorCodeExamples({
+            ErrorCode.UNAUTHORIZED,
+            ErrorCode.TOKEN_INVALID,
+            ErrorCode.INTERNAL_SERVER_ERROR,
+            ErrorCode.TOKEN_STORE_UNAVAILABLE
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<BaseResponse<Void>> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED);
+        }
+        authService.logout(authorization.substring("Bearer ".length()));
+        return ResponseEntity.ok(BaseResponse.success(null, "로그아웃 성공", HttpStatus.OK));
+    }
+}
@@ -0,0 +1,78 @@
+package springboot.boilerplate.auth.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import springboot.boilerplate.auth.dto.request.RequestTokenIntrospectDto;
+import springboot.boilerplate.auth.dto.response.ResponseTokenIntrospectionDto;
+import springboot.boilerplate.global.exception.CustomException;
+import springboot.boilerplate.global.exception.ErrorCode;
+import springboot.boilerplate.global.security.IntrospectionProperties;
+import springboot.boilerplate.global.security.TokenIntrospector;
+import springboot.boilerplate.global.swagger.ApiErrorCodeExamples;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@Tag(name = "TokenIntrospectionController", description = "토큰 검증 API (게이트웨이/내부 서비스용)")
+@RequestMapping("/api/v1/tokens")
+public class TokenIntrospectionController {
+
+    private final TokenIntrospector tokenIntrospector;
+    private final IntrospectionProperties properties;
+    // 결과를 한 줄에 하나씩 쓰는 writer (NDJSON)
+    private final ObjectWriter resultWriter;
+
+    public TokenIntrospectionController(TokenIntrospector tokenIntrospector, IntrospectionProperties properties,
+                                        ObjectMapper objectMapper) {
+        this.tokenIntrospector = tokenIntrospector;
+        this.properties = properties;
+        this.resultWriter = objectMapper.writerFor(ResponseTokenIntrospectionDto.class).withRootValueSeparator("\n");
+    }
+
+    /**
+     * 토큰 일괄 검증 API
+     *
+     * 토큰마다 VALID/EXPIRED/REVOKED/INVALID 와 클레임을 요청 순서대로 한 줄씩(NDJSON) 응답하며,
+     * 검증이 끝난 묶음부터 바로 전송
+     * TOKEN_INTROSPECT 권한이 필요
+     *
+     * @param dto 검증할 토큰 목록
+     * @param response HTTP 응답
+     * @throws IOException 응답을 쓰지 못한 경우
+     */
+    @Operation(summary = "토큰 일괄 검증 API")
+    @ApiErrorCodeExamples({
+            ErrorCode.INVALID_REQUEST,
+            ErrorCode.TOO_MANY_TOKENS,
+            ErrorCode.UNAUTHORIZED,
+            ErrorCode.FORBIDDEN,
+            ErrorCode.INTERNAL_SERVER_ERROR
+    })
+    @PostMapping(value = "/introspect", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void introspect(@Valid @RequestBody RequestTokenIntrospectDto dto, HttpServletResponse response) throws IOException {
+        if (dto.getTokens().size() > properties.getMaxTokens()) {
+            throw new CustomException(ErrorCode.TOO_MANY_TOKENS);
+        }
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        try (SequenceWriter writer = resultWriter.writeValues(response.getOutputStream())) {
+            tokenIntrospector.introspectAll(dto.getTokens(), results -> {
+                writer.writeAll(results);
+                // 묶음마다 바로 전송
+                writer.flush();
+            });
+        }
+    }
+}
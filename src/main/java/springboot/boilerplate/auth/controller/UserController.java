@@ -0,0 +1,78 @@
+package springboot.boilerplate.auth.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import springboot.boilerplate.auth.domain.CustomUserDetails;
+import springboot.boilerplate.auth.dto.projection.UserProfileDto;
+import springboot.boilerplate.auth.dto.response.ResponseUserProfileDto;
+import springboot.boilerplate.auth.service.UserService;
+import springboot.boilerplate.global.common.BaseResponse;
+import springboot.boilerplate.global.exception.CustomException;
+import springboot.boilerplate.global.exception.ErrorCode;
+import springboot.boilerplate.global.swagger.ApiErrorCodeExamples;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "UserController", description = "사용자 API")
+@RequestMapping("/api/v1/users")
+public class UserController {
+
+    // 클라이언트는 매번 If-None-Match 로 재검증
+    private static final CacheControl PROFILE_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final UserService userService;
+
+    /**
+     * 내 정보 조회 API
+     *
+     * 이메일/역할/권한은 JWT 클레임에서, 가입/수정 시각은 캐시된 조회 결과에서 가져오며
+     * If-None-Match 가 현재 ETag 와 같으면 본문 없이 304 로 응답
+     * ETag 는 수정 시각으로 계산하므로 304 응답에도 조회가 필요하며, User 엔티티 캐시(노드별, user 리전 TTL)가
+     * 비어 있는 경우(노드별 첫 요청, TTL 만료, 수정에 의한 무효화)에는 304 로 끝나더라도 MySQL 을 한 번 조회함
+     *
+     * @param principal JWT 로 인증된 사용자
+     * @param request 조건부 요청 확인용 요청
+     * @return 내 정보 (변경이 없으면 304)
+     */
+    @Operation(summary = "내 정보 조회 API")
+    @ApiErrorCodeExamples({
+            ErrorCode.UNAUTHORIZED,
+            ErrorCode.TOKEN_INVALID,
+            ErrorCode.FORBIDDEN,
+            ErrorCode.USER_NOT_FOUND,
+            ErrorCode.INTERNAL_SERVER_ERROR,
+            ErrorCode.DATABASE_UNAVAILABLE
+    })
+    @GetMapping("/me")
+    public ResponseEntity<BaseResponse<ResponseUserProfileDto>> me(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails principal, WebRequest request) {
+        if (principal == null) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED);
+        }
+
+        UserProfileDto profile = userService.getProfile(principal);
+        String eTag = userService.eTag(principal, profile);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(PROFILE_CACHE_CONTROL)
+                    .build();
+        }
+
+        ResponseUserProfileDto data = userService.toResponse(principal, profile);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(PROFILE_CACHE_CONTROL)
+                .body(BaseResponse.success(data, "내 정보 조회 성공", HttpStatus.OK));
+    }
+}
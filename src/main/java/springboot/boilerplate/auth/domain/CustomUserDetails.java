@@ -3,8 +3,9 @@ package springboot.boilerplate.auth.domain;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import springboot.boilerplate.auth.dto.projection.UserAuthDto;
+import springboot.boilerplate.global.security.Authorities;
 
-import java.util.ArrayList;
 import java.util.Collection;
 
 /**
@@ -23,22 +24,39 @@ public class CustomUserDetails implements UserDetails {
         this.user = user;
     }
 
+    /**
+     * 인증용 조회 결과로부터 생성 (영속성 컨텍스트에 속하지 않는 User 사용)
+     *
+     * @param dto 인증용 사용자 조회 결과
+     * @return CustomUserDetails
+     */
+    public static CustomUserDetails from(UserAuthDto dto) {
+        return new CustomUserDetails(User.builder()
+                .id(dto.id())
+                .email(dto.email())
+                .password(dto.password())
+                .role(dto.role())
+                .authorities(dto.authorities())
+                .build());
+    }
+
+    /**
+     * 사용자의 역할 + 세부 권한 비트마스크
+     *
+     * @return 권한 비트마스크
+     */
+    public long getAuthorityMask() {
+        return Authorities.effective(user.getRole(), user.getAuthorities());
+    }
+
     /**
      * 사용자의 권한 반환
      * 
-     * @return 권한 컬렉션
+     * @return 권한 컬렉션 (같은 비트마스크는 같은 불변 인스턴스)
      */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        Collection<GrantedAuthority> collection = new ArrayList<>();
-        collection.add(new GrantedAuthority() {
-            @Override
-            public String getAuthority() {
-                return "ROLE_" + user.getRole();
-            }
-        });
-
-        return collection;
+        return Authorities.toGrantedAuthorities(getAuthorityMask());
     }
 
     /**
@@ -0,0 +1,38 @@
+package springboot.boilerplate.auth.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 시도 이력 (LoginEventWriter 가 일괄 저장, 조회 전용)
+ */
+@Entity
+@Table(name = "TB_LOGIN_HISTORY", indexes = {
+        @Index(name = "idx_login_history_user", columnList = "user_id, logged_in_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class LoginHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "login_history_id")
+    private Long id;
+
+    // 존재하지 않는 이메일로 실패한 경우 null
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "email", length = 100)
+    private String email;
+
+    @Column(name = "success", nullable = false)
+    private boolean success;
+
+    @Column(name = "logged_in_at", nullable = false)
+    private LocalDateTime loggedInAt;
+}
@@ -5,22 +5,36 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import springboot.boilerplate.auth.enums.Role;
 import springboot.boilerplate.global.common.BaseTimeEntity;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "TB_USER")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.NATURAL_ID_CACHE_REGION)
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
 @Builder
 public class User extends BaseTimeEntity {
 
+    // 2차 캐시 리전 이름 (spring.jpa.cache.regions 설정과 일치해야 함)
+    public static final String CACHE_REGION = "user";
+    public static final String NATURAL_ID_CACHE_REGION = "user-natural-id";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "user_id")
     private Long id;
 
+    @NaturalId
     @Column(name = "email", length = 100, nullable = false, unique = true)
     private String email;
 
@@ -30,4 +44,12 @@ public class User extends BaseTimeEntity {
     @Enumerated(EnumType.STRING)
     @Column(name = "role", nullable = false)
     private Role role;
+
+    // 역할 + 세부 권한 비트마스크 (0이면 역할의 기본 권한 사용)
+    @Column(name = "authorities", nullable = false)
+    private long authorities;
+
+    // 마지막 로그인 시각 (LoginEventWriter 가 일괄 갱신하므로 엔티티로는 변경하지 않음)
+    @Column(name = "last_login_at", insertable = false, updatable = false)
+    private LocalDateTime lastLoginAt;
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package springboot.boilerplate.auth.dto.projection;
+
+import springboot.boilerplate.auth.enums.Role;
+
+/**
+ * 인증 경로 전용 사용자 조회 결과
+ *
+ * 로그인/토큰 재발급에 필요한 값만 담으며,
+ * 읽기 전용으로 로딩한(캐시된) User 엔티티에서 만들어 호출자에게 엔티티를 노출하지 않음
+ */
+public record UserAuthDto(Long id, String email, String password, Role role, long authorities) {
+
+    public UserAuthDto(Long id, String email, String password, Role role) {
+        this(id, email, password, role, 0L);
+    }
+}
@@ -0,0 +1,7 @@
+package springboot.boilerplate.auth.dto.projection;
+
+/**
+ * 이메일 검색 색인 적재용 사용자 조회 결과
+ */
+public record UserEmailDto(Long id, String email) {
+}
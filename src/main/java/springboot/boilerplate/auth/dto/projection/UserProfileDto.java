@@ -0,0 +1,11 @@
+package springboot.boilerplate.auth.dto.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내 정보 조회용 사용자 조회 결과 (JWT 클레임에 없는 컬럼만 조회)
+ *
+ * User 엔티티 캐시에서 만들어지므로 캐시가 유효한 동안에는 DB를 조회하지 않음
+ */
+public record UserProfileDto(Long id, LocalDateTime createdDate, LocalDateTime modifiedDate) {
+}
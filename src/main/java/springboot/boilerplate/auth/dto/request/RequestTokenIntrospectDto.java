@@ -0,0 +1,16 @@
+package springboot.boilerplate.auth.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class RequestTokenIntrospectDto {
+
+    @Schema(description = "검증할 Access Token 목록 (최대 spring.introspection.max-tokens 개)",
+            example = "[\"eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...\"]")
+    @NotEmpty(message = "검증할 토큰은 필수입니다.")
+    private List<String> tokens;
+}
@@ -2,14 +2,12 @@ package springboot.boilerplate.auth.dto.request;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 
 @Getter
 public class RequestTokenReissueDto {
 
-    @Schema(description = "사용자 ID", example = "1")
-    @NotNull(message = "사용자 ID는 필수입니다.")
+    @Schema(description = "사용자 ID (선택, 생략 시 Refresh Token의 sub 클레임 사용)", example = "1")
     private Long userId;
 
     @Schema(description = "리프레시 토큰", example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
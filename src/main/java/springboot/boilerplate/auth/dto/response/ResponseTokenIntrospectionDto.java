@@ -0,0 +1,30 @@
+package springboot.boilerplate.auth.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import springboot.boilerplate.global.security.JwtClaims;
+
+/**
+ * 토큰 하나의 검증 결과 (요청 목록의 index 순서로 한 줄씩 응답)
+ *
+ * 클레임은 VALID, EXPIRED, REVOKED 일 때만 포함
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ResponseTokenIntrospectionDto(int index, Status status, Long userId, String email, String role,
+                                            Long authorities, String tokenId, Long expiresAt) {
+
+    public enum Status {
+        VALID,
+        EXPIRED,
+        REVOKED,
+        INVALID
+    }
+
+    public static ResponseTokenIntrospectionDto of(int index, Status status, JwtClaims claims) {
+        return new ResponseTokenIntrospectionDto(index, status, claims.userId(), claims.email(), claims.role(),
+                claims.authorities(), claims.tokenId(), claims.expiresAtMillis());
+    }
+
+    public static ResponseTokenIntrospectionDto invalid(int index) {
+        return new ResponseTokenIntrospectionDto(index, Status.INVALID, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,18 @@
+package springboot.boilerplate.auth.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ResponseUserProfileDto {
+    private Long id;
+    private String email;
+    private String role;
+    private List<String> authorities;
+    private LocalDateTime createdDate;
+    private LocalDateTime modifiedDate;
+}
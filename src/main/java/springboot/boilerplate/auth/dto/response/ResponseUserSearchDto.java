@@ -0,0 +1,12 @@
+package springboot.boilerplate.auth.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ResponseUserSearchDto {
+    private Long id;
+    // 소문자로 바꾼 이메일
+    private String email;
+}
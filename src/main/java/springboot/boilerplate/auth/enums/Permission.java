@@ -0,0 +1,31 @@
+package springboot.boilerplate.auth.enums;
+
+/**
+ * 세부 권한
+ *
+ * 비트 위치는 JWT 클레임과 TB_USER.authorities 에 저장되므로 한 번 정한 값은 바꾸지 않음
+ * (역할은 0~15번, 세부 권한은 16번 이후 비트 사용)
+ */
+public enum Permission {
+    // 내 정보 조회/수정
+    PROFILE_READ(0),
+    PROFILE_WRITE(1),
+    // 다른 사용자 조회 (관리자 검색)
+    USER_READ_ALL(2),
+    // 토큰 일괄 검증
+    TOKEN_INTROSPECT(3),
+    // 운영 지표 조회
+    METRICS_READ(4);
+
+    private static final int OFFSET = 16;
+
+    private final long mask;
+
+    Permission(int bit) {
+        this.mask = 1L << (OFFSET + bit);
+    }
+
+    public long mask() {
+        return mask;
+    }
+}
@@ -1,6 +1,38 @@
 package springboot.boilerplate.auth.enums;
 
+/**
+ * 역할
+ *
+ * 각 역할은 고유 비트(0~15번)와 기본 세부 권한을 가지며, 비트 위치는 한 번 정한 값을 바꾸지 않음
+ */
 public enum Role {
-    ADMIN,
-    USER
+    ADMIN(1, Permission.PROFILE_READ, Permission.PROFILE_WRITE, Permission.USER_READ_ALL,
+            Permission.TOKEN_INTROSPECT, Permission.METRICS_READ),
+    USER(0, Permission.PROFILE_READ, Permission.PROFILE_WRITE);
+
+    private final long mask;
+    private final long defaultAuthorities;
+
+    Role(int bit, Permission... permissions) {
+        this.mask = 1L << bit;
+        long authorities = mask;
+        for (Permission permission : permissions) {
+            authorities |= permission.mask();
+        }
+        this.defaultAuthorities = authorities;
+    }
+
+    /**
+     * 역할 비트
+     */
+    public long mask() {
+        return mask;
+    }
+
+    /**
+     * 역할 비트 + 기본 세부 권한 비트
+     */
+    public long defaultAuthorities() {
+        return defaultAuthorities;
+    }
 }
@@ -0,0 +1,21 @@
+package springboot.boilerplate.auth.event;
+
+/**
+ * 로그인 시도 결과
+ *
+ * @param userId 사용자 ID (존재하지 않는 이메일로 실패한 경우 null)
+ * @param email 로그인 요청 이메일
+ * @param success 로그인 성공 여부
+ * @param occurredAtMillis 발생 시각 (epoch 밀리초)
+ * @param publishedNanos 발행 시각 (System.nanoTime, 반영 지연 측정용)
+ */
+public record LoginEvent(Long userId, String email, boolean success, long occurredAtMillis, long publishedNanos) {
+
+    public static LoginEvent success(Long userId, String email) {
+        return new LoginEvent(userId, email, true, System.currentTimeMillis(), System.nanoTime());
+    }
+
+    public static LoginEvent failure(Long userId, String email) {
+        return new LoginEvent(userId, email, false, System.currentTimeMillis(), System.nanoTime());
+    }
+}
@@ -0,0 +1,127 @@
+package springboot.boilerplate.auth.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import springboot.boilerplate.auth.repository.LoginEventWriter;
+import springboot.boilerplate.global.common.BatchingConsumer;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 링 버퍼 기반 로그인 이벤트 파이프라인
+ *
+ * 로그인 스레드는 BatchingConsumer 에 이벤트를 넣고 바로 반환하며, 전용 스레드가 batchSize 개가 모이거나
+ * 배치의 첫 이벤트를 꺼낸 뒤 maxDelayMs 가 지나면 LoginEventWriter 로 한 번에 저장
+ * 버퍼가 가득 차면 overflow 설정에 따라 버리거나(DROP), 대기하거나(BLOCK), 호출 스레드에서 저장(CALLER_RUNS)
+ * 종료 시 남은 이벤트를 모두 저장한 뒤 멈춤
+ */
+@Slf4j
+public class LoginEventPipeline implements LoginEventPublisher, Closeable {
+
+    private final LoginEventWriter writer;
+    private final LoginEventProperties.Overflow overflow;
+    private final BatchingConsumer<LoginEvent> consumer;
+
+    private final Counter published;
+    private final Counter dropped;
+    private final Counter failed;
+    private final DistributionSummary batchSizes;
+    private final Timer lag;
+    private final Timer writeLatency;
+
+    public LoginEventPipeline(LoginEventWriter writer, int bufferSize, int batchSize, long maxDelayMillis,
+                              LoginEventProperties.Overflow overflow, MeterRegistry meterRegistry) {
+        this.writer = writer;
+        this.overflow = overflow;
+
+        this.published = Counter.builder("login.events.published")
+                .description("Login events accepted into the ring buffer")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("login.events.dropped")
+                .description("Login events discarded because the ring buffer was full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("login.events.failed")
+                .description("Login events lost because the batch write failed")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("login.events.batch.size")
+                .description("Login events written per batch")
+                .register(meterRegistry);
+        this.lag = Timer.builder("login.events.lag")
+                .description("Age of the oldest event in a batch when it is written")
+                .register(meterRegistry);
+        this.writeLatency = Timer.builder("login.events.write")
+                .description("Time spent writing one batch of login events")
+                .register(meterRegistry);
+
+        this.consumer = new BatchingConsumer<>("login-event-writer", bufferSize, batchSize,
+                TimeUnit.MILLISECONDS.toNanos(maxDelayMillis), this::flush);
+        Gauge.builder("login.events.pending", consumer, BatchingConsumer::size)
+                .description("Login events waiting in the ring buffer")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(LoginEvent event) {
+        if (consumer.offer(event)) {
+            published.increment();
+            return;
+        }
+        if (!consumer.isRunning()) {
+            // 종료 이후의 이벤트는 바로 저장
+            write(List.of(event));
+            return;
+        }
+        switch (overflow) {
+            case DROP -> dropped.increment();
+            case CALLER_RUNS -> {
+                published.increment();
+                write(List.of(event));
+            }
+            case BLOCK -> {
+                published.increment();
+                if (!consumer.put(event)) {
+                    write(List.of(event));
+                }
+            }
+        }
+    }
+
+    /**
+     * 저장 대기 중인 이벤트 수
+     */
+    public int getPendingCount() {
+        return consumer.size();
+    }
+
+    /**
+     * 남은 이벤트를 모두 저장한 뒤 저장 스레드 종료
+     */
+    @Override
+    public void close() {
+        consumer.close();
+    }
+
+    private void flush(List<LoginEvent> batch) {
+        lag.record(System.nanoTime() - batch.get(0).publishedNanos(), TimeUnit.NANOSECONDS);
+        batchSizes.record(batch.size());
+        write(batch);
+    }
+
+    private void write(List<LoginEvent> events) {
+        long start = System.nanoTime();
+        try {
+            writer.write(events);
+        } catch (RuntimeException e) {
+            failed.increment(events.size());
+            log.error("Failed to write {} login events", events.size(), e);
+        } finally {
+            writeLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package springboot.boilerplate.auth.event;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 로그인 이벤트(이력, 마지막 로그인 시각) 기록 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "spring.login-events")
+public class LoginEventProperties {
+
+    // 비활성화 시 로그인 이벤트를 기록하지 않음
+    private boolean enabled = true;
+    // 링 버퍼 크기 (2의 거듭제곱으로 올림)
+    private int bufferSize = 8192;
+    // 한 번에 저장하는 최대 이벤트 수
+    private int batchSize = 256;
+    // 첫 이벤트 후 저장까지 최대 대기 시간 (밀리초)
+    private long maxDelayMs = 200;
+    // 버퍼가 가득 찼을 때의 처리 방식
+    private Overflow overflow = Overflow.DROP;
+
+    public enum Overflow {
+        // 이벤트를 버리고 dropped 지표만 증가 (로그인 지연 없음)
+        DROP,
+        // 자리가 날 때까지 호출 스레드가 대기
+        BLOCK,
+        // 호출 스레드에서 바로 저장
+        CALLER_RUNS
+    }
+}
@@ -0,0 +1,21 @@
+package springboot.boilerplate.auth.event;
+
+/**
+ * 로그인 이벤트 발행 (호출 스레드를 DB 쓰기로 막지 않음)
+ */
+public interface LoginEventPublisher {
+
+    // 이벤트를 기록하지 않는 발행기 (spring.login-events.enabled=false)
+    LoginEventPublisher NOOP = event -> {
+    };
+
+    void publish(LoginEvent event);
+
+    default void publishSuccess(Long userId, String email) {
+        publish(LoginEvent.success(userId, email));
+    }
+
+    default void publishFailure(Long userId, String email) {
+        publish(LoginEvent.failure(userId, email));
+    }
+}
@@ -0,0 +1,91 @@
+package springboot.boilerplate.auth.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import springboot.boilerplate.auth.event.LoginEvent;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로그인 이벤트 일괄 저장
+ *
+ * 이력은 여러 행을 한 번에 넣는 INSERT 로, 마지막 로그인 시각은 사용자별로 가장 늦은 성공 시각만 남겨 UPDATE
+ * JPA 를 거치지 않으므로 User 2차 캐시를 무효화하지 않음 (캐시된 User 의 lastLoginAt 은 캐시 TTL 만큼 늦을 수 있음)
+ */
+@Repository
+public class LoginEventWriter {
+
+    // 이메일 컬럼 길이 (TB_LOGIN_HISTORY.email)
+    private static final int EMAIL_LENGTH = 100;
+
+    private static final String INSERT_PREFIX = "insert into tb_login_history (user_id, email, success, logged_in_at) values ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?)";
+    private static final String UPDATE_LAST_LOGIN = "update tb_user set last_login_at = ? "
+            + "where user_id = ? and (last_login_at is null or last_login_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LoginEventWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 이벤트 저장 (한 트랜잭션)
+     *
+     * @param events 저장할 이벤트 (발생 순서)
+     */
+    @Transactional
+    public void write(List<LoginEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        insertHistory(events);
+        updateLastLogin(events);
+    }
+
+    private void insertHistory(List<LoginEvent> events) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + events.size() * (INSERT_ROW.length() + 2))
+                .append(INSERT_PREFIX);
+        Object[] args = new Object[events.size() * 4];
+        int i = 0;
+        for (LoginEvent event : events) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(INSERT_ROW);
+            args[i++] = event.userId();
+            args[i++] = truncate(event.email());
+            args[i++] = event.success();
+            args[i++] = new Timestamp(event.occurredAtMillis());
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    private void updateLastLogin(List<LoginEvent> events) {
+        // 같은 사용자의 여러 성공은 가장 늦은 시각 하나로 합침
+        Map<Long, Long> lastLogins = new HashMap<>();
+        for (LoginEvent event : events) {
+            if (event.success() && event.userId() != null) {
+                lastLogins.merge(event.userId(), event.occurredAtMillis(), Math::max);
+            }
+        }
+        if (lastLogins.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(lastLogins.size());
+        lastLogins.forEach((userId, millis) -> {
+            Timestamp timestamp = new Timestamp(millis);
+            args.add(new Object[]{timestamp, userId, timestamp});
+        });
+        jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN, args);
+    }
+
+    private static String truncate(String email) {
+        return email == null || email.length() <= EMAIL_LENGTH ? email : email.substring(0, EMAIL_LENGTH);
+    }
+}
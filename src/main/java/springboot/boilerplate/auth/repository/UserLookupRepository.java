@@ -0,0 +1,21 @@
+package springboot.boilerplate.auth.repository;
+
+import springboot.boilerplate.auth.dto.projection.UserAuthDto;
+import springboot.boilerplate.auth.dto.projection.UserProfileDto;
+
+import java.util.Optional;
+
+/**
+ * 2차 캐시(엔티티/자연 키 캐시)를 거치는 사용자 조회
+ *
+ * 쿼리 캐시와 달리 없는 사용자는 캐시하지 않으므로 다른 노드에서 가입한 사용자도 바로 조회되며,
+ * 캐시된 사용자의 변경은 리전 TTL(spring.jpa.cache.regions.user.ttl) 동안 다른 노드에 늦게 반영될 수 있음
+ */
+public interface UserLookupRepository {
+
+    // 인증 경로 전용 조회 (이메일 -> 자연 키 캐시 -> 엔티티 캐시)
+    Optional<UserAuthDto> findAuthByEmail(String email);
+
+    // 내 정보 조회 (JWT 클레임에 없는 컬럼만 사용, 엔티티 캐시)
+    Optional<UserProfileDto> findProfileById(Long id);
+}
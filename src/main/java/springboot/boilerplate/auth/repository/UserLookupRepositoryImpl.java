@@ -0,0 +1,38 @@
+package springboot.boilerplate.auth.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+import springboot.boilerplate.auth.domain.User;
+import springboot.boilerplate.auth.dto.projection.UserAuthDto;
+import springboot.boilerplate.auth.dto.projection.UserProfileDto;
+
+import java.util.Optional;
+
+/**
+ * UserLookupRepository 구현 (UserRepository 의 조각으로 조합됨)
+ *
+ * 읽기 전용 트랜잭션이므로 로딩한 엔티티는 변경 감지 대상이 아니며 Replica로 라우팅됨
+ */
+@Transactional(readOnly = true)
+class UserLookupRepositoryImpl implements UserLookupRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<UserAuthDto> findAuthByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email)
+                .map(user -> new UserAuthDto(user.getId(), user.getEmail(), user.getPassword(), user.getRole(),
+                        user.getAuthorities()));
+    }
+
+    @Override
+    public Optional<UserProfileDto> findProfileById(Long id) {
+        return Optional.ofNullable(entityManager.find(User.class, id))
+                .map(user -> new UserProfileDto(user.getId(), user.getCreatedDate(), user.getModifiedDate()));
+    }
+}
@@ -1,13 +1,33 @@
 package springboot.boilerplate.auth.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import springboot.boilerplate.auth.domain.User;
+import springboot.boilerplate.auth.dto.projection.UserEmailDto;
 
+import java.util.List;
 import java.util.Optional;
 
+/**
+ * 사용자 Repository
+ *
+ * 직접 선언한 조회 메서드는 SimpleJpaRepository 의 읽기 전용 트랜잭션을 물려받지 못하므로
+ * 인터페이스에 readOnly 트랜잭션을 선언하여 Replica로 라우팅되도록 함
+ * (save 등 상속한 쓰기 메서드는 SimpleJpaRepository 의 쓰기 트랜잭션을 그대로 사용)
+ */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+@Transactional(readOnly = true)
+public interface UserRepository extends JpaRepository<User, Long>, UserLookupRepository {
     Optional<User> findByEmail(String email);
+
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    // 이메일 검색 색인 적재용 id 순 스캔 (afterId 다음부터 limit 개, 엔티티를 로딩하지 않음)
+    @Query("select new springboot.boilerplate.auth.dto.projection.UserEmailDto(u.id, u.email) "
+            + "from User u where u.id > :afterId order by u.id")
+    List<UserEmailDto> findEmailsAfter(@Param("afterId") Long afterId, Limit limit);
+}
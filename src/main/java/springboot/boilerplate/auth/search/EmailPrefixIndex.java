@@ -0,0 +1,334 @@
+package springboot.boilerplate.auth.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 이메일 앞부분 검색용 메모리 색인
+ *
+ * 기동 시 전체 사용자로 만든 압축 정렬 배열(FrontCodedArray)과, 이후 가입한 사용자를 담는
+ * 작은 정렬 배열(delta)로 구성되며 delta 가 compactionThreshold 개가 되면 백그라운드에서 하나로 합침
+ * (가입 요청 스레드는 합치기를 기다리지 않음)
+ * 조회는 잠금 없이 현재 상태를 읽고, 추가/적재만 순서대로 처리
+ * 이메일은 소문자로 바꿔 저장하므로 검색은 대소문자를 구분하지 않음
+ */
+public class EmailPrefixIndex {
+
+    private static final Comparator<Entry> BY_EMAIL = Comparator.comparing(Entry::email);
+
+    private final int compactionThreshold;
+    private final Executor compactor;
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+    private final Object writeLock = new Object();
+    private volatile State state = new State(FrontCodedArray.EMPTY, new String[0], new long[0]);
+    private volatile boolean loaded;
+
+    public EmailPrefixIndex(int compactionThreshold) {
+        this(compactionThreshold, ForkJoinPool.commonPool());
+    }
+
+    EmailPrefixIndex(int compactionThreshold, Executor compactor) {
+        if (compactionThreshold <= 0) {
+            throw new IllegalArgumentException("compactionThreshold must be positive");
+        }
+        this.compactionThreshold = compactionThreshold;
+        this.compactor = compactor;
+    }
+
+    /**
+     * 색인 항목 (email 은 소문자)
+     */
+    public record Entry(long userId, String email) {
+    }
+
+    /**
+     * 검색 결과 한 페이지와 전체 일치 수
+     */
+    public record Result(List<Entry> entries, long total) {
+    }
+
+    /**
+     * 가입한 사용자 추가 (이미 색인된 이메일이면 무시)
+     */
+    public void add(long userId, String email) {
+        String key = normalize(email);
+        synchronized (writeLock) {
+            State current = state;
+            if (current.base.contains(key)) {
+                return;
+            }
+            int position = Arrays.binarySearch(current.deltaKeys, key);
+            if (position >= 0) {
+                return;
+            }
+            int insertAt = -(position + 1);
+            int length = current.deltaKeys.length;
+            String[] keys = new String[length + 1];
+            long[] ids = new long[length + 1];
+            System.arraycopy(current.deltaKeys, 0, keys, 0, insertAt);
+            System.arraycopy(current.deltaIds, 0, ids, 0, insertAt);
+            keys[insertAt] = key;
+            ids[insertAt] = userId;
+            System.arraycopy(current.deltaKeys, insertAt, keys, insertAt + 1, length - insertAt);
+            System.arraycopy(current.deltaIds, insertAt, ids, insertAt + 1, length - insertAt);
+            state = new State(current.base, keys, ids);
+        }
+        scheduleCompaction();
+    }
+
+    /**
+     * 전체 사용자로 색인 교체
+     *
+     * @param entries 전체 사용자 (순서 무관, 호출 후 배열 내용이 바뀜)
+     */
+    public void load(Entry[] entries) {
+        load(entries, entries.length);
+    }
+
+    /**
+     * 전체 사용자로 색인 교체
+     *
+     * 정렬은 여러 스레드로 나눠 수행하며, 적재 중에 추가된 사용자는 그대로 유지
+     * compact() 와 같이 잠금 밖에서 스냅샷 기준으로 합친 뒤, 잠금 안에서는 그동안 추가된 항목만 반영
+     *
+     * @param entries 전체 사용자 (앞의 size 개만 사용, 순서 무관, 호출 후 배열 내용이 바뀜)
+     * @param size 사용할 항목 수
+     */
+    public void load(Entry[] entries, int size) {
+        for (int i = 0; i < size; i++) {
+            entries[i] = new Entry(entries[i].userId(), normalize(entries[i].email()));
+        }
+        Arrays.parallelSort(entries, 0, size, BY_EMAIL);
+
+        FrontCodedArray.Builder builder = new FrontCodedArray.Builder(size);
+        String previous = null;
+        for (int i = 0; i < size; i++) {
+            Entry entry = entries[i];
+            if (!entry.email().equals(previous)) {
+                builder.add(entry.email(), entry.userId());
+                previous = entry.email();
+            }
+        }
+        FrontCodedArray base = builder.build();
+
+        while (true) {
+            // 적재 전에 추가된 사용자 중 스캔에 없던 사용자만 남김 (이미 합쳐진 항목 포함)
+            State snapshot = state;
+            FrontCodedArray added = merge(snapshot.base, snapshot.deltaKeys, snapshot.deltaIds);
+            List<String> keys = new ArrayList<>();
+            List<Long> ids = new ArrayList<>();
+            for (FrontCodedArray.Cursor cursor = added.cursor(0); cursor.index() < added.size(); cursor.next()) {
+                String key = cursor.key();
+                if (!base.contains(key)) {
+                    keys.add(key);
+                    ids.add(cursor.id());
+                }
+            }
+            String[] keptKeys = keys.toArray(String[]::new);
+            long[] keptIds = ids.stream().mapToLong(Long::longValue).toArray();
+
+            synchronized (writeLock) {
+                State current = state;
+                // 합치는 동안 합치기나 다른 적재로 교체되었으면 새 스냅샷으로 다시 계산
+                if (current.base == snapshot.base) {
+                    state = appendAddedSince(base, keptKeys, keptIds, snapshot, current);
+                    loaded = true;
+                    break;
+                }
+            }
+        }
+        scheduleCompaction();
+    }
+
+    /**
+     * 스냅샷 이후 delta 에 추가된 항목 중 새 base 에 없는 항목을 keptKeys 에 정렬 순서로 합친 상태
+     * (스냅샷 이후에는 delta 에 추가만 일어나고, 추가된 항목은 스냅샷의 어느 배열에도 없음)
+     */
+    private static State appendAddedSince(FrontCodedArray base, String[] keptKeys, long[] keptIds,
+                                          State snapshot, State current) {
+        int capacity = keptKeys.length + current.deltaKeys.length - snapshot.deltaKeys.length;
+        String[] keys = new String[capacity];
+        long[] ids = new long[capacity];
+        int k = 0;
+        int j = 0;
+        for (int i = 0; i < current.deltaKeys.length; i++) {
+            String key = current.deltaKeys[i];
+            if (Arrays.binarySearch(snapshot.deltaKeys, key) >= 0 || base.contains(key)) {
+                continue;
+            }
+            while (k < keptKeys.length && keptKeys[k].compareTo(key) < 0) {
+                keys[j] = keptKeys[k];
+                ids[j++] = keptIds[k++];
+            }
+            keys[j] = key;
+            ids[j++] = current.deltaIds[i];
+        }
+        while (k < keptKeys.length) {
+            keys[j] = keptKeys[k];
+            ids[j++] = keptIds[k++];
+        }
+        return new State(base, Arrays.copyOf(keys, j), Arrays.copyOf(ids, j));
+    }
+
+    /**
+     * 이메일이 prefix 로 시작하는 사용자를 이메일 순으로 조회
+     *
+     * @param prefix 이메일 앞부분 (대소문자 무관)
+     * @param offset 건너뛸 항목 수
+     * @param limit 최대 항목 수
+     * @return 요청한 범위의 항목과 전체 일치 수
+     */
+    public Result search(String prefix, long offset, int limit) {
+        String from = normalize(prefix);
+        String to = from + Character.MAX_VALUE;
+        State current = state;
+        FrontCodedArray base = current.base;
+        String[] deltaKeys = current.deltaKeys;
+
+        int baseFrom = base.lowerBound(from);
+        int baseTo = base.lowerBound(to);
+        int deltaFrom = lowerBound(deltaKeys, from);
+        int deltaTo = lowerBound(deltaKeys, to);
+        long total = (long) (baseTo - baseFrom) + (deltaTo - deltaFrom);
+        if (offset >= total || limit <= 0) {
+            return new Result(List.of(), total);
+        }
+
+        // offset 만큼 건너뛰기 (delta 항목 사이의 base 구간은 위치 계산으로 건너뜀)
+        int b = baseFrom;
+        int d = deltaFrom;
+        long skip = offset;
+        while (skip > 0) {
+            if (d < deltaTo) {
+                int before = base.lowerBound(deltaKeys[d]) - b;
+                if (before >= skip) {
+                    b += (int) skip;
+                    skip = 0;
+                } else {
+                    b += before;
+                    skip -= before + 1;
+                    d++;
+                }
+            } else {
+                b += (int) skip;
+                skip = 0;
+            }
+        }
+
+        // 두 정렬 배열을 병합하며 limit 개 수집
+        List<Entry> entries = new ArrayList<>((int) Math.min(limit, total - offset));
+        FrontCodedArray.Cursor cursor = base.cursor(b);
+        while (entries.size() < limit && (b < baseTo || d < deltaTo)) {
+            if (d < deltaTo && (b >= baseTo || cursor.compareTo(deltaKeys[d]) > 0)) {
+                entries.add(new Entry(current.deltaIds[d], deltaKeys[d]));
+                d++;
+            } else {
+                entries.add(new Entry(cursor.id(), cursor.key()));
+                cursor.next();
+                b++;
+            }
+        }
+        return new Result(entries, total);
+    }
+
+    /**
+     * 색인된 사용자 수
+     */
+    public int size() {
+        State current = state;
+        return current.base.size() + current.deltaKeys.length;
+    }
+
+    /**
+     * 대략적인 색인 메모리 (바이트)
+     */
+    public long getMemoryBytes() {
+        State current = state;
+        long bytes = current.base.memoryBytes() + (long) current.deltaIds.length * Long.BYTES;
+        for (String key : current.deltaKeys) {
+            bytes += key.length() + 40L;
+        }
+        return bytes;
+    }
+
+    /**
+     * 기동 시 전체 적재가 끝났는지 여부
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    private void scheduleCompaction() {
+        if (state.deltaKeys.length >= compactionThreshold && compactionScheduled.compareAndSet(false, true)) {
+            compactor.execute(this::compact);
+        }
+    }
+
+    /**
+     * delta 를 압축 배열에 합침 (잠금 밖에서 합친 뒤, 그동안 추가된 항목만 delta 에 남겨 교체)
+     */
+    private void compact() {
+        try {
+            State snapshot = state;
+            FrontCodedArray merged = merge(snapshot.base, snapshot.deltaKeys, snapshot.deltaIds);
+            synchronized (writeLock) {
+                State current = state;
+                // 합치는 동안 적재로 교체되었으면 버림
+                if (current.base != snapshot.base) {
+                    return;
+                }
+                // 합치는 동안에는 delta 에 추가만 일어나므로 스냅샷의 항목은 모두 현재 delta 에 있음
+                int remaining = current.deltaKeys.length - snapshot.deltaKeys.length;
+                String[] keys = new String[remaining];
+                long[] ids = new long[remaining];
+                int j = 0;
+                for (int i = 0; i < current.deltaKeys.length; i++) {
+                    if (Arrays.binarySearch(snapshot.deltaKeys, current.deltaKeys[i]) < 0) {
+                        keys[j] = current.deltaKeys[i];
+                        ids[j] = current.deltaIds[i];
+                        j++;
+                    }
+                }
+                state = new State(merged, keys, ids);
+            }
+        } finally {
+            compactionScheduled.set(false);
+        }
+        // 합치는 동안 다시 쌓였으면 이어서 합침
+        scheduleCompaction();
+    }
+
+    static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static FrontCodedArray merge(FrontCodedArray base, String[] deltaKeys, long[] deltaIds) {
+        FrontCodedArray.Builder builder = new FrontCodedArray.Builder(base.size() + deltaKeys.length);
+        FrontCodedArray.Cursor cursor = base.cursor(0);
+        int d = 0;
+        while (cursor.index() < base.size() || d < deltaKeys.length) {
+            if (d < deltaKeys.length && (cursor.index() >= base.size() || cursor.compareTo(deltaKeys[d]) > 0)) {
+                builder.add(deltaKeys[d], deltaIds[d]);
+                d++;
+            } else {
+                builder.add(cursor.key(), cursor.id());
+                cursor.next();
+            }
+        }
+        return builder.build();
+    }
+
+    private static int lowerBound(String[] keys, String key) {
+        int position = Arrays.binarySearch(keys, key);
+        return position >= 0 ? position : -(position + 1);
+    }
+
+    private record State(FrontCodedArray base, String[] deltaKeys, long[] deltaIds) {
+    }
+}
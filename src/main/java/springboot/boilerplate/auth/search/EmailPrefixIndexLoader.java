@@ -0,0 +1,75 @@
+package springboot.boilerplate.auth.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+import springboot.boilerplate.auth.dto.projection.UserEmailDto;
+import springboot.boilerplate.auth.repository.UserRepository;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시 이메일 검색 색인 적재
+ *
+ * 사용자 테이블을 id 순으로 scanBatchSize 개씩 읽어(keyset) 배열에 바로 모은 뒤 색인에서 병렬 정렬
+ * (압축 배열은 이메일 순으로만 만들 수 있어 id 순 스캔을 바로 넣지 않음)
+ * ApplicationRunner 로 실행되므로 적재가 끝날 때까지 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌지 않음
+ * 적재에 실패해도 기동은 계속하며, 이 경우 이후 가입한 사용자만 검색됨
+ */
+@Slf4j
+public class EmailPrefixIndexLoader implements ApplicationRunner {
+
+    private final UserRepository userRepository;
+    private final EmailPrefixIndex emailPrefixIndex;
+    private final int scanBatchSize;
+
+    public EmailPrefixIndexLoader(UserRepository userRepository, EmailPrefixIndex emailPrefixIndex,
+                                  int scanBatchSize) {
+        if (scanBatchSize <= 0) {
+            throw new IllegalArgumentException("scanBatchSize must be positive");
+        }
+        this.userRepository = userRepository;
+        this.emailPrefixIndex = emailPrefixIndex;
+        this.scanBatchSize = scanBatchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        try {
+            load();
+        } catch (RuntimeException e) {
+            log.error("Failed to load the email search index", e);
+            return;
+        }
+        log.info("Email search index loaded: {} users, ~{} KB in {} ms", emailPrefixIndex.size(),
+                emailPrefixIndex.getMemoryBytes() / 1024, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * 전체 사용자를 읽어 색인 교체
+     */
+    public void load() {
+        EmailPrefixIndex.Entry[] entries = new EmailPrefixIndex.Entry[scanBatchSize];
+        int size = 0;
+        long afterId = 0L;
+        List<UserEmailDto> batch;
+        do {
+            batch = userRepository.findEmailsAfter(afterId, Limit.of(scanBatchSize));
+            if (size + batch.size() > entries.length) {
+                entries = Arrays.copyOf(entries, Math.max(entries.length * 2, size + batch.size()));
+            }
+            for (UserEmailDto user : batch) {
+                entries[size++] = new EmailPrefixIndex.Entry(user.id(), user.email());
+            }
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).id();
+            }
+        } while (batch.size() == scanBatchSize);
+
+        emailPrefixIndex.load(entries, size);
+    }
+}
@@ -0,0 +1,118 @@
+package springboot.boilerplate.auth.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.Nullable;
+import springboot.boilerplate.global.redis.RedisService;
+import springboot.boilerplate.global.resilience.DependencyGuard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노드 간 이메일 검색 색인 동기화
+ *
+ * 가입은 이 노드의 색인에 바로 추가한 뒤 Pub/Sub 으로 모든 노드에 전파하고,
+ * 구독 재연결 시와 reloadIntervalMs 마다 전체 사용자를 다시 적재하여 누락된 알림을 보정
+ * (기동 시 적재를 하지 않는 설정이면 다시 적재하지 않음)
+ * Redis 호출은 redisGuard 로 보호되며, Redis 장애 중의 가입은 이 노드에만 우선 반영
+ */
+@Slf4j
+public class EmailPrefixIndexSync implements MessageListener, SubscriptionListener, InitializingBean, DisposableBean {
+
+    private final EmailPrefixIndex index;
+    @Nullable
+    private final EmailPrefixIndexLoader loader;
+    private final RedisService redisService;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final DependencyGuard redisGuard;
+    private final long reloadIntervalMs;
+    private ScheduledExecutorService scheduler;
+
+    public EmailPrefixIndexSync(EmailPrefixIndex index, @Nullable EmailPrefixIndexLoader loader,
+                                RedisService redisService, RedisMessageListenerContainer listenerContainer,
+                                DependencyGuard redisGuard, long reloadIntervalMs) {
+        this.index = index;
+        this.loader = loader;
+        this.redisService = redisService;
+        this.listenerContainer = listenerContainer;
+        this.redisGuard = redisGuard;
+        this.reloadIntervalMs = reloadIntervalMs;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "email-index-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (loader != null && reloadIntervalMs > 0) {
+            scheduler.scheduleWithFixedDelay(this::reload, reloadIntervalMs, reloadIntervalMs, TimeUnit.MILLISECONDS);
+        }
+        listenerContainer.addMessageListener(this, ChannelTopic.of(RedisService.USER_SIGNUP_CHANNEL));
+    }
+
+    @Override
+    public void destroy() {
+        listenerContainer.removeMessageListener(this);
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 가입한 사용자를 색인에 추가하고 다른 노드에 알림
+     */
+    public void add(Long userId, String email) {
+        index.add(userId, email);
+        try {
+            redisGuard.run(() -> redisService.publishUserSignup(userId, email));
+        } catch (RuntimeException e) {
+            // 다른 노드에는 다음 적재 때 반영되므로 경고로 남김
+            log.warn("[EmailIndex] 가입 알림 실패, 이 노드에만 반영: {} ({})", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 가입 알림 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator <= 0) {
+            log.warn("[EmailIndex] 잘못된 알림 형식: {}", body);
+            return;
+        }
+        try {
+            index.add(Long.parseLong(body.substring(0, separator)), body.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            log.warn("[EmailIndex] 잘못된 알림 형식: {}", body);
+        }
+    }
+
+    /**
+     * 구독 재연결 시 끊긴 동안 누락된 가입을 보정 (기동 시 적재 전의 첫 구독은 제외)
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        if (loader != null && index.isLoaded()) {
+            scheduler.execute(this::reload);
+        }
+    }
+
+    private void reload() {
+        try {
+            loader.load();
+        } catch (RuntimeException e) {
+            log.warn("[EmailIndex] 색인 재적재 실패: {}", e.getMessage());
+        }
+    }
+}
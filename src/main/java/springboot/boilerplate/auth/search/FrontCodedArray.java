@@ -0,0 +1,244 @@
+package springboot.boilerplate.auth.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 정렬된 문자열 배열의 앞부분 공유 압축(front coding) 표현
+ *
+ * BLOCK_SIZE 개씩 묶어 블록의 첫 문자열만 그대로 두고, 나머지는 바로 앞 문자열과 겹치는
+ * 길이와 다른 부분만 하나의 char 배열에 저장
+ * 블록 첫 문자열로 이진 탐색한 뒤 블록 안에서 순서대로 풀어 비교하며, 생성 후에는 변경하지 않음
+ */
+final class FrontCodedArray {
+
+    static final int BLOCK_SIZE = 16;
+
+    static final FrontCodedArray EMPTY = new Builder(0).build();
+
+    private final int size;
+    // 블록별 첫 문자열
+    private final String[] heads;
+    // 블록별 두 번째 항목의 data 시작 위치
+    private final int[] blockOffsets;
+    // 항목마다 [겹치는 길이, 다른 부분 길이, 다른 부분...]
+    private final char[] data;
+    private final long[] ids;
+
+    private FrontCodedArray(int size, String[] heads, int[] blockOffsets, char[] data, long[] ids) {
+        this.size = size;
+        this.heads = heads;
+        this.blockOffsets = blockOffsets;
+        this.data = data;
+        this.ids = ids;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * key 이상인 첫 항목의 위치 (없으면 size)
+     */
+    int lowerBound(String key) {
+        // head 가 key 보다 작은 마지막 블록
+        int low = 0;
+        int high = heads.length - 1;
+        int block = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (heads[mid].compareTo(key) < 0) {
+                block = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (block < 0) {
+            return 0;
+        }
+
+        int end = Math.min(size, (block + 1) * BLOCK_SIZE);
+        Cursor cursor = cursor(block * BLOCK_SIZE);
+        while (cursor.index() < end && cursor.compareTo(key) < 0) {
+            cursor.next();
+        }
+        return cursor.index();
+    }
+
+    boolean contains(String key) {
+        int index = lowerBound(key);
+        return index < size && cursor(index).compareTo(key) == 0;
+    }
+
+    /**
+     * index 위치부터 순서대로 읽는 커서
+     */
+    Cursor cursor(int index) {
+        return new Cursor(index);
+    }
+
+    /**
+     * 대략적인 점유 메모리 (바이트)
+     */
+    long memoryBytes() {
+        long bytes = (long) data.length * Character.BYTES + (long) ids.length * Long.BYTES
+                + (long) blockOffsets.length * Integer.BYTES;
+        for (String head : heads) {
+            bytes += head.length() + 40L;
+        }
+        return bytes;
+    }
+
+    final class Cursor {
+
+        private int index;
+        private char[] buffer = new char[64];
+        private int length;
+        private int offset;
+
+        private Cursor(int index) {
+            this.index = index;
+            if (index >= size) {
+                return;
+            }
+            int block = index / BLOCK_SIZE;
+            loadHead(block);
+            for (int i = block * BLOCK_SIZE; i < index; i++) {
+                decodeNext();
+            }
+        }
+
+        int index() {
+            return index;
+        }
+
+        long id() {
+            return ids[index];
+        }
+
+        String key() {
+            return new String(buffer, 0, length);
+        }
+
+        void next() {
+            index++;
+            if (index >= size) {
+                return;
+            }
+            if (index % BLOCK_SIZE == 0) {
+                loadHead(index / BLOCK_SIZE);
+            } else {
+                decodeNext();
+            }
+        }
+
+        /**
+         * 현재 항목과 key 비교 (String.compareTo 와 같은 순서, 문자열을 만들지 않음)
+         */
+        int compareTo(String key) {
+            int limit = Math.min(length, key.length());
+            for (int i = 0; i < limit; i++) {
+                char c = buffer[i];
+                char k = key.charAt(i);
+                if (c != k) {
+                    return c - k;
+                }
+            }
+            return length - key.length();
+        }
+
+        private void loadHead(int block) {
+            String head = heads[block];
+            ensureCapacity(head.length());
+            head.getChars(0, head.length(), buffer, 0);
+            length = head.length();
+            offset = blockOffsets[block];
+        }
+
+        private void decodeNext() {
+            int shared = data[offset];
+            int suffixLength = data[offset + 1];
+            ensureCapacity(shared + suffixLength);
+            System.arraycopy(data, offset + 2, buffer, shared, suffixLength);
+            length = shared + suffixLength;
+            offset += 2 + suffixLength;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (buffer.length < capacity) {
+                buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+            }
+        }
+    }
+
+    /**
+     * 오름차순으로 추가된 항목으로 배열 생성 (같은 키를 두 번 추가할 수 없음)
+     */
+    static final class Builder {
+
+        private final List<String> heads = new ArrayList<>();
+        private int[] blockOffsets;
+        private char[] data;
+        private int dataLength;
+        private long[] ids;
+        private int size;
+        private String previous;
+
+        Builder(int expectedSize) {
+            this.blockOffsets = new int[Math.max(1, expectedSize / BLOCK_SIZE + 1)];
+            this.data = new char[Math.max(16, expectedSize * 8)];
+            this.ids = new long[Math.max(1, expectedSize)];
+        }
+
+        void add(String key, long id) {
+            if (previous != null && previous.compareTo(key) >= 0) {
+                throw new IllegalArgumentException("Keys must be added in strictly ascending order");
+            }
+            if (key.length() > Character.MAX_VALUE) {
+                throw new IllegalArgumentException("Key is too long");
+            }
+
+            if (size % BLOCK_SIZE == 0) {
+                int block = heads.size();
+                if (block == blockOffsets.length) {
+                    blockOffsets = Arrays.copyOf(blockOffsets, block * 2);
+                }
+                heads.add(key);
+                blockOffsets[block] = dataLength;
+            } else {
+                int shared = sharedPrefixLength(previous, key);
+                int suffixLength = key.length() - shared;
+                if (dataLength + 2 + suffixLength > data.length) {
+                    data = Arrays.copyOf(data, Math.max(dataLength + 2 + suffixLength, data.length * 2));
+                }
+                data[dataLength++] = (char) shared;
+                data[dataLength++] = (char) suffixLength;
+                key.getChars(shared, key.length(), data, dataLength);
+                dataLength += suffixLength;
+            }
+
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+            previous = key;
+        }
+
+        FrontCodedArray build() {
+            return new FrontCodedArray(size, heads.toArray(String[]::new),
+                    Arrays.copyOf(blockOffsets, heads.size()), Arrays.copyOf(data, dataLength),
+                    Arrays.copyOf(ids, size));
+        }
+
+        private static int sharedPrefixLength(String a, String b) {
+            int limit = Math.min(a.length(), b.length());
+            int i = 0;
+            while (i < limit && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
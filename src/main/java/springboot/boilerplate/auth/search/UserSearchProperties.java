@@ -0,0 +1,25 @@
+package springboot.boilerplate.auth.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 관리자 이메일 검색 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "spring.user-search")
+public class UserSearchProperties {
+
+    // 기동 시 색인 적재 여부 (false 이면 이후 가입한 사용자만 검색됨)
+    private boolean loadOnStartup = true;
+    // 기동 시 전체 스캔에서 한 번에 읽는 사용자 수 (id 순 keyset 조회)
+    private int scanBatchSize = 5000;
+    // 다른 노드의 가입 알림 누락을 보정하기 위한 전체 재적재 주기 (밀리초, 0이면 재연결 시에만)
+    private long reloadIntervalMs = 3_600_000;
+    // 가입으로 쌓인 항목이 이 수가 되면 압축 배열에 합침
+    private int compactionThreshold = 4096;
+    // 한 페이지의 최대 항목 수
+    private int maxPageSize = 100;
+}
@@ -1,21 +1,34 @@
 package springboot.boilerplate.auth.service;
 
-import jakarta.transaction.Transactional;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import springboot.boilerplate.auth.domain.User;
+import springboot.boilerplate.auth.dto.projection.UserAuthDto;
 import springboot.boilerplate.auth.dto.request.RequestTokenReissueDto;
 import springboot.boilerplate.auth.dto.request.RequestUserLoginDto;
 import springboot.boilerplate.auth.dto.request.RequestUserSaveDto;
 import springboot.boilerplate.auth.dto.response.TokenDto;
 import springboot.boilerplate.auth.dto.response.ResponseUserSaveDto;
 import springboot.boilerplate.auth.enums.Role;
+import springboot.boilerplate.auth.event.LoginEventPublisher;
 import springboot.boilerplate.auth.repository.UserRepository;
+import springboot.boilerplate.auth.search.EmailPrefixIndexSync;
+import springboot.boilerplate.global.common.SingleFlight;
+import springboot.boilerplate.global.datasource.ReadYourWritesWindow;
 import springboot.boilerplate.global.exception.CustomException;
 import springboot.boilerplate.global.exception.ErrorCode;
-import springboot.boilerplate.global.redis.RedisService;
+import springboot.boilerplate.global.security.AccessTokenRevocationList;
+import springboot.boilerplate.global.security.Authorities;
+import springboot.boilerplate.global.security.JwtClaims;
 import springboot.boilerplate.global.security.JwtUtil;
+import springboot.boilerplate.global.security.TokenIssuer;
+import springboot.boilerplate.global.token.RefreshTokenStore;
 
 @Service
 @RequiredArgsConstructor
@@ -24,30 +37,60 @@ public class AuthService {
     private final UserRepository userRepository;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
     private final JwtUtil jwtUtil;
-    private final RedisService redisService;
+    private final RefreshTokenStore refreshTokenStore;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final AccessTokenRevocationList accessTokenRevocationList;
+    private final TokenIssuer tokenIssuer;
+    private final LoginEventPublisher loginEventPublisher;
+    private final EmailPrefixIndexSync emailPrefixIndexSync;
+
+    // 동시에 진행 중인 재발급 키 상한 (초과 시 합치지 않고 바로 처리)
+    private static final int REISSUE_MAX_IN_FLIGHT = 10_000;
+
+    // 재발급 요청 합치기 (요청의 사용자 ID 검증 결과가 달라질 수 있으므로 키에 포함)
+    private final SingleFlight<ReissueKey, TokenDto> reissueFlights = new SingleFlight<>(REISSUE_MAX_IN_FLIGHT);
+
+    private record ReissueKey(String refreshToken, Long userId) {
+    }
 
     /**
      * 회원가입
+     *
+     * 비밀번호 해시는 CPU 허가를 기다릴 수 있으므로 트랜잭션(DB 커넥션) 밖에서 먼저 계산하고,
+     * 커넥션은 insert 하는 동안만 사용 (저장은 Repository 의 쓰기 트랜잭션으로 실행)
      * 
      * @param dto 회원가입 요청 DTO
      * @return 회원가입된 사용자 정보
      * @throws CustomException 이메일이 이미 존재하는 경우
      */
-    @Transactional
     public ResponseUserSaveDto save(RequestUserSaveDto dto) {
-        // 이메일 중복 검사
+        // 이메일 중복 검사 (동시 가입은 아래 unique 제약 위반으로 확인)
         if (userRepository.existsByEmail(dto.getEmail())) {
             throw new CustomException(ErrorCode.EMAIL_ALREADY_EXISTS);
         }
-        
+
         // 비밀번호 암호화 후 사용자 생성
         User user = User.builder()
                 .email(dto.getEmail())
                 .password(bCryptPasswordEncoder.encode(dto.getPassword()))
                 .role(Role.USER)
+                .authorities(Role.USER.defaultAuthorities())
                 .build();
 
-        userRepository.save(user);
+        try {
+            userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomException(ErrorCode.EMAIL_ALREADY_EXISTS);
+        }
+
+        // 가입 직후 조회는 Replica 복제 지연을 피해 Primary에서 수행
+        readYourWritesWindow.markWritten(user.getId());
+        readYourWritesWindow.markWritten(user.getEmail());
+
+        // 관리자 이메일 검색 색인에는 커밋된 가입만 추가 (다른 노드에도 전파)
+        Long userId = user.getId();
+        String email = user.getEmail();
+        afterCommit(() -> emailPrefixIndexSync.add(userId, email));
 
         return new ResponseUserSaveDto(user.getId(), user.getEmail(), user.getRole().name());
     }
@@ -61,55 +104,112 @@ public class AuthService {
      */
     public TokenDto login(RequestUserLoginDto dto) {
         // 사용자 조회
-        User user = userRepository.findByEmail(dto.getEmail())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        UserAuthDto user = readYourWritesWindow.read(dto.getEmail(), () -> userRepository.findAuthByEmail(dto.getEmail()))
+                .orElse(null);
+        if (user == null) {
+            loginEventPublisher.publishFailure(null, dto.getEmail());
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
 
         // 비밀번호 검증
-        if (!bCryptPasswordEncoder.matches(dto.getPassword(), user.getPassword())) {
+        if (!bCryptPasswordEncoder.matches(dto.getPassword(), user.password())) {
+            loginEventPublisher.publishFailure(user.id(), user.email());
             throw new CustomException(ErrorCode.INVALID_CREDENTIALS);
         }
 
-        // 토큰 생성
-        String accessToken = jwtUtil.createAccessToken(user.getEmail(), user.getRole().name());
-        String refreshToken = jwtUtil.createRefreshToken(user.getEmail(), user.getRole().name());
-        TokenDto tokenDto = TokenDto.of(accessToken, refreshToken);
-
-        // 기존 Refresh Token 삭제 후 새로 저장
-        redisService.deleteRefreshToken(user.getId());
-        redisService.saveRefreshToken(
-                user.getId(), 
-                tokenDto.getRefreshToken(), 
-                jwtUtil.getRefreshTokenExpirationMillis()
-        );
-
+        // 토큰 생성 및 Refresh Token 저장
+        TokenDto tokenDto = tokenIssuer.issue(user.id(), user.email(), user.role().name(),
+                Authorities.effective(user.role(), user.authorities()));
+        // 이력/마지막 로그인 시각은 비동기로 일괄 저장
+        loginEventPublisher.publishSuccess(user.id(), user.email());
         return tokenDto;
     }
 
     /**
      * Access Token 재발급
      * 
+     * 사용자 ID, 이메일, 역할은 서명이 검증된 Refresh Token 클레임에서 가져오고
+     * 폐기 여부는 저장된 Refresh Token과의 비교로만 확인 (DB 조회 없음)
+     * 같은 Refresh Token으로 동시에 들어온 요청은 하나로 합쳐 같은 Access Token을 받음
+     * 
      * @param dto 토큰 재발급 요청 DTO
      * @return 새로운 Access Token과 기존 Refresh Token을 포함한 TokenDto
      * @throws CustomException 토큰이 만료되었거나 유효하지 않은 경우
      */
     public TokenDto reissueAccessToken(RequestTokenReissueDto dto) {
-        // Refresh Token 만료 검증
-        if (jwtUtil.isExpired(dto.getRefreshToken())) {
+        return reissueFlights.execute(new ReissueKey(dto.getRefreshToken(), dto.getUserId()), () -> reissue(dto));
+    }
+
+    /**
+     * 동시에 합쳐진 재발급 요청 수
+     */
+    public long getCoalescedReissueCount() {
+        return reissueFlights.getCoalescedCount();
+    }
+
+    private TokenDto reissue(RequestTokenReissueDto dto) {
+        // Refresh Token 서명/만료 검증 및 클레임 추출
+        JwtClaims claims;
+        try {
+            claims = jwtUtil.parseToken(dto.getRefreshToken());
+        } catch (ExpiredJwtException e) {
             throw new CustomException(ErrorCode.TOKEN_EXPIRED);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.TOKEN_INVALID);
         }
 
-        // Redis에 저장된 Refresh Token과 비교
-        String storedToken = redisService.getRefreshToken(dto.getUserId());
-        if (storedToken == null || !storedToken.equals(dto.getRefreshToken())) {
+        // sub 클레임이 없는 이전 버전 토큰은 요청의 사용자 ID 사용
+        Long userId = claims.userId() != null ? claims.userId() : dto.getUserId();
+        if (userId == null || (dto.getUserId() != null && !dto.getUserId().equals(userId))) {
             throw new CustomException(ErrorCode.TOKEN_INVALID);
         }
 
-        // 사용자 조회
-        User user = userRepository.findById(dto.getUserId())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        // 저장된 Refresh Token과 비교
+        String storedToken = refreshTokenStore.get(userId);
+        if (storedToken == null || !storedToken.equals(dto.getRefreshToken())) {
+            throw new CustomException(ErrorCode.TOKEN_INVALID);
+        }
 
         // 새로운 Access Token 생성
-        String newAccessToken = jwtUtil.createAccessToken(user.getEmail(), user.getRole().name());
+        String newAccessToken = jwtUtil.createAccessToken(userId, claims.email(), claims.role(), claims.authorities());
         return TokenDto.of(newAccessToken, dto.getRefreshToken());
     }
+
+    /**
+     * 로그아웃
+     * 
+     * Access Token을 즉시 폐기하고 저장된 Refresh Token을 삭제
+     * 
+     * @param accessToken 로그아웃할 Access Token
+     * @throws CustomException 토큰이 유효하지 않은 경우
+     */
+    public void logout(String accessToken) {
+        JwtClaims claims;
+        try {
+            claims = jwtUtil.parseToken(accessToken);
+        } catch (ExpiredJwtException e) {
+            // 이미 만료된 토큰은 폐기할 필요 없음
+            return;
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.TOKEN_INVALID);
+        }
+
+        accessTokenRevocationList.revoke(claims.tokenId(), claims.expiresAtMillis());
+        if (claims.userId() != null) {
+            refreshTokenStore.delete(claims.userId());
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
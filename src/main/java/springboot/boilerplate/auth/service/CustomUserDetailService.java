@@ -6,8 +6,9 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import springboot.boilerplate.auth.domain.CustomUserDetails;
-import springboot.boilerplate.auth.domain.User;
+import springboot.boilerplate.auth.dto.projection.UserAuthDto;
 import springboot.boilerplate.auth.repository.UserRepository;
+import springboot.boilerplate.global.datasource.ReadYourWritesWindow;
 
 /**
  * 사용자 인증 정보를 로드하는 서비스 클래스
@@ -21,6 +22,7 @@ import springboot.boilerplate.auth.repository.UserRepository;
 public class CustomUserDetailService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final ReadYourWritesWindow readYourWritesWindow;
 
     /**
      * 이메일을 기반으로 사용자 정보를 로드합니다.
@@ -31,8 +33,8 @@ public class CustomUserDetailService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        UserAuthDto user = readYourWritesWindow.read(email, () -> userRepository.findAuthByEmail(email))
                 .orElseThrow(() -> new UsernameNotFoundException("사용자 없음: " + email));
-        return new CustomUserDetails(user);
+        return CustomUserDetails.from(user);
     }
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package springboot.boilerplate.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+import springboot.boilerplate.auth.domain.CustomUserDetails;
+import springboot.boilerplate.auth.domain.User;
+import springboot.boilerplate.auth.dto.projection.UserProfileDto;
+import springboot.boilerplate.auth.dto.response.ResponseUserProfileDto;
+import springboot.boilerplate.auth.dto.response.ResponseUserSearchDto;
+import springboot.boilerplate.auth.repository.UserRepository;
+import springboot.boilerplate.auth.search.EmailPrefixIndex;
+import springboot.boilerplate.global.datasource.ReadYourWritesWindow;
+import springboot.boilerplate.global.exception.CustomException;
+import springboot.boilerplate.global.exception.ErrorCode;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class UserService {
+
+    private final UserRepository userRepository;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final EmailPrefixIndex emailPrefixIndex;
+
+    /**
+     * 내 정보 중 JWT 클레임에 없는 값(가입/수정 시각) 조회
+     *
+     * User 엔티티 캐시를 사용하므로 캐시가 유효한 동안에는 DB를 조회하지 않음
+     * (노드별 첫 조회, TTL 만료, 수정에 의한 무효화 후에는 조회 결과가 ETag 와 같아 304 로 응답하더라도 DB를 조회)
+     *
+     * @param principal JWT 로 인증된 사용자
+     * @return 사용자 조회 결과
+     * @throws CustomException 토큰에 사용자 ID가 없거나 사용자가 삭제된 경우
+     */
+    public UserProfileDto getProfile(CustomUserDetails principal) {
+        Long userId = principal.getUser().getId();
+        if (userId == null) {
+            throw new CustomException(ErrorCode.TOKEN_INVALID);
+        }
+        return readYourWritesWindow.read(userId, () -> userRepository.findProfileById(userId))
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    /**
+     * 내 정보 응답의 ETag
+     *
+     * 응답 본문을 결정하는 값(사용자 ID, 수정 시각, 권한 비트마스크)만으로 계산
+     *
+     * @param principal JWT 로 인증된 사용자
+     * @param profile 사용자 조회 결과
+     * @return ETag (따옴표 포함)
+     */
+    public String eTag(CustomUserDetails principal, UserProfileDto profile) {
+        LocalDateTime modifiedDate = profile.modifiedDate();
+        String version = modifiedDate != null
+                ? modifiedDate.toEpochSecond(ZoneOffset.UTC) + "." + modifiedDate.getNano()
+                : "0";
+        return "\"" + profile.id() + "-" + version + "-" + Long.toHexString(principal.getAuthorityMask()) + "\"";
+    }
+
+    /**
+     * 내 정보 응답 생성 (이메일, 역할, 권한은 JWT 클레임 사용)
+     *
+     * @param principal JWT 로 인증된 사용자
+     * @param profile 사용자 조회 결과
+     * @return 내 정보
+     */
+    public ResponseUserProfileDto toResponse(CustomUserDetails principal, UserProfileDto profile) {
+        User user = principal.getUser();
+        List<String> authorities = principal.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+        return new ResponseUserProfileDto(profile.id(), user.getEmail(), user.getRole().name(), authorities,
+                profile.createdDate(), profile.modifiedDate());
+    }
+
+    /**
+     * 이메일 앞부분으로 사용자 검색 (관리자용)
+     *
+     * DB 대신 메모리 색인에서 이메일 순으로 조회하며, 대소문자를 구분하지 않음
+     *
+     * @param prefix 이메일 앞부분
+     * @param pageable 페이지 정보
+     * @return 검색 결과 페이지
+     * @throws CustomException 검색어가 비어 있는 경우
+     */
+    public Page<ResponseUserSearchDto> searchByEmail(String prefix, Pageable pageable) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        EmailPrefixIndex.Result result = emailPrefixIndex.search(prefix, pageable.getOffset(), pageable.getPageSize());
+        List<ResponseUserSearchDto> content = result.entries().stream()
+                .map(entry -> new ResponseUserSearchDto(entry.userId(), entry.email()))
+                .toList();
+        return new PageImpl<>(content, pageable, result.total());
+    }
+}
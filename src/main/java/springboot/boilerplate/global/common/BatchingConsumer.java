@@ -0,0 +1,163 @@
+package springboot.boilerplate.global.common;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 링 버퍼에 쌓인 항목을 전용 스레드에서 배치로 처리하는 소비자
+ *
+ * 생산자는 offer/put 으로 항목을 넣고 바로 반환하며, 전용 스레드가 batchSize 개가 모이거나
+ * 배치의 첫 항목을 꺼낸 뒤 maxDelay 가 지나면 handler 를 한 번 호출
+ * 종료 시 남은 항목을 모두 처리한 뒤 멈추며, 종료 이후에는 offer/put 이 false 를 반환하므로
+ * 호출자가 직접 처리해야 함
+ * handler 는 전용 스레드(종료 시에는 close 를 호출한 스레드)에서만 호출되고,
+ * 전달된 목록은 호출이 끝나면 비워지므로 보관하지 않아야 함
+ */
+@Slf4j
+public class BatchingConsumer<E> implements Closeable {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+    // 항목이 없을 때 / 배치를 채우는 중일 때의 확인 간격
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long FILL_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    // put 에서 자리가 날 때까지의 확인 간격
+    private static final long PUT_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final String name;
+    private final RingBuffer<E> buffer;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final Consumer<List<E>> handler;
+    private final Thread thread;
+    private volatile boolean running = true;
+    // 소비 스레드가 빈 버퍼에서 대기 중이면 true (생산자가 깨움)
+    private volatile boolean idle;
+
+    /**
+     * @param name 소비 스레드 이름
+     * @param capacity 버퍼 크기 (2의 거듭제곱으로 올림)
+     * @param batchSize handler 한 번에 넘길 최대 항목 수
+     * @param maxDelayNanos 배치의 첫 항목을 꺼낸 뒤 handler 호출까지 최대 대기 시간
+     * @param handler 배치 처리 (예외는 기록 후 무시되므로 재시도가 필요하면 handler 안에서 처리)
+     */
+    public BatchingConsumer(String name, int capacity, int batchSize, long maxDelayNanos, Consumer<List<E>> handler) {
+        if (batchSize <= 0 || maxDelayNanos < 0) {
+            throw new IllegalArgumentException("batchSize must be positive and maxDelayNanos must not be negative");
+        }
+        this.name = name;
+        this.buffer = new RingBuffer<>(capacity);
+        this.batchSize = batchSize;
+        this.maxDelayNanos = maxDelayNanos;
+        this.handler = handler;
+        this.thread = new Thread(this::run, name);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * 항목 추가 (대기 없음)
+     *
+     * @return 버퍼가 가득 찼거나 종료된 경우 false
+     */
+    public boolean offer(E element) {
+        if (!running || !buffer.offer(element)) {
+            return false;
+        }
+        if (idle) {
+            LockSupport.unpark(thread);
+        }
+        return true;
+    }
+
+    /**
+     * 자리가 날 때까지 대기하며 항목 추가
+     *
+     * @return 종료되어 추가하지 못한 경우 false
+     */
+    public boolean put(E element) {
+        while (!offer(element)) {
+            if (!running) {
+                return false;
+            }
+            LockSupport.parkNanos(PUT_PARK_NANOS);
+        }
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 처리 대기 중인 항목 수 (근사값)
+     */
+    public int size() {
+        return buffer.size();
+    }
+
+    /**
+     * 남은 항목을 모두 처리한 뒤 소비 스레드 종료
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            log.warn("{} did not drain within {} ms ({} items left)", name, SHUTDOWN_TIMEOUT_MILLIS, buffer.size());
+            return;
+        }
+        // 종료 직전에 버퍼에 들어온 항목 처리
+        List<E> remaining = new ArrayList<>(batchSize);
+        while (buffer.drainTo(remaining, batchSize) > 0) {
+            handle(remaining);
+        }
+    }
+
+    private void run() {
+        List<E> batch = new ArrayList<>(batchSize);
+        long firstNanos = 0;
+        while (running || !buffer.isEmpty() || !batch.isEmpty()) {
+            boolean started = batch.isEmpty();
+            buffer.drainTo(batch, batchSize - batch.size());
+            if (batch.isEmpty()) {
+                idle = true;
+                if (running && buffer.isEmpty()) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+                idle = false;
+                continue;
+            }
+            long now = System.nanoTime();
+            if (started) {
+                firstNanos = now;
+            }
+            long waited = now - firstNanos;
+            if (batch.size() >= batchSize || waited >= maxDelayNanos || !running) {
+                handle(batch);
+            } else {
+                LockSupport.parkNanos(Math.min(FILL_PARK_NANOS, maxDelayNanos - waited));
+            }
+        }
+    }
+
+    private void handle(List<E> batch) {
+        try {
+            handler.accept(batch);
+        } catch (RuntimeException e) {
+            log.error("{} failed to handle {} items", name, batch.size(), e);
+        } finally {
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package springboot.boilerplate.global.common;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 락 없는 고정 크기 링 버퍼 (다중 생산자, 단일 소비자)
+ *
+ * 생산자는 CAS 로 슬롯 순번을 선점한 뒤 값을 쓰고 슬롯 순번을 갱신하여 공개하며,
+ * 버퍼가 가득 차면 대기하지 않고 false 를 반환
+ * drainTo 는 한 스레드에서만 호출해야 함
+ */
+public class RingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    // 슬롯별 순번 (== 쓸 차례의 위치면 비어 있음, == 위치 + 1 이면 값이 공개됨)
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * @param capacity 슬롯 수 (2의 거듭제곱으로 올림, 최소 2)
+     */
+    public RingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30");
+        }
+        this.capacity = nextPowerOfTwo(capacity);
+        this.mask = this.capacity - 1;
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 값 추가 (대기 없음)
+     *
+     * @return 버퍼가 가득 차 추가하지 못하면 false
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 공개된 값을 순서대로 최대 maxElements 개 꺼냄 (단일 소비자 전용)
+     *
+     * @return 꺼낸 값 수
+     */
+    public int drainTo(Collection<? super E> target, int maxElements) {
+        long position = head;
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            target.add(slots.get(index));
+            slots.lazySet(index, null);
+            sequences.set(index, position + capacity);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    /**
+     * 추가되었지만 아직 꺼내지 않은 값 수 (근사값)
+     */
+    public int size() {
+        return (int) Math.max(0, Math.min(capacity, tail.get() - head));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private static int nextPowerOfTwo(int value) {
+        // 슬롯이 1개면 "비어 있음"과 "값이 공개됨" 순번이 겹쳐 가득 찬 슬롯에 다시 쓰게 되므로 최소 2
+        return value <= 2 ? 2 : Integer.highestOneBit(value - 1) << 1;
+    }
+}
@@ -0,0 +1,142 @@
+package springboot.boilerplate.global.common;
+
+import springboot.boilerplate.global.deadline.RequestDeadline;
+import springboot.boilerplate.global.exception.CustomException;
+import springboot.boilerplate.global.exception.ErrorCode;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 호출을 하나의 실행으로 합치는 single-flight
+ *
+ * 먼저 들어온 호출만 작업을 실행하고, 실행 중에 들어온 같은 키의 호출은 그 결과(또는 예외)를 공유
+ * 기다리는 호출은 자신의 요청 기한(RequestDeadline)까지만 기다리며, 넘기면 DEADLINE_EXCEEDED 로 실패
+ * 실행한 호출이 자신의 기한을 넘겨 실패한 경우 그 실패는 공유하지 않고, 기다리던 호출이 다시 실행(또는 합류)
+ * 실행이 끝나면 항목을 즉시 제거하므로 결과를 캐시하지 않으며,
+ * 진행 중인 키가 maxInFlight 이상이면 합치지 않고 바로 실행하여 메모리 사용량을 제한
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final int maxInFlight;
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public SingleFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * 작업 실행 또는 진행 중인 같은 키의 결과 대기
+     *
+     * @param key 합칠 호출을 구분하는 키
+     * @param task 실행할 작업
+     * @return 작업 결과
+     */
+    public V execute(K key, Supplier<V> task) {
+        while (true) {
+            if (inFlight.size() >= maxInFlight) {
+                executions.increment();
+                return task.get();
+            }
+
+            CompletableFuture<V> flight = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+            if (existing != null) {
+                coalesced.increment();
+                try {
+                    return await(existing);
+                } catch (LeaderDeadlineExceeded e) {
+                    // 실행한 호출의 기한 초과는 이 호출의 실패가 아니므로 다시 시도
+                    RequestDeadline.check();
+                    continue;
+                }
+            }
+
+            executions.increment();
+            // 다시 시도하는 호출이 끝난 실행에 합류하지 않도록 결과를 알리기 전에 항목 제거
+            // (다른 스레드가 같은 키로 새 실행을 등록했을 수 있으므로 자신의 항목만 제거)
+            V result;
+            try {
+                result = task.get();
+            } catch (RuntimeException | Error e) {
+                inFlight.remove(key, flight);
+                flight.completeExceptionally(RequestDeadline.isExpired() ? new LeaderDeadlineExceeded() : e);
+                throw e;
+            }
+            inFlight.remove(key, flight);
+            flight.complete(result);
+            return result;
+        }
+    }
+
+    /**
+     * 직접 실행한 호출 수
+     */
+    public long getExecutionCount() {
+        return executions.sum();
+    }
+
+    /**
+     * 진행 중인 실행의 결과를 공유받은 호출 수
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * 현재 진행 중인 키 수
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        if (!RequestDeadline.isSet()) {
+            try {
+                return flight.join();
+            } catch (CompletionException e) {
+                throw rethrow(e.getCause());
+            }
+        }
+        try {
+            return flight.get(Math.max(0, RequestDeadline.remainingNanos()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new CustomException(ErrorCode.DEADLINE_EXCEEDED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.DEADLINE_EXCEEDED);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    // 실행한 호출과 같은 예외를 그대로 전달
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        throw new IllegalStateException(cause);
+    }
+
+    /**
+     * 실행한 호출이 자신의 기한을 넘겨 실패했음을 기다리던 호출에 알리는 표시 (호출자에게는 전달되지 않음)
+     */
+    private static final class LeaderDeadlineExceeded extends RuntimeException {
+
+        LeaderDeadlineExceeded() {
+            super(null, null, false, false);
+        }
+    }
+}
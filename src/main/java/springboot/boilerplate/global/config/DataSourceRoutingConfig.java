@@ -0,0 +1,95 @@
+package springboot.boilerplate.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import springboot.boilerplate.global.datasource.ReplicationRoutingDataSource;
+import springboot.boilerplate.global.datasource.RoutingDataSourceProperties;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 설정
+ *
+ * spring.datasource.routing.enabled=true 일 때만 활성화되며,
+ * 비활성화 시 Spring Boot 기본 단일 DataSource를 사용
+ */
+@Configuration
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+@ConditionalOnProperty(prefix = "spring.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    /**
+     * Primary/Replica 커넥션 풀을 묶은 라우팅 DataSource 생성
+     */
+    @Bean
+    public ReplicationRoutingDataSource replicationRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                                     RoutingDataSourceProperties routingProperties) {
+        String username = dataSourceProperties.determineUsername();
+        String password = dataSourceProperties.determinePassword();
+        String driverClassName = dataSourceProperties.determineDriverClassName();
+
+        HikariDataSource primary = createPool(ReplicationRoutingDataSource.PRIMARY,
+                dataSourceProperties.determineUrl(), username, password, driverClassName,
+                routingProperties.getPrimary(), false);
+
+        List<DataSource> replicas = new ArrayList<>();
+        List<RoutingDataSourceProperties.Replica> replicaProperties = routingProperties.getReplicas();
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            RoutingDataSourceProperties.Replica replica = replicaProperties.get(i);
+            replicas.add(createPool("replica-" + i,
+                    replica.getUrl(),
+                    replica.getUsername() != null ? replica.getUsername() : username,
+                    replica.getPassword() != null ? replica.getPassword() : password,
+                    driverClassName,
+                    replica,
+                    true));
+        }
+
+        return new ReplicationRoutingDataSource(primary, replicas,
+                routingProperties.getHealthCheckIntervalMs(),
+                routingProperties.getHealthCheckTimeoutSeconds());
+    }
+
+    /**
+     * 애플리케이션에서 사용하는 DataSource
+     *
+     * 실제 커넥션 획득을 첫 쿼리 시점까지 미뤄 트랜잭션의 readOnly 여부로 라우팅되도록 함
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationRoutingDataSource replicationRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicationRoutingDataSource);
+    }
+
+    private HikariDataSource createPool(String name, String url, String username, String password,
+                                        String driverClassName, RoutingDataSourceProperties.Pool pool,
+                                        boolean readOnly) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("hikari-" + name);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        if (driverClassName != null) {
+            dataSource.setDriverClassName(driverClassName);
+        }
+        dataSource.setMaximumPoolSize(pool.getMaximumPoolSize());
+        dataSource.setMinimumIdle(pool.getMinimumIdle());
+        dataSource.setConnectionTimeout(pool.getConnectionTimeoutMs());
+        dataSource.setIdleTimeout(pool.getIdleTimeoutMs());
+        dataSource.setMaxLifetime(pool.getMaxLifetimeMs());
+        dataSource.setReadOnly(readOnly);
+        if (readOnly) {
+            // Replica가 내려가 있어도 애플리케이션 기동은 가능하도록 함
+            dataSource.setInitializationFailTimeout(-1);
+        }
+        return dataSource;
+    }
+}
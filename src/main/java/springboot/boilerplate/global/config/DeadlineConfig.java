@@ -0,0 +1,39 @@
+package springboot.boilerplate.global.config;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import springboot.boilerplate.global.deadline.DeadlineAwareDataSource;
+import springboot.boilerplate.global.deadline.DeadlineProperties;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청 처리 기한 전달 설정
+ *
+ * 기한은 DeadlineFilter(SecurityConfig)에서 설정되고, DB 쿼리 시간 제한 / Redis 명령 시간 제한(RedisConfig) /
+ * 비밀번호 해시 대기(SecurityConfig)가 남은 시간을 넘지 않도록 함
+ */
+@Configuration
+@EnableConfigurationProperties(DeadlineProperties.class)
+public class DeadlineConfig {
+
+    /**
+     * 애플리케이션 DataSource 를 쿼리마다 남은 시간을 시간 제한으로 설정하는 DataSource 로 교체
+     */
+    @Bean
+    public static BeanPostProcessor deadlineAwareDataSource(BeanFactory beanFactory) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && beanFactory.getBean(DeadlineProperties.class).isEnabled()) {
+                    return new DeadlineAwareDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
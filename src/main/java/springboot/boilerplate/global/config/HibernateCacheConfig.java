@@ -0,0 +1,63 @@
+package springboot.boilerplate.global.config;
+
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+
+/**
+ * Hibernate 2차 캐시 설정
+ *
+ * 프로세스 내 JCache(Ehcache 3) CacheManager를 직접 생성하여 리전별 크기/TTL을 적용하고
+ * Hibernate가 이 CacheManager를 사용하도록 전달
+ */
+@Configuration
+@EnableConfigurationProperties(HibernateCacheProperties.class)
+public class HibernateCacheConfig {
+
+    private static final URI CACHE_MANAGER_URI = URI.create("urn:boilerplate:hibernate-cache");
+
+    /**
+     * 2차 캐시용 JCache CacheManager 생성
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(HibernateCacheProperties properties) {
+        EhcacheCachingProvider provider =
+                (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        // URI만 넘기면 Ehcache가 XML 설정 위치로 해석하므로 코드 기반 기본 설정을 함께 전달
+        CacheManager cacheManager = provider.getCacheManager(CACHE_MANAGER_URI,
+                new DefaultConfiguration(getClass().getClassLoader()));
+
+        properties.getRegions().forEach((name, region) -> {
+            if (cacheManager.getCache(name) != null) {
+                return;
+            }
+            cacheManager.createCache(name, Eh107Configuration.fromEhcacheCacheConfiguration(
+                    CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class,
+                                    ResourcePoolsBuilder.heap(region.getMaxEntries()))
+                            .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(region.getTtl()))));
+            // JMX(javax.cache:type=CacheStatistics)로 리전별 통계 노출
+            cacheManager.enableStatistics(name, true);
+        });
+        return cacheManager;
+    }
+
+    /**
+     * Hibernate가 위 CacheManager를 사용하도록 설정
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+}
@@ -0,0 +1,29 @@
+package springboot.boilerplate.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시 리전 설정
+ *
+ * 리전 이름별 최대 엔트리 수와 TTL (프로파일별 yml에서 지정)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "spring.jpa.cache")
+public class HibernateCacheProperties {
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Region {
+        private long maxEntries = 1000;
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+}
@@ -0,0 +1,27 @@
+package springboot.boilerplate.global.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import springboot.boilerplate.global.security.AccessTokenRevocationList;
+import springboot.boilerplate.global.security.IntrospectionProperties;
+import springboot.boilerplate.global.security.JwtUtil;
+import springboot.boilerplate.global.security.TokenIntrospector;
+
+/**
+ * 토큰 일괄 검증(introspection) 설정
+ */
+@Configuration
+@EnableConfigurationProperties(IntrospectionProperties.class)
+public class IntrospectionConfig {
+
+    /**
+     * 토큰 일괄 검증기 (검증 스레드 수와 대기 큐 크기는 spring.introspection 설정)
+     */
+    @Bean
+    public TokenIntrospector tokenIntrospector(JwtUtil jwtUtil, AccessTokenRevocationList accessTokenRevocationList,
+                                               IntrospectionProperties properties) {
+        return new TokenIntrospector(jwtUtil, accessTokenRevocationList,
+                properties.getParallelism(), properties.getChunkSize(), properties.getQueueCapacity());
+    }
+}
@@ -0,0 +1,56 @@
+package springboot.boilerplate.global.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * 공용 ObjectMapper 설정
+ *
+ * Module 빈은 Spring Boot가 자동 구성한 ObjectMapper에 등록되므로
+ * MVC 메시지 컨버터와 보안 필터가 같은 설정을 공유함
+ */
+@Configuration
+public class JacksonConfig {
+
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    /**
+     * Blackbird 모듈
+     *
+     * 리플렉션 대신 LambdaMetafactory로 생성한 접근자를 사용해 (역)직렬화 비용을 줄임
+     * spring.jackson.blackbird.enabled=true 일 때만 등록
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.jackson.blackbird.enabled", havingValue = "true")
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * CBOR(application/cbor) 메시지 컨버터
+     *
+     * Spring MVC 기본 컨버터를 같은 타입의 빈으로 대체하여 spring.jackson.* 설정과 모듈을 동일하게 적용
+     * 기본 컨버터 목록에서의 위치는 유지되므로 Accept가 없거나 와일드카드면 JSON으로 응답
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        return new MappingJackson2CborHttpMessageConverter(objectMapperBuilder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Smile(application/x-jackson-smile) 메시지 컨버터
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        return new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,40 @@
+package springboot.boilerplate.global.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import springboot.boilerplate.auth.event.LoginEventPublisher;
+import springboot.boilerplate.auth.service.AuthService;
+import springboot.boilerplate.auth.service.CustomUserDetailService;
+import springboot.boilerplate.global.redis.RedisService;
+import springboot.boilerplate.global.resilience.DependencyGuard;
+import springboot.boilerplate.global.security.AccessTokenRevocationList;
+import springboot.boilerplate.global.security.JwtUtil;
+import springboot.boilerplate.global.security.TokenIssuer;
+import springboot.boilerplate.global.token.RefreshTokenStore;
+
+/**
+ * 지연 초기화(lazy 프로파일) 설정
+ *
+ * spring.main.lazy-initialization=true 여도 로그인/재발급/인증 경로의 빈은
+ * 기동 시 즉시 생성하여 첫 요청이 빈 생성 비용을 부담하지 않도록 함
+ */
+@Configuration
+public class LazyInitConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter hotPathBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                JwtUtil.class,
+                TokenIssuer.class,
+                AuthService.class,
+                CustomUserDetailService.class,
+                RedisService.class,
+                RefreshTokenStore.class,
+                LoginEventPublisher.class,
+                DependencyGuard.class,
+                // Pub/Sub 구독을 기동 시점에 시작해야 함
+                AccessTokenRevocationList.class
+        );
+    }
+}
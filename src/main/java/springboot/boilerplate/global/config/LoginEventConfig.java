@@ -0,0 +1,38 @@
+package springboot.boilerplate.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import springboot.boilerplate.auth.event.LoginEventPipeline;
+import springboot.boilerplate.auth.event.LoginEventProperties;
+import springboot.boilerplate.auth.event.LoginEventPublisher;
+import springboot.boilerplate.auth.repository.LoginEventWriter;
+
+/**
+ * 로그인 이벤트(이력, 마지막 로그인 시각) 비동기 기록 설정
+ */
+@Configuration
+@EnableConfigurationProperties(LoginEventProperties.class)
+public class LoginEventConfig {
+
+    /**
+     * 로그인 이벤트 발행기
+     *
+     * 종료 시 close()가 추론되어 호출되므로 버퍼에 남은 이벤트가 저장됨
+     */
+    @Bean
+    public LoginEventPublisher loginEventPublisher(LoginEventProperties properties, LoginEventWriter writer,
+                                                   MeterRegistry meterRegistry) {
+        if (!properties.isEnabled()) {
+            return LoginEventPublisher.NOOP;
+        }
+        return new LoginEventPipeline(
+                writer,
+                properties.getBufferSize(),
+                properties.getBatchSize(),
+                properties.getMaxDelayMs(),
+                properties.getOverflow(),
+                meterRegistry);
+    }
+}
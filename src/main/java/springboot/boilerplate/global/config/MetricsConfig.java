@@ -0,0 +1,118 @@
+package springboot.boilerplate.global.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import springboot.boilerplate.auth.search.EmailPrefixIndex;
+import springboot.boilerplate.auth.service.AuthService;
+import springboot.boilerplate.global.resilience.AdaptiveConcurrencyLimiter;
+import springboot.boilerplate.global.resilience.DependencyGuard;
+import springboot.boilerplate.global.token.GuardedRefreshTokenStore;
+import springboot.boilerplate.global.token.RefreshTokenStore;
+
+/**
+ * 애플리케이션 지표 설정 (/actuator/metrics)
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * 인증 지표
+     *
+     * auth.reissue.coalesced: 진행 중인 재발급 결과를 공유받아 Redis 조회/JWT 서명을 생략한 요청 수
+     */
+    @Bean
+    public MeterBinder authMetrics(AuthService authService) {
+        return registry -> FunctionCounter.builder("auth.reissue.coalesced", authService, AuthService::getCoalescedReissueCount)
+                .description("Reissue calls that shared an in-flight computation")
+                .register(registry);
+    }
+
+    /**
+     * Redis / DB 호출 보호 지표 (dependency 태그: redis, database)
+     *
+     * resilience.circuit.state: 브레이커 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)
+     * resilience.rejected: 호출하지 않고 거절한 수 (reason: bulkhead, circuit)
+     * resilience.active.calls: 진행 중인 호출 수
+     * resilience.degraded.reissue: Redis 장애로 최근 확인된 Refresh Token을 대신 사용한 수
+     */
+    @Bean
+    public MeterBinder resilienceMetrics(ObjectProvider<DependencyGuard> guards,
+                                        ObjectProvider<RefreshTokenStore> refreshTokenStore) {
+        return registry -> {
+            guards.orderedStream().forEach(guard -> {
+                Tags tags = Tags.of("dependency", guard.getName());
+                Gauge.builder("resilience.circuit.state", guard, DependencyGuard::getStateValue)
+                        .description("Circuit breaker state (0 closed, 1 open, 2 half-open)")
+                        .tags(tags)
+                        .register(registry);
+                FunctionCounter.builder("resilience.rejected", guard, DependencyGuard::getBulkheadRejections)
+                        .description("Calls rejected without reaching the dependency")
+                        .tags(tags.and("reason", "bulkhead"))
+                        .register(registry);
+                FunctionCounter.builder("resilience.rejected", guard, DependencyGuard::getCircuitRejections)
+                        .description("Calls rejected without reaching the dependency")
+                        .tags(tags.and("reason", "circuit"))
+                        .register(registry);
+                Gauge.builder("resilience.active.calls", guard, g -> g.getBulkhead().getActiveCalls())
+                        .description("Calls currently in flight to the dependency")
+                        .tags(tags)
+                        .register(registry);
+            });
+            if (refreshTokenStore.getIfAvailable() instanceof GuardedRefreshTokenStore store) {
+                FunctionCounter.builder("resilience.degraded.reissue", store, GuardedRefreshTokenStore::getDegradedReadCount)
+                        .description("Refresh token reads served from the local cache while Redis was unavailable")
+                        .register(registry);
+            }
+        };
+    }
+
+    /**
+     * 적응형 동시 요청 수 제한 지표 (limiter 태그: auth, api)
+     *
+     * concurrency.limit: 현재 동시 요청 수 제한
+     * concurrency.in.flight: 처리 중인 요청 수
+     * concurrency.rejected: 제한 초과로 거절한 요청 수
+     */
+    @Bean
+    public MeterBinder concurrencyLimitMetrics(ObjectProvider<AdaptiveConcurrencyLimiter> limiters) {
+        return registry -> limiters.orderedStream().forEach(limiter -> {
+            Tags tags = Tags.of("limiter", limiter.getName());
+            Gauge.builder("concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("Current adaptive concurrency limit")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("concurrency.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .description("Requests currently holding a concurrency permit")
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::getRejections)
+                    .description("Requests rejected because the concurrency limit was reached")
+                    .tags(tags)
+                    .register(registry);
+        });
+    }
+
+    /**
+     * 관리자 이메일 검색 색인 지표
+     *
+     * user.search.index.size: 색인된 사용자 수
+     * user.search.index.memory: 대략적인 색인 메모리 (바이트)
+     */
+    @Bean
+    public MeterBinder userSearchIndexMetrics(EmailPrefixIndex emailPrefixIndex) {
+        return registry -> {
+            Gauge.builder("user.search.index.size", emailPrefixIndex, EmailPrefixIndex::size)
+                    .description("Users held in the email prefix index")
+                    .register(registry);
+            Gauge.builder("user.search.index.memory", emailPrefixIndex, EmailPrefixIndex::getMemoryBytes)
+                    .description("Approximate memory held by the email prefix index")
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+}
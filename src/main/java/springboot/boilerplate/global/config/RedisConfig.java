@@ -1,43 +1,126 @@
 package springboot.boilerplate.global.config;
 
-import org.springframework.beans.factory.annotation.Value;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import springboot.boilerplate.global.deadline.DeadlineProperties;
+import springboot.boilerplate.global.deadline.DeadlineTimeoutSource;
+
+import java.util.HashSet;
 
 @Configuration
 @EnableRedisRepositories
 public class RedisConfig {
 
-    @Value("${spring.data.redis.port}")
-    private int port;
+    private final RedisProperties redisProperties;
+    private final DeadlineProperties deadlineProperties;
 
-    @Value("${spring.data.redis.host}")
-    private String host;
+    public RedisConfig(RedisProperties redisProperties, DeadlineProperties deadlineProperties) {
+        this.redisProperties = redisProperties;
+        this.deadlineProperties = deadlineProperties;
+    }
 
     /**
      * Redis 연결 팩토리 생성
+     *
+     * spring.data.redis.cluster.nodes 가 있으면 Cluster, spring.data.redis.sentinel.master 가 있으면 Sentinel,
+     * 둘 다 없으면 host/port 단일 노드로 연결
+     * spring.data.redis.timeout 으로 명령 시간 제한을 짧게 두어 Redis가 느려질 때 요청 스레드가 오래 묶이지 않도록 함
+     * 요청 기한이 설정된 스레드의 명령은 남은 시간이 더 짧으면 남은 시간을 시간 제한으로 사용
      */
     @Bean
+    @Primary
     public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(host, port);
+        return new LettuceConnectionFactory(topology(), clientConfiguration());
     }
 
     @Bean
     public RedisTemplate<String, String> redisTemplate() {
         // redisTemplate를 받아와서 set, get, delete를 사용
+        return stringTemplate(redisConnectionFactory());
+    }
+
+    /**
+     * Redis Pub/Sub 메시지 리스너 컨테이너 (토큰 폐기, 가입 알림 수신)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        return container;
+    }
+
+    private RedisConfiguration topology() {
+        RedisProperties.Cluster cluster = redisProperties.getCluster();
+        if (cluster != null && cluster.getNodes() != null && !cluster.getNodes().isEmpty()) {
+            RedisClusterConfiguration configuration = new RedisClusterConfiguration(cluster.getNodes());
+            if (cluster.getMaxRedirects() != null) {
+                configuration.setMaxRedirects(cluster.getMaxRedirects());
+            }
+            configuration.setUsername(redisProperties.getUsername());
+            configuration.setPassword(redisProperties.getPassword());
+            return configuration;
+        }
+
+        RedisProperties.Sentinel sentinel = redisProperties.getSentinel();
+        if (sentinel != null && sentinel.getMaster() != null) {
+            RedisSentinelConfiguration configuration =
+                    new RedisSentinelConfiguration(sentinel.getMaster(), new HashSet<>(sentinel.getNodes()));
+            configuration.setUsername(redisProperties.getUsername());
+            configuration.setPassword(redisProperties.getPassword());
+            configuration.setSentinelPassword(sentinel.getPassword());
+            configuration.setDatabase(redisProperties.getDatabase());
+            return configuration;
+        }
+
+        RedisStandaloneConfiguration configuration =
+                new RedisStandaloneConfiguration(redisProperties.getHost(), redisProperties.getPort());
+        configuration.setUsername(redisProperties.getUsername());
+        configuration.setPassword(redisProperties.getPassword());
+        configuration.setDatabase(redisProperties.getDatabase());
+        return configuration;
+    }
+
+    private LettuceClientConfiguration clientConfiguration() {
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = LettuceClientConfiguration.builder();
+        if (redisProperties.getTimeout() != null) {
+            builder.commandTimeout(redisProperties.getTimeout());
+            if (deadlineProperties.isEnabled()) {
+                TimeoutOptions timeoutOptions = TimeoutOptions.builder()
+                        .timeoutSource(new DeadlineTimeoutSource(redisProperties.getTimeout()))
+                        .build();
+                builder.clientOptions(topology() instanceof RedisClusterConfiguration
+                        ? ClusterClientOptions.builder().timeoutOptions(timeoutOptions).build()
+                        : ClientOptions.builder().timeoutOptions(timeoutOptions).build());
+            }
+        }
+        return builder.build();
+    }
+
+    private RedisTemplate<String, String> stringTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
         // setKeySerializer, setValueSerializer 설정
         // redis-cli을 통해 직접 데이터를 조회 시 알아볼 수 없는 형태로 출력되는 것을 방지
         redisTemplate.setKeySerializer(new StringRedisSerializer());
         redisTemplate.setValueSerializer(new StringRedisSerializer());
-        redisTemplate.setConnectionFactory(redisConnectionFactory());
-
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.afterPropertiesSet();
         return redisTemplate;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,78 @@
+package springboot.boilerplate.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import springboot.boilerplate.global.redis.RedisService;
+import springboot.boilerplate.global.resilience.DependencyGuard;
+import springboot.boilerplate.global.resilience.ResilienceProperties;
+import springboot.boilerplate.global.token.GuardedRefreshTokenStore;
+import springboot.boilerplate.global.token.MappedRefreshTokenStore;
+import springboot.boilerplate.global.token.RedisRefreshTokenStore;
+import springboot.boilerplate.global.token.RefreshTokenStore;
+import springboot.boilerplate.global.token.RefreshTokenStoreProperties;
+import springboot.boilerplate.global.token.WriteBehindRefreshTokenStore;
+
+import java.io.IOException;
+
+/**
+ * Refresh Token 저장소 선택 (spring.jwt.refresh-token-store.type)
+ */
+@Configuration
+@EnableConfigurationProperties(RefreshTokenStoreProperties.class)
+public class RefreshTokenStoreConfig {
+
+    private static final String TYPE = "spring.jwt.refresh-token-store.type";
+
+    /**
+     * Redis 저장소 (기본값)
+     *
+     * 모든 호출에 redisGuard(bulkhead + circuit breaker)를 적용하고,
+     * write-behind.enabled=true 이면 쓰기를 모아 파이프라인으로 전송 (전송도 redisGuard 로 보호)
+     * 종료 시 close()가 추론되어 호출되므로 남은 쓰기가 반영됨
+     */
+    @Bean
+    @ConditionalOnProperty(name = TYPE, havingValue = "redis", matchIfMissing = true)
+    public RefreshTokenStore redisRefreshTokenStore(RedisService redisService,
+                                                    RefreshTokenStoreProperties properties,
+                                                    ResilienceProperties resilienceProperties,
+                                                    @Qualifier("redisGuard") DependencyGuard redisGuard,
+                                                    MeterRegistry meterRegistry) {
+        RefreshTokenStoreProperties.WriteBehind writeBehind = properties.getWriteBehind();
+        RefreshTokenStore store = writeBehind.isEnabled()
+                ? new WriteBehindRefreshTokenStore(
+                        redisService,
+                        redisGuard,
+                        writeBehind.getBatchSize(),
+                        writeBehind.getMaxDelayMicros(),
+                        writeBehind.getQueueCapacity(),
+                        writeBehind.getMaxRetryMs(),
+                        meterRegistry)
+                : new RedisRefreshTokenStore(redisService);
+        ResilienceProperties.Redis redis = resilienceProperties.getRedis();
+        return new GuardedRefreshTokenStore(store, redisGuard,
+                redis.getDegradedReissueTtlMs(), redis.getDegradedReissueCacheSize());
+    }
+
+    /**
+     * 메모리 매핑 파일 저장소 (단일 노드 전용, 여러 인스턴스가 같은 파일을 공유할 수 없음)
+     *
+     * Refresh Token 저장만 대체하므로 Access Token 폐기 목록과 Pub/Sub 구독을 위한 Redis 연결은 계속 필요
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = TYPE, havingValue = "mapped")
+    public RefreshTokenStore mappedRefreshTokenStore(RefreshTokenStoreProperties properties) throws IOException {
+        RefreshTokenStoreProperties.Mapped mapped = properties.getMapped();
+        MappedRefreshTokenStore store = new MappedRefreshTokenStore(
+                mapped.getPath(),
+                mapped.getCapacity(),
+                mapped.getMaxTokenBytes(),
+                mapped.getTickMs(),
+                mapped.getSweepTicks());
+        store.startExpiry();
+        return store;
+    }
+}
@@ -0,0 +1,104 @@
+package springboot.boilerplate.global.config;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import springboot.boilerplate.auth.repository.UserRepository;
+import springboot.boilerplate.global.exception.ErrorCode;
+import springboot.boilerplate.global.resilience.AdaptiveConcurrencyLimiter;
+import springboot.boilerplate.global.resilience.Bulkhead;
+import springboot.boilerplate.global.resilience.CircuitBreaker;
+import springboot.boilerplate.global.resilience.ConcurrencyLimitProperties;
+import springboot.boilerplate.global.resilience.DependencyGuard;
+import springboot.boilerplate.global.resilience.GuardedRepositories;
+import springboot.boilerplate.global.resilience.ResilienceProperties;
+
+/**
+ * Redis / DB 호출 보호 설정 (bulkhead + circuit breaker)
+ *
+ * 브레이커가 열리거나 동시 호출 수를 넘으면 TOKEN_STORE_UNAVAILABLE / DATABASE_UNAVAILABLE(503)로 바로 실패
+ * 요청 단위의 적응형 동시 요청 수 제한(ConcurrencyLimitFilter)에 사용하는 제한기도 함께 구성
+ */
+@Configuration
+@EnableConfigurationProperties({ResilienceProperties.class, ConcurrencyLimitProperties.class})
+public class ResilienceConfig {
+
+    /**
+     * Redis 호출 보호 (Refresh Token 저장소, Access Token 폐기 목록)
+     */
+    @Bean
+    public DependencyGuard redisGuard(ResilienceProperties properties) {
+        return guard("redis", properties.getRedis(), ErrorCode.TOKEN_STORE_UNAVAILABLE);
+    }
+
+    /**
+     * DB 호출 보호 (UserRepository)
+     */
+    @Bean
+    public DependencyGuard databaseGuard(ResilienceProperties properties) {
+        return guard("database", properties.getDatabase(), ErrorCode.DATABASE_UNAVAILABLE);
+    }
+
+    /**
+     * 인증 경로(로그인/재발급 등) 동시 요청 수 제한
+     */
+    @Bean
+    public AdaptiveConcurrencyLimiter authConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        return limiter("auth", properties.getAuth());
+    }
+
+    /**
+     * 인증 경로를 제외한 API 동시 요청 수 제한
+     */
+    @Bean
+    public AdaptiveConcurrencyLimiter apiConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        return limiter("api", properties.getApi());
+    }
+
+    /**
+     * UserRepository 빈을 databaseGuard 로 감싼 프록시로 교체
+     */
+    @Bean
+    public static BeanPostProcessor userRepositoryGuard(BeanFactory beanFactory) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof UserRepository repository) {
+                    DependencyGuard guard = beanFactory.getBean("databaseGuard", DependencyGuard.class);
+                    return GuardedRepositories.wrap(UserRepository.class, repository, guard);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(String name, ConcurrencyLimitProperties.Limit limit) {
+        return new AdaptiveConcurrencyLimiter(
+                name,
+                limit.getInitialLimit(),
+                limit.getMinLimit(),
+                limit.getMaxLimit(),
+                limit.getSmoothing(),
+                limit.getTolerance(),
+                limit.getBackoffRatio(),
+                limit.getBackoffDropRate(),
+                limit.getWindowMs(),
+                limit.getMinWindowSamples());
+    }
+
+    private static DependencyGuard guard(String name, ResilienceProperties.Dependency dependency, ErrorCode unavailableCode) {
+        return new DependencyGuard(
+                name,
+                new Bulkhead(dependency.getMaxConcurrentCalls(), dependency.getMaxWaitMs()),
+                new CircuitBreaker(
+                        dependency.getWindowSize(),
+                        dependency.getMinimumCalls(),
+                        dependency.getFailureRateThreshold(),
+                        dependency.getOpenMs(),
+                        dependency.getHalfOpenCalls()),
+                dependency.getSlowCallMs(),
+                unavailableCode);
+    }
+}
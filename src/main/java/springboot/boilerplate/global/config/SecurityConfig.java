@@ -1,6 +1,8 @@
 package springboot.boilerplate.global.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,12 +13,25 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.session.DisableEncodeUrlFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import springboot.boilerplate.auth.enums.Permission;
+import springboot.boilerplate.auth.event.LoginEventPublisher;
+import springboot.boilerplate.global.deadline.DeadlineAwarePasswordEncoder;
+import springboot.boilerplate.global.deadline.DeadlineFilter;
+import springboot.boilerplate.global.deadline.DeadlineProperties;
+import springboot.boilerplate.global.exception.SecurityExceptionHandler;
+import springboot.boilerplate.global.resilience.AdaptiveConcurrencyLimiter;
+import springboot.boilerplate.global.resilience.ConcurrencyLimitFilter;
+import springboot.boilerplate.global.resilience.ConcurrencyLimitProperties;
+import springboot.boilerplate.global.security.AccessTokenRevocationList;
 import springboot.boilerplate.global.security.CustomAccessDeniedHandler;
 import springboot.boilerplate.global.security.CustomAuthenticationEntryPoint;
 import springboot.boilerplate.global.security.CustomUsernamePasswordAuthenticationFilter;
 import springboot.boilerplate.global.security.JwtUtil;
 import springboot.boilerplate.global.security.JwtAuthenticationFilter;
+import springboot.boilerplate.global.security.RouteTable;
+import springboot.boilerplate.global.security.TokenIssuer;
 
 @EnableWebSecurity
 @Configuration
@@ -26,12 +41,52 @@ public class SecurityConfig {
     // 인증 관리자 Bean을 얻기 위한 설정 객체 
     private final AuthenticationConfiguration authenticationConfiguration;
     private final JwtUtil jwtUtil;
+    private final AccessTokenRevocationList accessTokenRevocationList;
+    private final TokenIssuer tokenIssuer;
+    // Spring Boot가 구성한 공용 ObjectMapper
+    private final ObjectMapper objectMapper;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
+    private final DeadlineProperties deadlineProperties;
+    private final SecurityExceptionHandler securityExceptionHandler;
+    private final LoginEventPublisher loginEventPublisher;
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
 
+    /**
+     * 비밀번호 해시는 CPU 수만큼만 동시에 계산하고, 요청 기한 안에 끝낼 수 없으면 시작하지 않음
+     */
     @Bean
     public BCryptPasswordEncoder bCryptPasswordEncoder(){
-        return new BCryptPasswordEncoder();
+        return new DeadlineAwarePasswordEncoder(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 경로별 인가 규칙
+     *
+     * authorizeHttpRequests 와 JwtAuthenticationFilter(공개 경로 건너뛰기)가 같은 규칙을 사용
+     * 먼저 선언된 규칙이 우선하며, 일치하는 규칙이 없으면 인증 필요
+     */
+    @Bean
+    public RouteTable routeTable() {
+        return RouteTable.builder()
+                .permitAll(
+                        "/api-docs/**",
+                        "/v3/api-docs",
+                        "/v3/api-docs/**",
+                        "/swagger-ui/**",
+                        "/swagger-ui.html")
+                .permitAll("/api/v1/auth/**")
+                // 운영 지표 (헬스 체크는 공개, 나머지는 관리자만)
+                .permitAll("/actuator/health/**")
+                .hasRole("ADMIN", "/actuator/**")
+                .hasRole("USER", "/onlyuser")
+                // 내 정보 (JWT 클레임 + 캐시된 조회 결과로 응답)
+                .hasPermission(Permission.PROFILE_READ, "/api/v1/users/me")
+                // 게이트웨이/내부 서비스용 토큰 일괄 검증
+                .hasPermission(Permission.TOKEN_INTROSPECT, "/api/v1/tokens/introspect")
+                // 관리자 이메일 검색 (메모리 색인 조회)
+                .hasPermission(Permission.USER_READ_ALL, "/api/v1/admin/users/**")
+                .build();
     }
 
     /**
@@ -49,7 +104,9 @@ public class SecurityConfig {
      * CSRF 비활성화, 세션 무상태(STATELESS) 설정, 인증 필터 등록
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   @Qualifier("authConcurrencyLimiter") AdaptiveConcurrencyLimiter authConcurrencyLimiter,
+                                                   @Qualifier("apiConcurrencyLimiter") AdaptiveConcurrencyLimiter apiConcurrencyLimiter) throws Exception {
         // CSRF 비활성화 (JWT 사용 시 불필요)
         http
                 .csrf(AbstractHttpConfigurer::disable)
@@ -59,19 +116,8 @@ public class SecurityConfig {
                 .httpBasic(AbstractHttpConfigurer::disable)
                 // 세션 무상태 설정 (JWT에서는 세션을 사용하지 않음)
                 .sessionManagement(config -> config.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                // 요청 인가 설정
-                .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(
-                                "/api-docs/**",
-                                "/v3/api-docs",
-                                "/v3/api-docs/**",
-                                "/swagger-ui/**",
-                                "/swagger-ui.html"
-                                ).permitAll()
-                        .requestMatchers("/api/v1/auth/**").permitAll()
-                        .requestMatchers("/onlyuser").hasRole("USER")
-                        .anyRequest().authenticated()
-                )
+                // 요청 인가 설정 (routeTable 규칙을 선언 순서대로 등록)
+                .authorizeHttpRequests(routeTable()::applyTo)
                 // 인증/인가 에러 핸들러 설정
                 .exceptionHandling(exception -> exception
                         .authenticationEntryPoint(customAuthenticationEntryPoint)  // 인증 실패 시 (401)
@@ -80,14 +126,29 @@ public class SecurityConfig {
         
         // 커스텀 로그인 필터 등록
         CustomUsernamePasswordAuthenticationFilter customUsernamePasswordAuthenticationFilter
-                = new CustomUsernamePasswordAuthenticationFilter(authenticationManager(authenticationConfiguration), jwtUtil);
+                = new CustomUsernamePasswordAuthenticationFilter(
+                        authenticationManager(authenticationConfiguration), objectMapper, tokenIssuer, loginEventPublisher,
+                        securityExceptionHandler);
         customUsernamePasswordAuthenticationFilter.setFilterProcessesUrl("/login");
         http.addFilterAt(customUsernamePasswordAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
         
         // JWT 인증 필터 등록
-        JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtUtil);
+        JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtUtil, accessTokenRevocationList, routeTable());
         http.addFilterAfter(jwtAuthenticationFilter, CustomUsernamePasswordAuthenticationFilter.class);
 
+        // 요청 처리 기한 필터 등록 (로그인/JWT 인증 필터보다 앞)
+        if (deadlineProperties.isEnabled()) {
+            http.addFilterBefore(new DeadlineFilter(deadlineProperties, securityExceptionHandler),
+                    CustomUsernamePasswordAuthenticationFilter.class);
+        }
+
+        // 적응형 동시 요청 수 제한 필터 등록 (보안 필터 체인의 가장 앞)
+        if (concurrencyLimitProperties.isEnabled()) {
+            http.addFilterBefore(new ConcurrencyLimitFilter(authConcurrencyLimiter, apiConcurrencyLimiter,
+                            concurrencyLimitProperties, securityExceptionHandler),
+                    DisableEncodeUrlFilter.class);
+        }
+
         return http.build();
     }
 }
\ No newline at end of file
@@ -14,6 +14,7 @@ import io.swagger.v3.oas.models.responses.ApiResponses;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import org.springdoc.core.customizers.OperationCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import springboot.boilerplate.global.common.BaseResponse;
@@ -35,6 +36,8 @@ import java.util.stream.Collectors;
         )
 )
 @Configuration
+// prod는 빌드 시점에 생성된 문서를 사용 (StaticApiDocsController)
+@ConditionalOnProperty(name = "springdoc.api-docs.enabled", havingValue = "true", matchIfMissing = true)
 public class SwaggerConfig {
 
     private static final String SECURITY_SCHEME_NAME = "JWT";
@@ -0,0 +1,57 @@
+package springboot.boilerplate.global.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import springboot.boilerplate.auth.repository.UserRepository;
+import springboot.boilerplate.auth.search.EmailPrefixIndex;
+import springboot.boilerplate.auth.search.EmailPrefixIndexLoader;
+import springboot.boilerplate.auth.search.EmailPrefixIndexSync;
+import springboot.boilerplate.auth.search.UserSearchProperties;
+import springboot.boilerplate.global.redis.RedisService;
+import springboot.boilerplate.global.resilience.DependencyGuard;
+
+/**
+ * 관리자 이메일 검색 설정
+ */
+@Configuration
+@EnableConfigurationProperties(UserSearchProperties.class)
+public class UserSearchConfig {
+
+    /**
+     * 이메일 앞부분 검색 색인 (가입 시 EmailPrefixIndexSync 가 추가)
+     */
+    @Bean
+    public EmailPrefixIndex emailPrefixIndex(UserSearchProperties properties) {
+        return new EmailPrefixIndex(properties.getCompactionThreshold());
+    }
+
+    /**
+     * 기동 시 전체 사용자 적재 (spring.user-search.load-on-startup=false 이면 적재하지 않음)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.user-search", name = "load-on-startup", havingValue = "true", matchIfMissing = true)
+    public EmailPrefixIndexLoader emailPrefixIndexLoader(UserRepository userRepository,
+                                                         EmailPrefixIndex emailPrefixIndex,
+                                                         UserSearchProperties properties) {
+        return new EmailPrefixIndexLoader(userRepository, emailPrefixIndex, properties.getScanBatchSize());
+    }
+
+    /**
+     * 가입 알림 전파 및 수신 (재적재는 기동 시 적재를 하는 경우에만)
+     */
+    @Bean
+    public EmailPrefixIndexSync emailPrefixIndexSync(EmailPrefixIndex emailPrefixIndex,
+                                                     ObjectProvider<EmailPrefixIndexLoader> emailPrefixIndexLoader,
+                                                     RedisService redisService,
+                                                     RedisMessageListenerContainer redisMessageListenerContainer,
+                                                     @Qualifier("redisGuard") DependencyGuard redisGuard,
+                                                     UserSearchProperties properties) {
+        return new EmailPrefixIndexSync(emailPrefixIndex, emailPrefixIndexLoader.getIfAvailable(), redisService,
+                redisMessageListenerContainer, redisGuard, properties.getReloadIntervalMs());
+    }
+}
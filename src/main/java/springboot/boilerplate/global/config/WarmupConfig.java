@@ -0,0 +1,43 @@
+package springboot.boilerplate.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import springboot.boilerplate.auth.repository.UserRepository;
+import springboot.boilerplate.global.datasource.ReplicationRoutingDataSource;
+import springboot.boilerplate.global.redis.RedisService;
+import springboot.boilerplate.global.security.JwtUtil;
+import springboot.boilerplate.global.warmup.WarmupProperties;
+import springboot.boilerplate.global.warmup.WarmupRunner;
+
+import javax.sql.DataSource;
+
+/**
+ * 기동 시 워밍업 설정
+ *
+ * spring.warmup.enabled=false 이면 워밍업 없이 바로 트래픽을 받음
+ */
+@Configuration
+@EnableConfigurationProperties(WarmupProperties.class)
+public class WarmupConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public WarmupRunner warmupRunner(WarmupProperties properties, JwtUtil jwtUtil,
+                                     BCryptPasswordEncoder bCryptPasswordEncoder, ObjectMapper objectMapper,
+                                     UserRepository userRepository, RedisService redisService,
+                                     RedisConnectionFactory redisConnectionFactory, DataSource dataSource,
+                                     ObjectProvider<ReplicationRoutingDataSource> replicationRoutingDataSource,
+                                     MeterRegistry meterRegistry) {
+        return new WarmupRunner(properties, jwtUtil, bCryptPasswordEncoder, objectMapper, userRepository,
+                redisService, redisConnectionFactory,
+                WarmupRunner.poolsOf(dataSource, replicationRoutingDataSource.getIfAvailable()),
+                meterRegistry);
+    }
+}
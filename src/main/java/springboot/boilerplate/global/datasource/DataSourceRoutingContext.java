@@ -0,0 +1,45 @@
+package springboot.boilerplate.global.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 DataSource 라우팅 힌트
+ *
+ * 읽기 전용 트랜잭션이라도 Primary에서 읽어야 하는 경우(read-your-writes) 사용
+ */
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private DataSourceRoutingContext() {
+    }
+
+    /**
+     * 주어진 작업을 Primary DataSource에서 실행
+     *
+     * @param action 실행할 작업
+     * @return 작업 결과
+     */
+    public static <T> T callOnPrimary(Supplier<T> action) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            } else {
+                FORCE_PRIMARY.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Primary 강제 여부 확인
+     *
+     * @return Primary로 강제되었으면 true
+     */
+    public static boolean isPrimaryForced() {
+        return FORCE_PRIMARY.get() != null;
+    }
+}
@@ -0,0 +1,70 @@
+package springboot.boilerplate.global.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 쓰기 직후 일정 시간 동안 해당 키의 조회를 Primary로 고정 (read-your-writes)
+ *
+ * 회원가입 직후 Replica 복제 지연으로 로그인이 실패하는 것을 막기 위해 사용
+ * spring.datasource.routing.read-your-writes-window-ms 가 0이면 비활성화
+ *
+ * 쓰기 기록은 노드 로컬 메모리에만 남으므로 쓰기를 처리한 노드의 조회에만 적용됨
+ * 다른 노드로 간 직후 조회는 Replica로 가므로, 로드밸런서의 세션 고정이나 클라이언트 재시도로 보완해야 함
+ */
+@Component
+public class ReadYourWritesWindow {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final long windowMillis;
+    private final Map<Object, Long> recentWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesWindow(@Value("${spring.datasource.routing.read-your-writes-window-ms:0}") long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * 쓰기 발생 기록
+     *
+     * @param key 조회 키 (사용자 ID, 이메일 등)
+     */
+    public void markWritten(Object key) {
+        if (windowMillis <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        recentWrites.put(key, now + windowMillis);
+        if (recentWrites.size() > CLEANUP_THRESHOLD) {
+            recentWrites.values().removeIf(expiresAt -> expiresAt < now);
+        }
+    }
+
+    /**
+     * 조회 실행
+     *
+     * 키가 쓰기 직후 구간에 있으면 Primary에서, 아니면 기본 라우팅으로 조회
+     *
+     * @param key 조회 키
+     * @param reader 조회 작업
+     * @return 조회 결과
+     */
+    public <T> T read(Object key, Supplier<T> reader) {
+        if (recentWrites.isEmpty()) {
+            return reader.get();
+        }
+        Long expiresAt = recentWrites.get(key);
+        if (expiresAt == null) {
+            return reader.get();
+        }
+        if (expiresAt < System.currentTimeMillis()) {
+            recentWrites.remove(key, expiresAt);
+            return reader.get();
+        }
+        return DataSourceRoutingContext.callOnPrimary(reader);
+    }
+}
@@ -0,0 +1,200 @@
+package springboot.boilerplate.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기/쓰기 라우팅 DataSource
+ *
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 정상 상태의 Replica로 라운드로빈 분배하고,
+ * 그 외 요청은 Primary로 보낸다. Spring Data JPA의 조회 메서드는 기본적으로 읽기 전용 트랜잭션으로 실행되므로
+ * 트랜잭션 밖에서 호출된 Repository 조회도 Replica로 라우팅된다.
+ *
+ * 트랜잭션 시작 이후에 라우팅 키가 결정되어야 하므로 반드시 LazyConnectionDataSourceProxy로 감싸서 사용
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    public static final String PRIMARY = "primary";
+    private static final String REPLICA_PREFIX = "replica-";
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas = new LinkedHashMap<>();
+    private final List<String> replicaKeys;
+    private final Set<String> downReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger roundRobin = new AtomicInteger();
+
+    private final long healthCheckIntervalMs;
+    private final int healthCheckTimeoutSeconds;
+    private ScheduledExecutorService healthChecker;
+
+    public ReplicationRoutingDataSource(DataSource primary, List<DataSource> replicas,
+                                        long healthCheckIntervalMs, int healthCheckTimeoutSeconds) {
+        // 헬스 체크가 없으면 비정상으로 표시된 Replica가 다시 사용되지 않음
+        if (healthCheckIntervalMs <= 0) {
+            throw new IllegalArgumentException("healthCheckIntervalMs must be positive");
+        }
+        this.primary = primary;
+        for (int i = 0; i < replicas.size(); i++) {
+            this.replicas.put(REPLICA_PREFIX + i, replicas.get(i));
+        }
+        this.replicaKeys = List.copyOf(this.replicas.keySet());
+        this.healthCheckIntervalMs = healthCheckIntervalMs;
+        this.healthCheckTimeoutSeconds = healthCheckTimeoutSeconds;
+
+        Map<Object, Object> targets = new HashMap<>(this.replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        if (!replicaKeys.isEmpty()) {
+            healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "replica-health-checker");
+                thread.setDaemon(true);
+                return thread;
+            });
+            healthChecker.scheduleWithFixedDelay(this::checkReplicas,
+                    healthCheckIntervalMs, healthCheckIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 상태에 따라 라우팅 키 결정
+     *
+     * @return Primary 또는 정상 상태의 Replica 키
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (DataSourceRoutingContext.isPrimaryForced()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        return nextHealthyReplica();
+    }
+
+    /**
+     * 커넥션 획득
+     *
+     * Replica 커넥션 획득에 실패하면 해당 Replica를 비정상으로 표시하고 Primary로 대체
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+        try {
+            return replicas.get(key).getConnection();
+        } catch (SQLException | RuntimeException e) {
+            markDown((String) key, e);
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * 모든 Replica의 상태를 점검하여 정상/비정상 표시를 갱신
+     */
+    public void checkReplicas() {
+        replicas.forEach((key, dataSource) -> {
+            try (Connection connection = dataSource.getConnection()) {
+                if (connection.isValid(healthCheckTimeoutSeconds)) {
+                    markUp(key);
+                } else {
+                    markDown(key, null);
+                }
+            } catch (SQLException | RuntimeException e) {
+                markDown(key, e);
+            }
+        });
+    }
+
+    /**
+     * 현재 비정상으로 표시된 Replica 키 목록
+     *
+     * @return 비정상 Replica 키
+     */
+    public Set<String> getDownReplicas() {
+        return Collections.unmodifiableSet(downReplicas);
+    }
+
+    /**
+     * 라우팅 대상 전체 DataSource (Primary 포함)
+     *
+     * @return 키별 DataSource
+     */
+    public Map<String, DataSource> getTargets() {
+        Map<String, DataSource> targets = new LinkedHashMap<>();
+        targets.put(PRIMARY, primary);
+        targets.putAll(replicas);
+        return targets;
+    }
+
+    @Override
+    public void close() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        List<DataSource> pools = new ArrayList<>(replicas.values());
+        pools.add(primary);
+        for (DataSource pool : pools) {
+            if (pool instanceof Closeable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("[DataSourceRouting] 커넥션 풀 종료 실패", e);
+                }
+            }
+        }
+    }
+
+    private String nextHealthyReplica() {
+        int size = replicaKeys.size();
+        if (size == 0) {
+            return PRIMARY;
+        }
+        int start = Math.floorMod(roundRobin.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get((start + i) % size);
+            if (downReplicas.isEmpty() || !downReplicas.contains(key)) {
+                return key;
+            }
+        }
+        // 모든 Replica가 비정상이면 Primary로 대체
+        return PRIMARY;
+    }
+
+    private void markDown(String key, Exception cause) {
+        if (downReplicas.add(key)) {
+            log.warn("[DataSourceRouting] {} 비정상 - Primary로 대체합니다. ({})", key,
+                    cause != null ? cause.getMessage() : "isValid=false");
+        }
+    }
+
+    private void markUp(String key) {
+        if (downReplicas.remove(key)) {
+            log.info("[DataSourceRouting] {} 복구됨", key);
+        }
+    }
+}
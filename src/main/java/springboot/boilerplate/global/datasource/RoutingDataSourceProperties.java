@@ -0,0 +1,53 @@
+package springboot.boilerplate.global.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 설정
+ *
+ * Primary 접속 정보는 spring.datasource.* 를 그대로 사용하고,
+ * 커넥션 풀 설정과 Replica 목록은 spring.datasource.routing.* 에서 읽는다
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "spring.datasource.routing")
+public class RoutingDataSourceProperties {
+
+    private boolean enabled = false;
+
+    // Primary 커넥션 풀 설정
+    private Pool primary = new Pool();
+
+    // Replica 목록 (비어 있으면 모든 요청이 Primary로 라우팅)
+    private List<Replica> replicas = new ArrayList<>();
+
+    // Replica 헬스 체크 주기 (밀리초, 0보다 커야 함)
+    private long healthCheckIntervalMs = 5000;
+
+    // Replica 헬스 체크 타임아웃 (초, Connection#isValid 기준)
+    private int healthCheckTimeoutSeconds = 1;
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private int maximumPoolSize = 10;
+        private int minimumIdle = 2;
+        private long connectionTimeoutMs = 3000;
+        private long idleTimeoutMs = 600000;
+        private long maxLifetimeMs = 1800000;
+    }
+
+    @Getter
+    @Setter
+    public static class Replica extends Pool {
+        private String url;
+        // 비어 있으면 Primary 계정 정보를 사용
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,81 @@
+package springboot.boilerplate.global.deadline;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 기한을 JDBC 쿼리 시간 제한으로 전달하는 DataSource
+ *
+ * Statement 생성 시 남은 시간을 초 단위로 올림하여 setQueryTimeout 으로 설정하고,
+ * 이미 기한이 지난 요청은 Statement 를 만들기 전에 DEADLINE_EXCEEDED 로 중단
+ * 기한이 없는 스레드의 쿼리는 그대로 실행
+ */
+public class DeadlineAwareDataSource extends DelegatingDataSource {
+
+    public DeadlineAwareDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        RequestDeadline.check();
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        RequestDeadline.check();
+        return wrap(super.getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                DeadlineAwareDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    boolean createsStatement = isStatementFactory(method);
+                    if (createsStatement) {
+                        RequestDeadline.check();
+                    }
+                    Object result = invoke(method, connection, args);
+                    if (createsStatement && RequestDeadline.isSet()) {
+                        applyQueryTimeout((Statement) result);
+                    }
+                    return result;
+                });
+    }
+
+    private static boolean isStatementFactory(Method method) {
+        String name = method.getName();
+        return name.equals("createStatement") || name.equals("prepareStatement") || name.equals("prepareCall");
+    }
+
+    private static void applyQueryTimeout(Statement statement) throws SQLException {
+        long remainingNanos = RequestDeadline.remainingNanos();
+        if (remainingNanos <= 0) {
+            statement.close();
+            throw new SQLTimeoutException("Request deadline exceeded before query execution");
+        }
+        // 0 은 제한 없음이므로 최소 1초
+        int seconds = (int) Math.min(Integer.MAX_VALUE,
+                Math.max(1, (remainingNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1)));
+        statement.setQueryTimeout(seconds);
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
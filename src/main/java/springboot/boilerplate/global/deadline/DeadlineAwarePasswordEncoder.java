@@ -0,0 +1,80 @@
+package springboot.boilerplate.global.deadline;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import springboot.boilerplate.global.exception.CustomException;
+import springboot.boilerplate.global.exception.ErrorCode;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 기한 안에서만 해시를 계산하는 BCryptPasswordEncoder
+ *
+ * 동시 해시 계산 수를 CPU 수로 제한하고, 남은 시간이 평균 해시 계산 시간보다 짧으면
+ * 계산을 시작하지 않고 DEADLINE_EXCEEDED 로 실패 (어차피 응답이 버려질 요청에 CPU 를 쓰지 않음)
+ * 기한이 없는 스레드는 제한 없이 대기
+ */
+public class DeadlineAwarePasswordEncoder extends BCryptPasswordEncoder {
+
+    // 평균 해시 계산 시간 반영 비율
+    private static final double EWMA_ALPHA = 0.2;
+
+    private final Semaphore permits;
+    private volatile long averageHashNanos;
+
+    public DeadlineAwarePasswordEncoder(int maxConcurrentHashes) {
+        this.permits = new Semaphore(Math.max(1, maxConcurrentHashes), true);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        acquire();
+        long start = System.nanoTime();
+        try {
+            return super.encode(rawPassword);
+        } finally {
+            release(start);
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        acquire();
+        long start = System.nanoTime();
+        try {
+            return super.matches(rawPassword, encodedPassword);
+        } finally {
+            release(start);
+        }
+    }
+
+    /**
+     * 최근 해시 계산 시간 평균 (밀리초)
+     */
+    public double getAverageHashMillis() {
+        return averageHashNanos / 1_000_000.0;
+    }
+
+    private void acquire() {
+        if (!RequestDeadline.isSet()) {
+            permits.acquireUninterruptibly();
+            return;
+        }
+        long budget = RequestDeadline.remainingNanos() - averageHashNanos;
+        try {
+            if (budget <= 0 || !permits.tryAcquire(budget, TimeUnit.NANOSECONDS)) {
+                throw new CustomException(ErrorCode.DEADLINE_EXCEEDED);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.DEADLINE_EXCEEDED);
+        }
+    }
+
+    private void release(long start) {
+        permits.release();
+        long elapsed = System.nanoTime() - start;
+        long average = averageHashNanos;
+        averageHashNanos = average == 0 ? elapsed : (long) (average + EWMA_ALPHA * (elapsed - average));
+    }
+}
@@ -0,0 +1,90 @@
+package springboot.boilerplate.global.deadline;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import springboot.boilerplate.global.exception.CustomException;
+import springboot.boilerplate.global.exception.ErrorCode;
+import springboot.boilerplate.global.exception.SecurityExceptionHandler;
+import springboot.boilerplate.global.resilience.ConcurrencyLimitFilter;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 처리 기한 설정 필터 (JwtAuthenticationFilter 및 로그인 필터보다 앞)
+ *
+ * 기한 = min(헤더 값, 경로별 기한). 이미 기한이 0 이하인 요청은 바로 DEADLINE_EXCEEDED 로 응답하고,
+ * 필터 체인(로그인 필터 포함)에서 기한 초과로 중단된 요청도 같은 에러로 응답
+ * 헤더로 경로별 기한보다 짧아진 요청의 504 는 서버 과부하가 아니므로 동시 요청 수 제한에 반영하지 않음
+ */
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private final String header;
+    private final long defaultMillis;
+    // 긴 접두사부터 확인
+    private final List<Map.Entry<String, Long>> endpoints;
+    private final SecurityExceptionHandler securityExceptionHandler;
+
+    public DeadlineFilter(DeadlineProperties properties, SecurityExceptionHandler securityExceptionHandler) {
+        this.header = properties.getHeader();
+        this.defaultMillis = properties.getDefaultMs();
+        this.endpoints = properties.getEndpoints().entrySet().stream()
+                .sorted(Comparator.comparingInt((Map.Entry<String, Long> entry) -> entry.getKey().length()).reversed())
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                .toList();
+        this.securityExceptionHandler = securityExceptionHandler;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long budget = budgetMillis(request);
+        if (budget < endpointMillis(request.getRequestURI())) {
+            ConcurrencyLimitFilter.ignoreStatus(request, HttpStatus.GATEWAY_TIMEOUT);
+        }
+        if (budget <= 0) {
+            securityExceptionHandler.writeErrorResponse(request, response, ErrorCode.DEADLINE_EXCEEDED);
+            return;
+        }
+
+        RequestDeadline.start(budget);
+        try {
+            filterChain.doFilter(request, response);
+        } catch (CustomException e) {
+            // 컨트롤러 밖(로그인 필터 등)에서 기한 초과로 중단된 경우
+            if (e.getErrorCode() != ErrorCode.DEADLINE_EXCEEDED || response.isCommitted()) {
+                throw e;
+            }
+            securityExceptionHandler.writeErrorResponse(request, response, ErrorCode.DEADLINE_EXCEEDED);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    long budgetMillis(HttpServletRequest request) {
+        long limit = endpointMillis(request.getRequestURI());
+        String value = request.getHeader(header);
+        if (value == null) {
+            return limit;
+        }
+        try {
+            return Math.min(limit, Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return limit;
+        }
+    }
+
+    private long endpointMillis(String uri) {
+        for (Map.Entry<String, Long> endpoint : endpoints) {
+            if (uri.startsWith(endpoint.getKey())) {
+                return endpoint.getValue();
+            }
+        }
+        return defaultMillis;
+    }
+}
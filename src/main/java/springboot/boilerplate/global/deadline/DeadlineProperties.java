@@ -0,0 +1,29 @@
+package springboot.boilerplate.global.deadline;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 처리 기한 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "spring.deadline")
+public class DeadlineProperties {
+
+    // 비활성화 시 기한을 설정하지 않음
+    private boolean enabled = true;
+
+    // 클라이언트가 남은 대기 시간을 알려주는 헤더 (밀리초)
+    private String header = "X-Request-Timeout-Ms";
+
+    // 헤더와 경로별 설정이 없을 때의 기한 (밀리초)
+    private long defaultMs = 10_000;
+
+    // 경로 접두사별 기한 (밀리초, 가장 긴 접두사 우선). 헤더 값은 이 값을 넘을 수 없음
+    private Map<String, Long> endpoints = new LinkedHashMap<>();
+}
@@ -0,0 +1,36 @@
+package springboot.boilerplate.global.deadline;
+
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.protocol.RedisCommand;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lettuce 명령 시간 제한을 요청 기한에 맞추는 TimeoutSource
+ *
+ * 명령을 보내는 스레드에 남은 시간이 설정된 명령 시간 제한보다 짧으면 남은 시간을 사용
+ * (write-behind, 헤지 조회처럼 요청 스레드 밖에서 보내는 명령은 기본 시간 제한 사용)
+ */
+public class DeadlineTimeoutSource extends TimeoutOptions.TimeoutSource {
+
+    // 이미 기한이 지난 명령에 주는 최소 시간 제한 (0 은 제한 없음으로 해석되므로 사용하지 않음)
+    private static final long MIN_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final long commandTimeoutNanos;
+
+    public DeadlineTimeoutSource(Duration commandTimeout) {
+        this.commandTimeoutNanos = commandTimeout.toNanos();
+    }
+
+    @Override
+    public long getTimeout(RedisCommand<?, ?, ?> command) {
+        long remaining = RequestDeadline.remainingNanos();
+        return Math.max(MIN_TIMEOUT_NANOS, Math.min(commandTimeoutNanos, remaining));
+    }
+
+    @Override
+    public TimeUnit getTimeUnit() {
+        return TimeUnit.NANOSECONDS;
+    }
+}
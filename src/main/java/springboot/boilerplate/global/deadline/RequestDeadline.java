@@ -0,0 +1,75 @@
+package springboot.boilerplate.global.deadline;
+
+import springboot.boilerplate.global.exception.CustomException;
+import springboot.boilerplate.global.exception.ErrorCode;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 현재 요청 스레드의 처리 기한
+ *
+ * DeadlineFilter 가 요청 시작 시 설정하고 요청이 끝나면 제거
+ * 기한이 없는 스레드(스케줄러, write-behind 등)에서는 모든 메서드가 제한 없음으로 동작
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    /**
+     * 지금부터 budgetMillis 뒤를 기한으로 설정
+     */
+    public static void start(long budgetMillis) {
+        DEADLINE_NANOS.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis));
+    }
+
+    public static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+
+    public static boolean isSet() {
+        return DEADLINE_NANOS.get() != null;
+    }
+
+    /**
+     * 남은 시간 (나노초, 기한이 없으면 Long.MAX_VALUE)
+     */
+    public static long remainingNanos() {
+        Long deadline = DEADLINE_NANOS.get();
+        return deadline == null ? Long.MAX_VALUE : deadline - System.nanoTime();
+    }
+
+    /**
+     * 남은 시간 (밀리초, 기한이 없으면 Long.MAX_VALUE)
+     */
+    public static long remainingMillis() {
+        long remaining = remainingNanos();
+        return remaining == Long.MAX_VALUE ? Long.MAX_VALUE : TimeUnit.NANOSECONDS.toMillis(remaining);
+    }
+
+    public static boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * 기한이 지났으면 DEADLINE_EXCEEDED 로 중단
+     *
+     * @throws CustomException 기한이 지난 경우
+     */
+    public static void check() {
+        if (isExpired()) {
+            throw new CustomException(ErrorCode.DEADLINE_EXCEEDED);
+        }
+    }
+
+    /**
+     * 설정된 시간 제한과 남은 시간 중 짧은 쪽 (밀리초)
+     *
+     * @param limitMillis 기본 시간 제한
+     */
+    public static long boundMillis(long limitMillis) {
+        return Math.min(limitMillis, remainingMillis());
+    }
+}
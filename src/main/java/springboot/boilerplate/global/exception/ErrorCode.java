@@ -9,6 +9,7 @@ import org.springframework.http.HttpStatus;
 public enum ErrorCode {
     // 400 Bad Request
     INVALID_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
+    TOO_MANY_TOKENS(HttpStatus.BAD_REQUEST, "한 번에 검증할 수 있는 토큰 수를 초과했습니다."),
 
     // 401 Unauthorized
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "인증이 필요합니다."),
@@ -26,7 +27,15 @@ public enum ErrorCode {
     EMAIL_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 존재하는 이메일입니다."),
 
     // 500 Internal Server Error
-    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다.");
+    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다."),
+
+    // 503 Service Unavailable
+    TOKEN_STORE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "토큰 저장소에 일시적으로 접근할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    DATABASE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "데이터베이스에 일시적으로 접근할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    SERVER_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
+    // 504 Gateway Timeout
+    DEADLINE_EXCEEDED(HttpStatus.GATEWAY_TIMEOUT, "요청 처리 시간이 초과되었습니다.");
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -1,13 +1,21 @@
 package springboot.boilerplate.global.exception;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpResponse;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import springboot.boilerplate.global.common.BaseResponse;
+import springboot.boilerplate.global.config.JacksonConfig;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * 필터 레벨
@@ -17,26 +25,93 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class SecurityExceptionHandler {
 
-    private final ObjectMapper objectMapper;
+    // 에러 응답으로 제공하는 형식 (첫 번째가 기본값)
+    private static final List<MediaType> ERROR_MEDIA_TYPES = List.of(
+            MediaType.APPLICATION_JSON,
+            MediaType.APPLICATION_CBOR,
+            JacksonConfig.APPLICATION_SMILE
+    );
+
+    // MVC와 같은 메시지 컨버터를 사용하여 컨트롤러 응답과 같은 형식으로 작성
+    private final HttpMessageConverters httpMessageConverters;
 
     /**
-     * 에러 응답을 JSON 형식으로 작성
+     * 에러 응답 작성
+     * 
+     * Accept 헤더에 따라 JSON(기본), CBOR, Smile 중 하나로 작성
      * 
+     * @param request HTTP 요청
      * @param response HTTP 응답
      * @param errorCode 에러 코드
      * @throws IOException IO 예외
      */
-    public void writeErrorResponse(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+    @SuppressWarnings("unchecked")
+    public void writeErrorResponse(HttpServletRequest request, HttpServletResponse response, ErrorCode errorCode) throws IOException {
         response.setStatus(errorCode.getHttpStatus().value());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding("UTF-8");
-        
+
         BaseResponse<Void> errorResponse = BaseResponse.error(
                 errorCode.getMessage(),
                 errorCode.getHttpStatus()
         );
-        
-        objectMapper.writeValue(response.getWriter(), errorResponse);
+
+        MediaType mediaType = resolveMediaType(request);
+        for (HttpMessageConverter<?> converter : httpMessageConverters) {
+            if (converter.canWrite(BaseResponse.class, mediaType)) {
+                ((HttpMessageConverter<Object>) converter).write(errorResponse, mediaType, new ServletServerHttpResponse(response));
+                return;
+            }
+        }
+        throw new IllegalStateException("No HttpMessageConverter for " + mediaType);
+    }
+
+    private static MediaType resolveMediaType(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (!StringUtils.hasText(accept)) {
+            return MediaType.APPLICATION_JSON;
+        }
+
+        List<MediaType> acceptedTypes;
+        try {
+            acceptedTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        // q 값이 가장 높은 형식 선택 (같으면 ERROR_MEDIA_TYPES 순서, q=0 은 제외)
+        MediaType best = null;
+        double bestQuality = 0;
+        for (MediaType errorMediaType : ERROR_MEDIA_TYPES) {
+            double quality = qualityOf(errorMediaType, acceptedTypes);
+            if (quality > bestQuality) {
+                best = errorMediaType;
+                bestQuality = quality;
+            }
+        }
+        if (best != null) {
+            return best;
+        }
+        // 지원하지 않는 형식만 요청한 경우에도 에러 본문은 JSON으로 제공
+        return MediaType.APPLICATION_JSON;
     }
-}
 
+    /**
+     * 형식을 포함하는 Accept 범위 중 가장 구체적인 범위의 q 값 (포함하는 범위가 없으면 0)
+     */
+    private static double qualityOf(MediaType mediaType, List<MediaType> acceptedTypes) {
+        MediaType matched = null;
+        for (MediaType acceptedType : acceptedTypes) {
+            if (acceptedType.includes(mediaType)
+                    && (matched == null || specificity(acceptedType) > specificity(matched))) {
+                matched = acceptedType;
+            }
+        }
+        return matched != null ? matched.getQualityValue() : 0;
+    }
+
+    // */* < type/* < type/subtype
+    private static int specificity(MediaType mediaType) {
+        if (mediaType.isWildcardType()) {
+            return 0;
+        }
+        return mediaType.isWildcardSubtype() ? 1 : 2;
+    }
+}
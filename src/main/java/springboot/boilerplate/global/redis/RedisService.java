@@ -1,22 +1,50 @@
 package springboot.boilerplate.global.redis;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 import org.springframework.data.redis.core.RedisTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Service
-@RequiredArgsConstructor
 public class RedisService {
 
     private final RedisTemplate<String, String> redisTemplate;
+    // Cluster 모드에서는 폐기 목록을 Master 노드별로 SCAN
+    private final boolean clusterMode;
     private static final String REFRESH_TOKEN_PREFIX = "refresh:";
+    private static final String REVOKED_TOKEN_PREFIX = "revoked:";
+    private static final int SCAN_BATCH_SIZE = 500;
+
+    // Access Token 폐기 알림 채널 (메시지 형식: "{jti}:{만료 시각 epoch ms}")
+    public static final String TOKEN_REVOCATION_CHANNEL = "token-revocations";
+    // 회원가입 알림 채널 (메시지 형식: "{사용자 ID}:{이메일}")
+    public static final String USER_SIGNUP_CHANNEL = "user-signups";
+
+    public RedisService(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.clusterMode = redisTemplate != null
+                && redisTemplate.getConnectionFactory() instanceof LettuceConnectionFactory factory
+                && factory.isClusterAware();
+    }
 
     // RefreshToken 저장 (TTL 설정 포함)
     public void saveRefreshToken(Long userId, String refreshToken, long ttlMillis) {
         redisTemplate.opsForValue().set(
-                REFRESH_TOKEN_PREFIX + userId,
+                refreshTokenKey(userId),
                 refreshToken,
                 ttlMillis,
                 TimeUnit.MILLISECONDS
@@ -25,12 +53,13 @@ public class RedisService {
 
     /**
      * 저장된 Refresh Token 조회
+     *
      * 
      * @param userId 사용자 ID
      * @return 저장된 Refresh Token, 없으면 null
      */
     public String getRefreshToken(Long userId) {
-        return redisTemplate.opsForValue().get(REFRESH_TOKEN_PREFIX + userId);
+        return redisTemplate.opsForValue().get(refreshTokenKey(userId));
     }
 
     /**
@@ -39,7 +68,54 @@ public class RedisService {
      * @param userId 사용자 ID
      */
     public void deleteRefreshToken(Long userId) {
-        redisTemplate.delete(REFRESH_TOKEN_PREFIX + userId);
+        redisTemplate.delete(refreshTokenKey(userId));
+    }
+
+    /**
+     * Refresh Token 저장/삭제를 한 번의 파이프라인으로 전송
+     *
+     * 명령은 목록 순서대로 적용되므로 같은 사용자의 쓰기가 여러 번 있어도 마지막 쓰기가 남음
+     *
+     * @param writes 적용할 쓰기 목록
+     */
+    public void applyRefreshTokenWrites(List<RefreshTokenWrite> writes) {
+        if (writes.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (RefreshTokenWrite write : writes) {
+                    String key = refreshTokenKey(write.userId());
+                    if (write.isDelete()) {
+                        ops.delete(key);
+                    } else {
+                        ops.opsForValue().set(key, write.refreshToken(), write.ttlMillis(), TimeUnit.MILLISECONDS);
+                    }
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Refresh Token 쓰기 (refreshToken이 null이면 삭제)
+     */
+    public record RefreshTokenWrite(Long userId, String refreshToken, long ttlMillis) {
+
+        public static RefreshTokenWrite save(Long userId, String refreshToken, long ttlMillis) {
+            return new RefreshTokenWrite(userId, refreshToken, ttlMillis);
+        }
+
+        public static RefreshTokenWrite delete(Long userId) {
+            return new RefreshTokenWrite(userId, null, 0);
+        }
+
+        public boolean isDelete() {
+            return refreshToken == null;
+        }
     }
 
     /**
@@ -49,6 +125,103 @@ public class RedisService {
      * @return 키가 존재하면 true, 없으면 false
      */
     public boolean hasKey(Long userId) {
-        return redisTemplate.hasKey(REFRESH_TOKEN_PREFIX + userId);
+        return redisTemplate.hasKey(refreshTokenKey(userId));
+    }
+
+    /**
+     * 폐기된 Access Token 저장 후 다른 노드에 알림
+     * 
+     * @param tokenId 토큰 ID (jti)
+     * @param expiresAtMillis 토큰 만료 시각 (epoch 밀리초)
+     * @param ttlMillis 남은 토큰 수명 (밀리초)
+     */
+    public void saveRevokedAccessToken(String tokenId, long expiresAtMillis, long ttlMillis) {
+        redisTemplate.opsForValue().set(
+                REVOKED_TOKEN_PREFIX + tokenId,
+                String.valueOf(expiresAtMillis),
+                ttlMillis,
+                TimeUnit.MILLISECONDS
+        );
+        redisTemplate.convertAndSend(TOKEN_REVOCATION_CHANNEL, tokenId + ":" + expiresAtMillis);
+    }
+
+    /**
+     * 회원가입을 다른 노드에 알림 (이메일 검색 색인 갱신용)
+     *
+     * @param userId 사용자 ID
+     * @param email 이메일
+     */
+    public void publishUserSignup(Long userId, String email) {
+        redisTemplate.convertAndSend(USER_SIGNUP_CHANNEL, userId + ":" + email);
+    }
+
+    /**
+     * 폐기된 Access Token 전체 조회 (SCAN 사용)
+     *
+     * 
+     * @return 토큰 ID별 만료 시각 (epoch 밀리초)
+     */
+    public Map<String, Long> getRevokedAccessTokens() {
+        Map<String, Long> revoked = new HashMap<>();
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(REVOKED_TOKEN_PREFIX + "*")
+                .count(SCAN_BATCH_SIZE)
+                .build();
+        List<String> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+        if (clusterMode) {
+            // Cluster 전체 SCAN은 지원되지 않으므로 Master 노드별로 SCAN
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                RedisClusterConnection clusterConnection = (RedisClusterConnection) connection;
+                for (RedisClusterNode node : clusterConnection.clusterGetNodes()) {
+                    if (node.isMaster()) {
+                        scanNode(clusterConnection, node, options, batch, revoked);
+                    }
+                }
+                return null;
+            });
+        } else {
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    batch.add(cursor.next());
+                    if (batch.size() == SCAN_BATCH_SIZE) {
+                        collectRevoked(batch, revoked);
+                    }
+                }
+            }
+        }
+        collectRevoked(batch, revoked);
+        return revoked;
+    }
+
+    private void scanNode(RedisClusterConnection connection, RedisClusterNode node, ScanOptions options,
+                          List<String> batch, Map<String, Long> revoked) {
+        try (Cursor<byte[]> cursor = connection.scan(node, options)) {
+            while (cursor.hasNext()) {
+                batch.add(new String(cursor.next(), StandardCharsets.UTF_8));
+                if (batch.size() == SCAN_BATCH_SIZE) {
+                    collectRevoked(batch, revoked);
+                }
+            }
+        }
+    }
+
+    // 단일 키 명령만 사용하므로 Cluster 모드에서도 hash tag 없이 사용
+    private static String refreshTokenKey(Long userId) {
+        return REFRESH_TOKEN_PREFIX + userId;
+    }
+
+    private void collectRevoked(List<String> keys, Map<String, Long> revoked) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        for (int i = 0; i < keys.size(); i++) {
+            // SCAN 이후 만료된 키는 null
+            String value = values != null ? values.get(i) : null;
+            if (value != null) {
+                revoked.put(keys.get(i).substring(REVOKED_TOKEN_PREFIX.length()), Long.parseLong(value));
+            }
+        }
+        keys.clear();
     }
 }
\ No newline at end of file
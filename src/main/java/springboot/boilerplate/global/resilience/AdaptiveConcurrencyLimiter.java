@@ -0,0 +1,177 @@
+package springboot.boilerplate.global.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 지연 시간 기반 적응형 동시 요청 수 제한 (gradient 방식)
+ *
+ * 구간(window)마다 평균 지연(shortRtt)을 장기 평균 지연(longRtt)과 비교하여
+ * 지연이 늘면 제한을 줄이고, 지연이 그대로인데 제한까지 사용 중이면 sqrt(limit) 만큼 늘림
+ * 503/504 로 끝난 요청의 비율이 backoffDropRate 이상인 구간은 backoffRatio 만큼 제한을 줄임
+ * (가끔 발생하는 개별 실패로는 줄이지 않음)
+ * 제한을 넘는 요청은 기다리지 않고 바로 거절
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    // 장기 평균 지연에 반영하는 최근 구간 비중 (약 20 구간)
+    private static final double LONG_RTT_WEIGHT = 0.05;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final double backoffRatio;
+    private final double backoffDropRate;
+    private final long windowNanos;
+    private final int minWindowSamples;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // 현재 구간의 측정값
+    private final AtomicLong windowStart;
+    private final LongAdder windowRttNanos = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final LongAdder windowDrops = new LongAdder();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+
+    // update() 에서만 변경 (synchronized)
+    private double estimatedLimit;
+    private double longRttNanos;
+
+    private final LongAdder rejections = new LongAdder();
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, double smoothing,
+                                      double tolerance, double backoffRatio, double backoffDropRate,
+                                      long windowMillis, int minWindowSamples) {
+        this(name, initialLimit, minLimit, maxLimit, smoothing, tolerance, backoffRatio, backoffDropRate, windowMillis,
+                minWindowSamples, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, double smoothing,
+                               double tolerance, double backoffRatio, double backoffDropRate, long windowMillis,
+                               int minWindowSamples, LongSupplier nanoClock) {
+        if (minLimit <= 0 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("limits must satisfy 0 < minLimit <= maxLimit");
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.backoffRatio = backoffRatio;
+        this.backoffDropRate = backoffDropRate;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.minWindowSamples = minWindowSamples;
+        this.nanoClock = nanoClock;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+        this.windowStart = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * 요청 시작 (제한에 도달했으면 바로 false)
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejections.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                windowMaxInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 요청 종료
+     *
+     * @param rttNanos 요청 처리 시간
+     * @param dropped 과부하로 실패한 요청인지 (503/504 등)
+     */
+    public void release(long rttNanos, boolean dropped) {
+        inFlight.decrementAndGet();
+        windowRttNanos.add(rttNanos);
+        windowSamples.increment();
+        if (dropped) {
+            windowDrops.increment();
+        }
+
+        long now = nanoClock.getAsLong();
+        long start = windowStart.get();
+        if (now - start >= windowNanos && windowSamples.sum() >= minWindowSamples
+                && windowStart.compareAndSet(start, now)) {
+            update();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 현재 동시 요청 수 제한
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * 현재 처리 중인 요청 수
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 제한 초과로 거절한 요청 수
+     */
+    public long getRejections() {
+        return rejections.sum();
+    }
+
+    private synchronized void update() {
+        long samples = windowSamples.sumThenReset();
+        long totalRtt = windowRttNanos.sumThenReset();
+        long drops = windowDrops.sumThenReset();
+        int maxInFlight = windowMaxInFlight.getAndSet(0);
+        if (samples == 0) {
+            return;
+        }
+
+        double shortRtt = (double) totalRtt / samples;
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+        } else {
+            longRttNanos = longRttNanos * (1 - LONG_RTT_WEIGHT) + shortRtt * LONG_RTT_WEIGHT;
+        }
+        // 과부하가 끝나 지연이 크게 줄었으면 기준 지연도 빠르게 낮춤
+        if (longRttNanos > shortRtt * 2) {
+            longRttNanos *= 0.95;
+        }
+
+        double newLimit;
+        if (drops > 0 && drops >= samples * backoffDropRate) {
+            newLimit = estimatedLimit * backoffRatio;
+        } else if (maxInFlight < estimatedLimit / 2) {
+            // 제한의 절반도 사용하지 않았으면 늘릴 근거가 없음
+            return;
+        } else {
+            double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / shortRtt));
+            newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        }
+
+        estimatedLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit));
+        limit = (int) estimatedLimit;
+    }
+}
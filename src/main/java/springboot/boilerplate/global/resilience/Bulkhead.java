@@ -0,0 +1,49 @@
+package springboot.boilerplate.global.resilience;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 의존 서비스별 동시 호출 수 제한
+ *
+ * 의존 서비스가 느려져도 요청 스레드 전체가 묶이지 않도록 maxConcurrentCalls 를 넘는 호출은
+ * 최대 maxWait 만큼만 기다린 뒤 거절
+ */
+public class Bulkhead {
+
+    private final Semaphore permits;
+    private final int maxConcurrentCalls;
+    private final long maxWaitNanos;
+
+    public Bulkhead(int maxConcurrentCalls, long maxWaitMillis) {
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+    }
+
+    public boolean tryAcquire() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        if (maxWaitNanos <= 0) {
+            return false;
+        }
+        try {
+            return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * 현재 진행 중인 호출 수
+     */
+    public int getActiveCalls() {
+        return maxConcurrentCalls - permits.availablePermits();
+    }
+}
@@ -0,0 +1,146 @@
+package springboot.boilerplate.global.resilience;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 호출 수 기반 슬라이딩 윈도우 서킷 브레이커
+ *
+ * 최근 windowSize 번의 호출 중 실패(느린 호출 포함) 비율이 임계값 이상이면 OPEN으로 전환하여
+ * openDuration 동안 호출을 바로 거절하고, 이후 HALF_OPEN에서 시험 호출 결과로 닫거나 다시 엶
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationMillis;
+    private final int halfOpenPermits;
+    private final LongSupplier clock;
+
+    // 최근 호출 결과 (true = 실패)
+    private final boolean[] outcomes;
+    private int position;
+    private int recorded;
+    private int failures;
+
+    private volatile State state = State.CLOSED;
+    private long openedAtMillis;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold,
+                          long openDurationMillis, int halfOpenPermits) {
+        this(windowSize, minimumCalls, failureRateThreshold, openDurationMillis, halfOpenPermits,
+                System::currentTimeMillis);
+    }
+
+    CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold,
+                   long openDurationMillis, int halfOpenPermits, LongSupplier clock) {
+        if (windowSize <= 0 || halfOpenPermits <= 0) {
+            throw new IllegalArgumentException("windowSize and halfOpenPermits must be positive");
+        }
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(Math.max(1, minimumCalls), windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.halfOpenPermits = halfOpenPermits;
+        this.clock = clock;
+        this.outcomes = new boolean[windowSize];
+    }
+
+    /**
+     * 호출 허용 여부 (허용된 호출은 반드시 onSuccess/onFailure/onIgnored 중 하나로 결과를 기록)
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAtMillis < openDurationMillis) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenInFlight = 0;
+            halfOpenSuccesses = 0;
+        }
+        if (halfOpenInFlight >= halfOpenPermits) {
+            return false;
+        }
+        halfOpenInFlight++;
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+            if (++halfOpenSuccesses >= halfOpenPermits) {
+                close();
+            }
+            return;
+        }
+        record(false);
+    }
+
+    /**
+     * 결과를 기록하지 않고 허용만 반납 (요청 기한 초과처럼 의존 서비스 상태와 무관한 실패)
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && recorded >= minimumCalls
+                && failures * 100 >= failureRateThreshold * recorded) {
+            open();
+        }
+    }
+
+    /**
+     * 결과를 기록하지 않는 작업을 받아도 되는지 (OPEN 유지 시간 동안만 false, 허용을 소비하지 않음)
+     */
+    public synchronized boolean isAccepting() {
+        return state != State.OPEN || clock.getAsLong() - openedAtMillis >= openDurationMillis;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == windowSize) {
+            if (outcomes[position]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[position] = failure;
+        if (failure) {
+            failures++;
+        }
+        position = (position + 1) % windowSize;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtMillis = clock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        position = 0;
+        recorded = 0;
+        failures = 0;
+    }
+}
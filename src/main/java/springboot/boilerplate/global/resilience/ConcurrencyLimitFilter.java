@@ -0,0 +1,106 @@
+package springboot.boilerplate.global.resilience;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import springboot.boilerplate.global.exception.ErrorCode;
+import springboot.boilerplate.global.exception.SecurityExceptionHandler;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 적응형 동시 요청 수 제한 필터 (보안 필터 체인의 가장 앞)
+ *
+ * 인증 경로와 나머지 API 에 각각의 제한을 적용하며, 제한을 넘는 요청은
+ * 인증/기한 처리 전에 SERVER_OVERLOADED(503)로 바로 응답
+ * 503/504 로 끝난 요청은 과부하 신호로 제한기에 알리되, ignoreStatus 로 표시된 응답
+ * (클라이언트가 줄인 기한으로 끝난 504, 의존 서비스 브레이커가 열려 바로 실패한 503)은 제외
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    public static final String IGNORED_STATUS_ATTRIBUTE = ConcurrencyLimitFilter.class.getName() + ".IGNORED_STATUS";
+
+    private final AdaptiveConcurrencyLimiter authLimiter;
+    private final AdaptiveConcurrencyLimiter apiLimiter;
+    private final List<String> authPaths;
+    private final List<String> excludedPaths;
+    private final SecurityExceptionHandler securityExceptionHandler;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter authLimiter, AdaptiveConcurrencyLimiter apiLimiter,
+                                  ConcurrencyLimitProperties properties,
+                                  SecurityExceptionHandler securityExceptionHandler) {
+        this.authLimiter = authLimiter;
+        this.apiLimiter = apiLimiter;
+        this.authPaths = List.copyOf(properties.getAuthPaths());
+        this.excludedPaths = List.copyOf(properties.getExcludedPaths());
+        this.securityExceptionHandler = securityExceptionHandler;
+    }
+
+    /**
+     * 요청이 status 로 끝나도 과부하 신호로 보지 않도록 표시
+     */
+    public static void ignoreStatus(ServletRequest request, HttpStatus status) {
+        request.setAttribute(IGNORED_STATUS_ATTRIBUTE, status.value());
+    }
+
+    /**
+     * 현재 스레드가 처리 중인 요청에 표시 (요청 스레드가 아니면 무시)
+     */
+    public static void ignoreStatus(HttpStatus status) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(IGNORED_STATUS_ATTRIBUTE, status.value(), RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return startsWithAny(path(request), excludedPaths);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter limiter = startsWithAny(path(request), authPaths) ? authLimiter : apiLimiter;
+        if (!limiter.tryAcquire()) {
+            securityExceptionHandler.writeErrorResponse(request, response, ErrorCode.SERVER_OVERLOADED);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = isOverload(request, response.getStatus());
+        } finally {
+            // 예외로 끝난 요청도 과부하 신호로 취급
+            limiter.release(System.nanoTime() - start, dropped);
+        }
+    }
+
+    private static boolean isOverload(HttpServletRequest request, int status) {
+        if (status != HttpStatus.SERVICE_UNAVAILABLE.value() && status != HttpStatus.GATEWAY_TIMEOUT.value()) {
+            return false;
+        }
+        return !Integer.valueOf(status).equals(request.getAttribute(IGNORED_STATUS_ATTRIBUTE));
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static boolean startsWithAny(String path, List<String> prefixes) {
+        for (String prefix : prefixes) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,59 @@
+package springboot.boilerplate.global.resilience;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 적응형 동시 요청 수 제한 설정
+ *
+ * 인증 경로(로그인/재발급 등)와 나머지 API 에 서로 다른 제한을 적용
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "spring.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    // 비활성화 시 제한 없음
+    private boolean enabled = true;
+    // 인증 경로 접두사 (authLimit 적용)
+    private List<String> authPaths = new ArrayList<>(List.of("/login", "/api/v1/auth/"));
+    // 제한하지 않는 경로 접두사 (헬스 체크 등)
+    private List<String> excludedPaths = new ArrayList<>(List.of("/actuator/health"));
+    private Limit auth = new Limit(20, 4, 200);
+    private Limit api = new Limit(100, 10, 1000);
+
+    @Getter
+    @Setter
+    public static class Limit {
+        // 시작 제한
+        private int initialLimit;
+        // 제한 하한/상한
+        private int minLimit;
+        private int maxLimit;
+        // 새 제한 반영 비율 (0~1)
+        private double smoothing = 0.2;
+        // 장기 평균 대비 허용하는 지연 증가 배율
+        private double tolerance = 1.5;
+        // 과부하 응답(503/504) 비율이 backoffDropRate 이상인 구간의 제한 감소 비율
+        private double backoffRatio = 0.9;
+        // 제한을 줄이는 구간당 과부하 응답 비율 (0~1)
+        private double backoffDropRate = 0.1;
+        // 제한을 다시 계산하는 주기 (밀리초)
+        private long windowMs = 1_000;
+        // 제한 계산에 필요한 구간당 최소 요청 수
+        private int minWindowSamples = 10;
+
+        public Limit() {
+        }
+
+        Limit(int initialLimit, int minLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+    }
+}
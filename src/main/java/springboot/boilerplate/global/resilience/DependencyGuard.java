@@ -0,0 +1,141 @@
+package springboot.boilerplate.global.resilience;
+
+import lombok.Getter;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.dao.UncategorizedDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import springboot.boilerplate.global.deadline.RequestDeadline;
+import springboot.boilerplate.global.exception.CustomException;
+import springboot.boilerplate.global.exception.ErrorCode;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 의존 서비스(Redis, DB) 호출 보호 (bulkhead + circuit breaker)
+ *
+ * 동시 호출 수를 넘거나 브레이커가 열려 있으면 의존 서비스를 호출하지 않고 바로
+ * unavailableCode 로 실패하며(브레이커로 실패한 응답은 동시 요청 수 제한에 반영하지 않음), 연결/시간 초과 계열 예외와 slowCallMillis 를 넘긴 호출을 실패로 기록
+ * 중복 키 등 요청 자체의 오류는 실패로 기록하지 않음
+ * 요청 기한이 지난 뒤의 호출은 시작하지 않으며, 기한 초과로 끝난 호출은 의존 서비스 장애로 기록하지 않고
+ * DEADLINE_EXCEEDED 로 실패
+ */
+public class DependencyGuard {
+
+    @Getter
+    private final String name;
+    @Getter
+    private final CircuitBreaker circuitBreaker;
+    @Getter
+    private final Bulkhead bulkhead;
+    private final long slowCallNanos;
+    private final ErrorCode unavailableCode;
+
+    private final LongAdder bulkheadRejections = new LongAdder();
+    private final LongAdder circuitRejections = new LongAdder();
+
+    public DependencyGuard(String name, Bulkhead bulkhead, CircuitBreaker circuitBreaker,
+                           long slowCallMillis, ErrorCode unavailableCode) {
+        this.name = name;
+        this.bulkhead = bulkhead;
+        this.circuitBreaker = circuitBreaker;
+        this.slowCallNanos = slowCallMillis * 1_000_000L;
+        this.unavailableCode = unavailableCode;
+    }
+
+    /**
+     * 보호된 호출 실행
+     *
+     * @param call 의존 서비스 호출
+     * @return 호출 결과
+     * @throws CustomException 동시 호출 수 초과 또는 브레이커가 열린 경우 (unavailableCode), 요청 기한이 지난 경우 (DEADLINE_EXCEEDED)
+     */
+    public <T> T call(Supplier<T> call) {
+        RequestDeadline.check();
+        if (!bulkhead.tryAcquire()) {
+            bulkheadRejections.increment();
+            throw new CustomException(unavailableCode);
+        }
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                circuitRejections.increment();
+                // 이 서버의 과부하가 아니므로 동시 요청 수 제한을 줄이지 않음
+                ConcurrencyLimitFilter.ignoreStatus(unavailableCode.getHttpStatus());
+                throw new CustomException(unavailableCode);
+            }
+            long start = System.nanoTime();
+            T result;
+            try {
+                result = call.get();
+            } catch (RuntimeException e) {
+                if (RequestDeadline.isExpired()) {
+                    // 시간 제한을 요청 기한에 맞춰 줄였으므로 의존 서비스가 느린 것으로 보지 않음
+                    circuitBreaker.onIgnored();
+                    throw new CustomException(ErrorCode.DEADLINE_EXCEEDED);
+                }
+                if (isDependencyFailure(e)) {
+                    circuitBreaker.onFailure();
+                } else {
+                    circuitBreaker.onSuccess();
+                }
+                throw e;
+            }
+            if (slowCallNanos > 0 && System.nanoTime() - start > slowCallNanos && !RequestDeadline.isExpired()) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+            return result;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public void run(Runnable call) {
+        call(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * 브레이커가 열려 있으면 바로 실패 (나중에 다른 스레드가 보호된 호출로 반영하는 작업의 접수용, 결과는 기록하지 않음)
+     *
+     * @throws CustomException 브레이커가 열린 경우 (unavailableCode)
+     */
+    public void rejectIfOpen() {
+        if (!circuitBreaker.isAccepting()) {
+            circuitRejections.increment();
+            ConcurrencyLimitFilter.ignoreStatus(unavailableCode.getHttpStatus());
+            throw new CustomException(unavailableCode);
+        }
+    }
+
+    public long getBulkheadRejections() {
+        return bulkheadRejections.sum();
+    }
+
+    public long getCircuitRejections() {
+        return circuitRejections.sum();
+    }
+
+    /**
+     * 브레이커 상태 수치 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)
+     */
+    public int getStateValue() {
+        return circuitBreaker.getState().ordinal();
+    }
+
+    /**
+     * 의존 서비스 장애로 볼 예외인지 (연결 실패, 시간 초과, 분류되지 않은 드라이버 오류)
+     */
+    static boolean isDependencyFailure(Throwable e) {
+        return e instanceof DataAccessResourceFailureException
+                || e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof UncategorizedDataAccessException
+                || e instanceof CannotCreateTransactionException;
+    }
+}
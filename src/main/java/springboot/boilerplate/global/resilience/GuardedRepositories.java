@@ -0,0 +1,47 @@
+package springboot.boilerplate.global.resilience;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Repository 호출을 DependencyGuard 로 감싸는 프록시 생성
+ */
+public final class GuardedRepositories {
+
+    private GuardedRepositories() {
+    }
+
+    /**
+     * @param type 감쌀 Repository 인터페이스
+     * @param repository 실제 Repository
+     * @param guard 적용할 호출 보호
+     * @return 모든 Repository 메서드 호출에 guard 가 적용된 프록시 (Object 메서드 제외)
+     */
+    public static <T> T wrap(Class<T> type, T repository, DependencyGuard guard) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (target, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return invoke(method, repository, args);
+            }
+            return guard.call(() -> invoke(method, repository, args));
+        });
+        return type.cast(proxy);
+    }
+
+    private static Object invoke(Method method, Object repository, Object[] args) {
+        try {
+            return method.invoke(repository, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
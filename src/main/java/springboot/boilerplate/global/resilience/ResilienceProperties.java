@@ -0,0 +1,47 @@
+package springboot.boilerplate.global.resilience;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Redis / DB 호출 보호 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "spring.resilience")
+public class ResilienceProperties {
+
+    private Redis redis = new Redis();
+    private Dependency database = new Dependency();
+
+    @Getter
+    @Setter
+    public static class Dependency {
+        // 동시 호출 수 상한
+        private int maxConcurrentCalls = 64;
+        // 상한 도달 시 대기 시간 (밀리초, 0이면 바로 거절)
+        private long maxWaitMs = 20;
+        // 이 시간을 넘긴 호출은 실패로 기록 (밀리초, 0이면 사용 안 함)
+        private long slowCallMs = 500;
+        // 실패율 계산에 사용하는 최근 호출 수
+        private int windowSize = 100;
+        // 실패율을 계산하기 시작하는 최소 호출 수
+        private int minimumCalls = 20;
+        // 브레이커를 여는 실패율 (%)
+        private int failureRateThreshold = 50;
+        // 브레이커가 열려 있는 시간 (밀리초)
+        private long openMs = 5_000;
+        // HALF_OPEN 에서 허용하는 시험 호출 수
+        private int halfOpenCalls = 3;
+    }
+
+    @Getter
+    @Setter
+    public static class Redis extends Dependency {
+        // Redis 장애 시 최근 확인된 Refresh Token으로 재발급 허용 시간 (밀리초, 0이면 사용 안 함)
+        private long degradedReissueTtlMs = 0;
+        // 최근 확인된 Refresh Token 보관 수
+        private int degradedReissueCacheSize = 10_000;
+    }
+}
@@ -0,0 +1,178 @@
+package springboot.boilerplate.global.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import springboot.boilerplate.global.redis.RedisService;
+import springboot.boilerplate.global.resilience.DependencyGuard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 폐기된 Access Token 목록 (노드 로컬 메모리)
+ *
+ * 요청 경로에서는 Bloom 필터 → 정확한 집합 순으로 로컬 메모리만 조회하고,
+ * 폐기 정보는 Redis에 저장한 뒤 Pub/Sub으로 모든 노드에 전파
+ * 구독(재)연결 시와 주기적으로 Redis 전체를 다시 읽어 누락된 알림을 보정
+ * Redis 호출은 redisGuard 로 보호되며, Redis 장애 중의 폐기는 이 노드에만 우선 반영
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocationList implements MessageListener, SubscriptionListener, InitializingBean, DisposableBean {
+
+    private final RedisService redisService;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final DependencyGuard redisGuard;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final long resyncIntervalMs;
+
+    // 토큰 ID(jti) -> 만료 시각 (epoch 밀리초)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+    private ScheduledExecutorService scheduler;
+
+    public AccessTokenRevocationList(RedisService redisService,
+                                     RedisMessageListenerContainer listenerContainer,
+                                     @Value("${spring.jwt.revocation.expected-insertions:100000}") int expectedInsertions,
+                                     @Value("${spring.jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                                     @Value("${spring.jwt.revocation.resync-interval-ms:60000}") long resyncIntervalMs,
+                                     @Qualifier("redisGuard") DependencyGuard redisGuard) {
+        this.redisService = redisService;
+        this.listenerContainer = listenerContainer;
+        this.redisGuard = redisGuard;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.resyncIntervalMs = resyncIntervalMs;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-revocation-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::resync, resyncIntervalMs, resyncIntervalMs, TimeUnit.MILLISECONDS);
+        listenerContainer.addMessageListener(this, ChannelTopic.of(RedisService.TOKEN_REVOCATION_CHANNEL));
+    }
+
+    @Override
+    public void destroy() {
+        listenerContainer.removeMessageListener(this);
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 토큰 폐기 여부 확인 (로컬 메모리만 조회)
+     *
+     * @param tokenId 토큰 ID (jti)
+     * @return 폐기되었으면 true
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return revoked.containsKey(tokenId);
+    }
+
+    /**
+     * 토큰 폐기
+     *
+     * Redis에 남은 수명만큼 TTL로 저장하고 다른 노드에 알림
+     *
+     * @param tokenId 토큰 ID (jti)
+     * @param expiresAtMillis 토큰 만료 시각 (epoch 밀리초)
+     */
+    public void revoke(String tokenId, long expiresAtMillis) {
+        long ttlMillis = expiresAtMillis - System.currentTimeMillis();
+        if (tokenId == null || ttlMillis <= 0) {
+            return;
+        }
+        add(tokenId, expiresAtMillis);
+        try {
+            redisGuard.run(() -> redisService.saveRevokedAccessToken(tokenId, expiresAtMillis, ttlMillis));
+        } catch (RuntimeException e) {
+            // 다른 노드에는 Redis 복구 후에도 전파되지 않으므로 경고로 남김
+            log.warn("[TokenRevocation] Redis 저장 실패, 이 노드에만 반영: {} ({})", tokenId, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 폐기 알림 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator <= 0) {
+            log.warn("[TokenRevocation] 잘못된 알림 형식: {}", body);
+            return;
+        }
+        try {
+            add(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("[TokenRevocation] 잘못된 알림 형식: {}", body);
+        }
+    }
+
+    /**
+     * 채널 구독(재연결 포함) 시 구독 이전에 누락된 알림을 보정
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        scheduler.execute(this::resync);
+    }
+
+    /**
+     * Redis의 폐기 목록 전체를 다시 읽고 만료된 항목 정리
+     */
+    public void resync() {
+        try {
+            redisGuard.call(redisService::getRevokedAccessTokens).forEach(this::add);
+        } catch (RuntimeException e) {
+            log.warn("[TokenRevocation] Redis 동기화 실패: {}", e.getMessage());
+        }
+        purgeExpired();
+    }
+
+    /**
+     * 현재 로컬에 보관 중인 폐기 토큰 수
+     *
+     * @return 폐기 토큰 수
+     */
+    public int size() {
+        return revoked.size();
+    }
+
+    private synchronized void add(String tokenId, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        revoked.put(tokenId, expiresAtMillis);
+        bloomFilter.put(tokenId);
+    }
+
+    // Bloom 필터는 삭제를 지원하지 않으므로 남은 항목으로 다시 생성
+    private synchronized void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, revoked.size() * 2), falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+    }
+}
@@ -0,0 +1,166 @@
+package springboot.boilerplate.global.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import springboot.boilerplate.auth.enums.Permission;
+import springboot.boilerplate.auth.enums.Role;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 비트마스크 권한 (역할 + 세부 권한)
+ *
+ * 권한 검사는 비트 연산으로 수행하고, Spring Security 에 넘기는 GrantedAuthority 컬렉션은
+ * 비트마스크별로 한 번만 만들어 공유 (조회 시 할당 없음)
+ */
+public final class Authorities {
+
+    private static final Role[] ROLES = Role.values();
+    private static final Permission[] PERMISSIONS = Permission.values();
+    private static final String ROLE_PREFIX = "ROLE_";
+    // 공유할 비트마스크 조합 수 상한 (초과분은 매번 새로 생성)
+    private static final int MAX_INTERNED = 4096;
+
+    // 비트마스크별 권한 컬렉션 (쓰기 시 복사하는 개방 주소 해시 테이블, 조회는 락 없음)
+    private static volatile Entry[] interned = new Entry[64];
+    private static int internedCount;
+
+    private Authorities() {
+    }
+
+    /**
+     * 필요한 비트를 모두 가지고 있는지
+     */
+    public static boolean has(long authorities, long required) {
+        return (authorities & required) == required;
+    }
+
+    public static boolean hasRole(long authorities, Role role) {
+        return (authorities & role.mask()) != 0;
+    }
+
+    public static boolean hasPermission(long authorities, Permission permission) {
+        return (authorities & permission.mask()) != 0;
+    }
+
+    /**
+     * 실제 적용할 권한
+     *
+     * 저장된 비트마스크(역할 비트 포함)를 그대로 사용하므로 여러 역할을 함께 가질 수 있으며,
+     * 역할 변경은 TB_USER.authorities 의 역할 비트를 갱신하여 반영
+     * 비트마스크가 없는 이전 데이터/토큰(0)만 role 컬럼의 기본 권한 사용
+     */
+    public static long effective(Role role, long authorities) {
+        if (authorities != 0 || role == null) {
+            return authorities;
+        }
+        return role.defaultAuthorities();
+    }
+
+    /**
+     * 비트마스크에 해당하는 권한 컬렉션 (불변, 같은 비트마스크는 같은 인스턴스)
+     */
+    public static Collection<GrantedAuthority> toGrantedAuthorities(long authorities) {
+        Entry[] table = interned;
+        int mask = table.length - 1;
+        for (int i = index(authorities, mask); ; i = (i + 1) & mask) {
+            Entry entry = table[i];
+            if (entry == null) {
+                return intern(authorities);
+            }
+            if (entry.authorities == authorities) {
+                return entry.grantedAuthorities;
+            }
+        }
+    }
+
+    /**
+     * 권한 문자열 컬렉션을 비트마스크로 변환 (CustomUserDetails 가 아닌 인증 정보용)
+     */
+    public static long fromGrantedAuthorities(Collection<? extends GrantedAuthority> grantedAuthorities) {
+        long authorities = 0;
+        for (GrantedAuthority grantedAuthority : grantedAuthorities) {
+            String name = grantedAuthority.getAuthority();
+            if (name == null) {
+                continue;
+            }
+            for (Role role : ROLES) {
+                if (name.length() == ROLE_PREFIX.length() + role.name().length()
+                        && name.startsWith(ROLE_PREFIX) && name.endsWith(role.name())) {
+                    authorities |= role.mask();
+                }
+            }
+            for (Permission permission : PERMISSIONS) {
+                if (name.equals(permission.name())) {
+                    authorities |= permission.mask();
+                }
+            }
+        }
+        return authorities;
+    }
+
+    private static synchronized Collection<GrantedAuthority> intern(long authorities) {
+        Entry[] table = interned;
+        int mask = table.length - 1;
+        for (int i = index(authorities, mask); ; i = (i + 1) & mask) {
+            Entry entry = table[i];
+            if (entry == null) {
+                break;
+            }
+            if (entry.authorities == authorities) {
+                return entry.grantedAuthorities;
+            }
+        }
+
+        Entry created = new Entry(authorities, build(authorities));
+        if (internedCount >= MAX_INTERNED) {
+            return created.grantedAuthorities;
+        }
+        // 절반 이상 차면 두 배로 늘림
+        int capacity = (internedCount + 1) * 2 > table.length ? table.length * 2 : table.length;
+        Entry[] copy = new Entry[capacity];
+        for (Entry entry : table) {
+            if (entry != null) {
+                put(copy, entry);
+            }
+        }
+        put(copy, created);
+        internedCount++;
+        interned = copy;
+        return created.grantedAuthorities;
+    }
+
+    private static void put(Entry[] table, Entry entry) {
+        int mask = table.length - 1;
+        int i = index(entry.authorities, mask);
+        while (table[i] != null) {
+            i = (i + 1) & mask;
+        }
+        table[i] = entry;
+    }
+
+    private static Collection<GrantedAuthority> build(long authorities) {
+        List<GrantedAuthority> grantedAuthorities = new ArrayList<>();
+        for (Role role : ROLES) {
+            if (hasRole(authorities, role)) {
+                grantedAuthorities.add(new SimpleGrantedAuthority(ROLE_PREFIX + role.name()));
+            }
+        }
+        for (Permission permission : PERMISSIONS) {
+            if (hasPermission(authorities, permission)) {
+                grantedAuthorities.add(new SimpleGrantedAuthority(permission.name()));
+            }
+        }
+        return List.copyOf(grantedAuthorities);
+    }
+
+    private static int index(long authorities, int mask) {
+        long hash = authorities * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private record Entry(long authorities, Collection<GrantedAuthority> grantedAuthorities) {
+    }
+}
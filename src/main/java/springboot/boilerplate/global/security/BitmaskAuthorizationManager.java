@@ -0,0 +1,58 @@
+package springboot.boilerplate.global.security;
+
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import springboot.boilerplate.auth.domain.CustomUserDetails;
+
+import java.util.function.Supplier;
+
+/**
+ * 비트마스크 권한 검사 (hasRole/hasAuthority 대체)
+ *
+ * 권한 문자열을 비교하지 않고 인증 정보의 비트마스크에 필요한 비트가 모두 있는지만 확인
+ */
+public final class BitmaskAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final long required;
+
+    /**
+     * @param required 필요한 역할/세부 권한 비트
+     */
+    public BitmaskAuthorizationManager(long required) {
+        this.required = required;
+    }
+
+    @Override
+    public AuthorizationResult authorize(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        Authentication current = authentication.get();
+        if (current == null || !current.isAuthenticated()) {
+            return DENIED;
+        }
+        return Authorities.has(authoritiesOf(current), required) ? GRANTED : DENIED;
+    }
+
+    /**
+     * @deprecated authorize 사용 (AuthorizationManager 의 추상 메서드라 구현만 남김)
+     */
+    @Deprecated
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return (AuthorizationDecision) authorize(authentication, context);
+    }
+
+    /**
+     * 인증 정보의 비트마스크 (JWT 인증은 클레임 값을 그대로 사용)
+     */
+    public static long authoritiesOf(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getAuthorityMask();
+        }
+        return Authorities.fromGrantedAuthorities(authentication.getAuthorities());
+    }
+}
@@ -34,7 +34,7 @@ public class CustomAccessDeniedHandler implements AccessDeniedHandler {
     @Override
     public void handle(HttpServletRequest request, HttpServletResponse response, AccessDeniedException accessDeniedException) throws IOException {
         log.warn("[AccessDeniedException] {} - {}", request.getRequestURI(), accessDeniedException.getMessage());
-        securityExceptionHandler.writeErrorResponse(response, ErrorCode.FORBIDDEN);
+        securityExceptionHandler.writeErrorResponse(request, response, ErrorCode.FORBIDDEN);
     }
 }
 
@@ -34,7 +34,7 @@ public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException) throws IOException {
         log.warn("[AuthenticationException] {} - {}", request.getRequestURI(), authException.getMessage());
-        securityExceptionHandler.writeErrorResponse(response, ErrorCode.UNAUTHORIZED);
+        securityExceptionHandler.writeErrorResponse(request, response, ErrorCode.UNAUTHORIZED);
     }
 }
 
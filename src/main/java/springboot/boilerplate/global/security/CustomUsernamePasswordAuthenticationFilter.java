@@ -1,23 +1,33 @@
 package springboot.boilerplate.global.security;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
-import org.springframework.util.StreamUtils;
 import springboot.boilerplate.auth.domain.CustomUserDetails;
+import springboot.boilerplate.auth.domain.User;
 import springboot.boilerplate.auth.dto.response.TokenDto;
 import springboot.boilerplate.auth.dto.request.RequestUserLoginDto;
+import springboot.boilerplate.auth.event.LoginEventPublisher;
+import springboot.boilerplate.global.exception.CustomException;
+import springboot.boilerplate.global.exception.ErrorCode;
+import springboot.boilerplate.global.exception.SecurityExceptionHandler;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 
 /**
@@ -25,57 +35,76 @@ import java.nio.charset.StandardCharsets;
  * 
  * JSON 형식의 로그인 요청을 처리하고, 인증 성공 시 JWT 토큰을 생성하여 반환
  * Spring Security의 UsernamePasswordAuthenticationFilter를 확장하여 구현
+ * 인증 실패는 ErrorCode 형식으로 응답 (본문 오류 400, 자격 증명 오류 401)
  */
 public class CustomUsernamePasswordAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    // 로그인 요청 본문 최대 크기 (이메일 + 비밀번호 JSON에 충분한 크기)
+    static final int MAX_BODY_BYTES = 4 * 1024;
+
     private final AuthenticationManager authenticationManager;
-    private final JwtUtil jwtUtil;
+    private final TokenIssuer tokenIssuer;
+    private final LoginEventPublisher loginEventPublisher;
+    // ObjectReader/ObjectWriter는 불변이며 (역)직렬화기를 캐시하므로 재사용
+    private final ObjectReader loginRequestReader;
+    private final ObjectWriter tokenWriter;
 
 
-    public CustomUsernamePasswordAuthenticationFilter(AuthenticationManager authenticationManager, JwtUtil jwtUtil) {
+    public CustomUsernamePasswordAuthenticationFilter(AuthenticationManager authenticationManager,
+                                                      ObjectMapper objectMapper,
+                                                      TokenIssuer tokenIssuer,
+                                                      LoginEventPublisher loginEventPublisher,
+                                                      SecurityExceptionHandler securityExceptionHandler) {
         this.authenticationManager = authenticationManager;
-        this.jwtUtil = jwtUtil;
+        this.tokenIssuer = tokenIssuer;
+        this.loginEventPublisher = loginEventPublisher;
+        this.loginRequestReader = objectMapper.readerFor(RequestUserLoginDto.class);
+        this.tokenWriter = objectMapper.writerFor(TokenDto.class);
+        setAuthenticationFailureHandler((request, response, exception) ->
+                securityExceptionHandler.writeErrorResponse(request, response, errorCodeOf(exception)));
     }
 
     /**
      * 인증 시도 처리
      * 
-     * JSON 데이터를 읽어 RequestUserLoginDto로 파싱한 후,
+     * 요청 본문을 문자열로 복사하지 않고 입력 스트림에서 바로 RequestUserLoginDto로 파싱한 후,
      * AuthenticationManager를 통해 인증을 수행
      * 
      * @param request HTTP 요청
      * @param response HTTP 응답
      * @return 인증 결과
-     * @throws AuthenticationException 인증 실패 시
+     * @throws AuthenticationException 인증 실패 또는 요청 본문이 잘못된 경우
      */
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
-        // 요청 본문 읽기
-        ServletInputStream inputStream;
-        String requestBody;
-        try {
-            inputStream = request.getInputStream();
-            requestBody = StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            throw new RuntimeException("요청 본문을 읽을 수 없음", e);
+        // Content-Length가 제한을 넘으면 본문을 읽지 않고 거부
+        if (request.getContentLengthLong() > MAX_BODY_BYTES) {
+            throw new InvalidLoginRequestException("요청 본문이 너무 큼", null);
         }
 
-        // JSON 데이터 파싱
+        // JSON 데이터 파싱 (chunked 요청도 읽은 바이트 수로 제한)
         RequestUserLoginDto requestUserLoginDto;
-        try {
-            requestUserLoginDto = objectMapper.readValue(requestBody, RequestUserLoginDto.class);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("JSON 파싱 실패", e);
+        try (InputStream inputStream = new LimitedInputStream(request.getInputStream(), MAX_BODY_BYTES)) {
+            requestUserLoginDto = loginRequestReader.readValue(inputStream);
+        } catch (IOException e) {
+            throw new InvalidLoginRequestException("로그인 요청을 읽을 수 없음", e);
+        }
+        if (requestUserLoginDto == null) {
+            throw new InvalidLoginRequestException("로그인 요청 본문이 비어 있음", null);
         }
 
         // 인증 토큰 생성 및 인증 수행
-        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+        UsernamePasswordAuthenticationToken authToken = UsernamePasswordAuthenticationToken.unauthenticated(
                 requestUserLoginDto.getEmail(), 
-                requestUserLoginDto.getPassword(), 
-                null
+                requestUserLoginDto.getPassword()
         );
-        return authenticationManager.authenticate(authToken);
+        try {
+            return authenticationManager.authenticate(authToken);
+        } catch (BadCredentialsException e) {
+            // 존재하지 않는 이메일도 BadCredentialsException 으로 감춰지므로 사용자 ID 없이 기록
+            loginEventPublisher.publishFailure(null, requestUserLoginDto.getEmail());
+            throw e;
+        }
     }
 
     /**
@@ -94,14 +123,86 @@ public class CustomUsernamePasswordAuthenticationFilter extends UsernamePassword
         // 인증된 사용자 정보 추출
         CustomUserDetails userDetails = (CustomUserDetails) authResult.getPrincipal();
         
-        // 토큰 생성
-        String accessToken = jwtUtil.createAccessToken(userDetails.getUser().getEmail(), userDetails.getUser().getRole().name());
-        String refreshToken = jwtUtil.createRefreshToken(userDetails.getUser().getEmail(), userDetails.getUser().getRole().name());
-        TokenDto tokenDto = TokenDto.of(accessToken, refreshToken);
-
-        // JSON 형식으로 응답
-        String jsonResponse = objectMapper.writeValueAsString(tokenDto);
-        response.setContentType("application/json");
-        response.getWriter().write(jsonResponse);
+        // 토큰 생성 및 Refresh Token 저장 (AuthService.login과 동일)
+        User user = userDetails.getUser();
+        TokenDto tokenDto = tokenIssuer.issue(user.getId(), user.getEmail(), user.getRole().name(),
+                userDetails.getAuthorityMask());
+        loginEventPublisher.publishSuccess(user.getId(), user.getEmail());
+
+        // 중간 문자열 없이 출력 스트림에 바로 JSON 응답
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        tokenWriter.writeValue(response.getOutputStream(), tokenDto);
+    }
+
+    // 인증 실패 응답 코드 (사용자 조회 중 발생한 CustomException 은 그 코드 사용)
+    private static ErrorCode errorCodeOf(AuthenticationException exception) {
+        if (exception instanceof InvalidLoginRequestException) {
+            return ErrorCode.INVALID_REQUEST;
+        }
+        if (exception instanceof InternalAuthenticationServiceException) {
+            return exception.getCause() instanceof CustomException customException
+                    ? customException.getErrorCode()
+                    : ErrorCode.INTERNAL_SERVER_ERROR;
+        }
+        return ErrorCode.INVALID_CREDENTIALS;
+    }
+
+    /**
+     * 로그인 요청 본문이 없거나, 너무 크거나, JSON 으로 읽을 수 없는 경우
+     */
+    private static final class InvalidLoginRequestException extends AuthenticationServiceException {
+
+        private InvalidLoginRequestException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    /**
+     * 읽을 수 있는 바이트 수를 제한하는 입력 스트림
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        private LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return checkEndOfStream();
+            }
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (remaining <= 0) {
+                return checkEndOfStream();
+            }
+            int n = super.read(b, off, (int) Math.min(len, remaining));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
+
+        // 제한에 도달한 뒤에도 데이터가 남아 있으면 거부
+        private int checkEndOfStream() throws IOException {
+            if (super.read() >= 0) {
+                throw new IOException("요청 본문 크기 제한 초과: " + MAX_BODY_BYTES + " bytes");
+            }
+            return -1;
+        }
     }
 }
@@ -0,0 +1,23 @@
+package springboot.boilerplate.global.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 토큰 일괄 검증(introspection) 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "spring.introspection")
+public class IntrospectionProperties {
+
+    // 한 번의 요청으로 검증할 수 있는 최대 토큰 수
+    private int maxTokens = 1000;
+    // 한 스레드가 한 번에 검증하는 토큰 수 (응답도 이 단위로 전송)
+    private int chunkSize = 64;
+    // 검증 스레드 수 (0이면 CPU 수)
+    private int parallelism = 0;
+    // 검증 스레드가 모두 사용 중일 때 대기할 수 있는 묶음 수 (초과분은 요청 스레드가 직접 검증)
+    private int queueCapacity = 256;
+}
@@ -1,38 +1,65 @@
 package springboot.boilerplate.global.security;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.util.function.SingletonSupplier;
 import org.springframework.web.filter.OncePerRequestFilter;
 import springboot.boilerplate.auth.domain.CustomUserDetails;
 import springboot.boilerplate.auth.domain.User;
 import springboot.boilerplate.auth.enums.Role;
 
 import java.io.IOException;
+import java.util.function.Supplier;
 
 /**
  * JWT 인증 필터
  * 
  * 요청 헤더에서 JWT 토큰을 추출하여 검증하고, 인증 정보를 SecurityContext에 설정
  * OncePerRequestFilter를 상속받아 요청당 한 번만 실행
+ * 
+ * 인증 없이 허용되는 경로(RouteTable)는 필터를 건너뛰고, 그 외 경로도 토큰 검증은
+ * 인가 판단 등에서 SecurityContext를 처음 조회할 때까지 미룸
  */
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final JwtUtil jwtUtil;
+    private final AccessTokenRevocationList revocationList;
+    private final RouteTable routeTable;
+    private SecurityContextHolderStrategy securityContextHolderStrategy = SecurityContextHolder.getContextHolderStrategy();
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, AccessTokenRevocationList revocationList, RouteTable routeTable) {
         this.jwtUtil = jwtUtil;
+        this.revocationList = revocationList;
+        this.routeTable = routeTable;
+    }
+
+    public void setSecurityContextHolderStrategy(SecurityContextHolderStrategy securityContextHolderStrategy) {
+        this.securityContextHolderStrategy = securityContextHolderStrategy;
+    }
+
+    /**
+     * 인증이 필요 없는 경로는 필터를 실행하지 않음
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return routeTable.isPermitAll(request);
     }
 
     /**
      * 필터 내부 로직 처리
      * 
-     * 요청 헤더에서 JWT 토큰을 추출하고, 토큰의 유효성을 검증한 후
-     * SecurityContext에 인증 정보를 설정
+     * 요청 헤더에서 JWT 토큰을 추출하고, 토큰 검증과 인증 정보 생성은
+     * SecurityContext를 처음 조회할 때 한 번만 수행하도록 지연 컨텍스트로 등록
      * 
      * @param request HTTP 요청
      * @param response HTTP 응답
@@ -42,49 +69,68 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      */
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        // 인증이 필요 없는 경로는 통과
-        String requestURI = request.getRequestURI();
-        if (requestURI.startsWith("/auth")) {
-            filterChain.doFilter(request, response);
-            return;
-        }
-
         // 요청 헤더에서 토큰 추출
-        String token = request.getHeader("Authorization");
-        if (token == null || !token.startsWith("Bearer ")){
+        String header = request.getHeader("Authorization");
+        if (header == null || !header.startsWith(BEARER_PREFIX)){
             filterChain.doFilter(request, response);
             return;
         }
 
         // "Bearer " 접두사 제거
-        token = token.split(" ")[1];
+        String token = header.substring(BEARER_PREFIX.length());
 
-        // 토큰 만료 검증
-        if (jwtUtil.isExpired(token)) {
-            filterChain.doFilter(request, response);
-            return;
+        Supplier<SecurityContext> currentContext = securityContextHolderStrategy.getDeferredContext();
+        securityContextHolderStrategy.setDeferredContext(SingletonSupplier.of(() -> {
+            SecurityContext context = currentContext.get();
+            if (context.getAuthentication() != null) {
+                return context;
+            }
+            Authentication authentication = authenticate(token);
+            if (authentication == null) {
+                return context;
+            }
+            SecurityContext authenticated = securityContextHolderStrategy.createEmptyContext();
+            authenticated.setAuthentication(authentication);
+            return authenticated;
+        }));
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 토큰 검증 및 인증 정보 생성
+     * 
+     * @return 인증 정보 (토큰이 유효하지 않거나 폐기된 경우 null)
+     */
+    private Authentication authenticate(String token) {
+        // 토큰 서명/만료 검증 및 사용자 정보 추출
+        JwtClaims claims;
+        try {
+            claims = jwtUtil.parseToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
         }
 
-        // 토큰에서 사용자 정보 추출
-        String email = jwtUtil.getUsername(token);
-        String role = jwtUtil.getRole(token);
+        // 폐기된 토큰 검증 (로컬 메모리만 조회)
+        if (revocationList.isRevoked(claims.tokenId())) {
+            return null;
+        }
 
         // 임시 User 객체 생성 (인증 정보만 포함)
         User user = User.builder()
-                .email(email)
+                .id(claims.userId())
+                .email(claims.email())
                 .password("")
-                .role(Role.valueOf(role))
+                .role(Role.valueOf(claims.role()))
+                .authorities(claims.authorities())
                 .build();
 
-        // CustomUserDetails 생성 및 인증 정보 설정
+        // CustomUserDetails 생성 및 인증 정보 생성
         CustomUserDetails customUserDetails = new CustomUserDetails(user);
-        Authentication authToken = new UsernamePasswordAuthenticationToken(
+        return new UsernamePasswordAuthenticationToken(
                 customUserDetails, 
                 null, 
                 customUserDetails.getAuthorities()
         );
-        SecurityContextHolder.getContext().setAuthentication(authToken);
-
-        filterChain.doFilter(request, response);
     }
 }
@@ -0,0 +1,14 @@
+package springboot.boilerplate.global.security;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임
+ *
+ * @param userId 사용자 ID (sub 클레임, 이전 버전 토큰에는 없을 수 있음)
+ * @param email 사용자 이메일
+ * @param role 사용자 역할
+ * @param authorities 역할 + 세부 권한 비트마스크 (auth 클레임이 없는 이전 버전 토큰은 역할의 기본 권한)
+ * @param tokenId 토큰 ID (jti 클레임, 이전 버전 토큰에는 없을 수 있음)
+ * @param expiresAtMillis 만료 시각 (epoch 밀리초)
+ */
+public record JwtClaims(Long userId, String email, String role, long authorities, String tokenId, long expiresAtMillis) {
+}
@@ -2,14 +2,18 @@ package springboot.boilerplate.global.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import springboot.boilerplate.auth.enums.Role;
 
 import javax.crypto.SecretKey;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.UUID;
 
 /**
  * JWT 토큰 생성 및 검증을 담당하는 유틸리티 클래스
@@ -21,6 +25,8 @@ import java.util.Date;
 public class JwtUtil {
 
     private final SecretKey secretKey;
+    // 서명 검증기 (불변이므로 모든 스레드가 공유)
+    private final JwtParser parser;
     private final int accessTokenExpirationMs;
     private final int refreshTokenExpirationMs;
 
@@ -29,6 +35,7 @@ public class JwtUtil {
                    @Value("${spring.jwt.refreshTokenExpiration}") int refreshTokenExpirationMs
     ) {
         this.secretKey = Keys.hmacShaKeyFor(key.getBytes());
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
         this.accessTokenExpirationMs = accessTokenExpirationMs;
         this.refreshTokenExpirationMs = refreshTokenExpirationMs;
     }
@@ -36,45 +43,111 @@ public class JwtUtil {
     /**
      * Access Token 생성
      * 
+     * @param userId 사용자 ID
      * @param email 사용자 이메일
      * @param role 사용자 역할
      * @return 생성된 Access Token
      */
-    public String createAccessToken(String email, String role) {
-        return createJwt(email, role, accessTokenExpirationMs);
+    public String createAccessToken(Long userId, String email, String role) {
+        return createAccessToken(userId, email, role, Role.valueOf(role).defaultAuthorities());
+    }
+
+    /**
+     * Access Token 생성
+     *
+     * @param userId 사용자 ID
+     * @param email 사용자 이메일
+     * @param role 사용자 역할
+     * @param authorities 역할 + 세부 권한 비트마스크
+     * @return 생성된 Access Token
+     */
+    public String createAccessToken(Long userId, String email, String role, long authorities) {
+        return createJwt(userId, email, role, authorities, accessTokenExpirationMs);
     }
 
     /**
      * Refresh Token 생성
      * 
+     * @param userId 사용자 ID
+     * @param email 사용자 이메일
+     * @param role 사용자 역할
+     * @return 생성된 Refresh Token
+     */
+    public String createRefreshToken(Long userId, String email, String role) {
+        return createRefreshToken(userId, email, role, Role.valueOf(role).defaultAuthorities());
+    }
+
+    /**
+     * Refresh Token 생성
+     *
+     * @param userId 사용자 ID
      * @param email 사용자 이메일
      * @param role 사용자 역할
+     * @param authorities 역할 + 세부 권한 비트마스크
      * @return 생성된 Refresh Token
      */
-    public String createRefreshToken(String email, String role) {
-        return createJwt(email, role, refreshTokenExpirationMs);
+    public String createRefreshToken(Long userId, String email, String role, long authorities) {
+        return createJwt(userId, email, role, authorities, refreshTokenExpirationMs);
     }
 
     /**
      * JWT 토큰 생성
      * 
+     * @param userId 사용자 ID (sub 클레임)
      * @param email 사용자 이메일
      * @param role 사용자 역할
+     * @param authorities 역할 + 세부 권한 비트마스크 (auth 클레임)
      * @param expirationMs 만료 시간 (밀리초)
      * @return 생성된 JWT 토큰
      */
-    public String createJwt(String email, String role, int expirationMs) {
+    public String createJwt(Long userId, String email, String role, long authorities, int expirationMs) {
         Calendar cal = Calendar.getInstance();
         cal.add(Calendar.MILLISECOND, expirationMs);
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(userId != null ? String.valueOf(userId) : null)
                 .claim("email", email)
                 .claim("role", role)
+                .claim("auth", authorities)
                 .issuedAt(new Date())
                 .expiration(cal.getTime())
                 .signWith(secretKey)
                 .compact();
     }
 
+    /**
+     * 토큰의 서명과 만료 시간을 검증하고 클레임을 한 번에 추출
+     * 
+     * @param token JWT 토큰
+     * @return 검증된 클레임
+     * @throws ExpiredJwtException 토큰이 만료된 경우
+     * @throws JwtException 서명이 올바르지 않거나 형식이 잘못된 경우
+     */
+    public JwtClaims parseToken(String token) {
+        return toJwtClaims(parseClaims(token));
+    }
+
+    /**
+     * 파싱된 Claims 를 JwtClaims 로 변환 (만료된 토큰의 ExpiredJwtException.getClaims() 에도 사용)
+     *
+     * @param claims 서명이 검증된 Claims
+     * @return 검증된 클레임
+     */
+    public JwtClaims toJwtClaims(Claims claims) {
+        String subject = claims.getSubject();
+        String role = claims.get("role", String.class);
+        // auth 클레임이 없는 이전 버전 토큰은 역할의 기본 권한 사용
+        Long authorities = claims.get("auth", Long.class);
+        return new JwtClaims(
+                subject != null ? Long.valueOf(subject) : null,
+                claims.get("email", String.class),
+                role,
+                Authorities.effective(role != null ? Role.valueOf(role) : null, authorities != null ? authorities : 0L),
+                claims.getId(),
+                claims.getExpiration().getTime()
+        );
+    }
+
     /**
      * 토큰에서 사용자 이메일 추출
      * 
@@ -135,10 +208,6 @@ public class JwtUtil {
      * @return 파싱된 Claims
      */
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 }
\ No newline at end of file
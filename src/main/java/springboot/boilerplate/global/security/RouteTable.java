@@ -0,0 +1,237 @@
+package springboot.boilerplate.global.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AuthorizeHttpRequestsConfigurer;
+import springboot.boilerplate.auth.enums.Permission;
+import springboot.boilerplate.auth.enums.Role;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 경로별 인가 규칙 표 (경로 세그먼트 트라이)
+ *
+ * SecurityConfig 의 authorizeHttpRequests 와 JwtAuthenticationFilter 가 같은 표를 사용하며,
+ * Spring Security 와 같이 선언 순서상 먼저 일치한 규칙을 적용
+ * 패턴은 리터럴 세그먼트, 한 세그먼트를 대신하는 "*", 마지막 세그먼트에서 0개 이상의 세그먼트를 대신하는 "**" 만 지원
+ * 조회는 요청 경로를 자르거나 복사하지 않으므로 할당이 없음
+ */
+public final class RouteTable {
+
+    public enum Access {
+        PERMIT_ALL,
+        AUTHENTICATED,
+        HAS_ROLE,
+        HAS_PERMISSION
+    }
+
+    /**
+     * @param pattern 경로 패턴
+     * @param access 인가 규칙
+     * @param authority HAS_ROLE 일 때의 역할 (ROLE_ 접두사 제외) 또는 HAS_PERMISSION 일 때의 세부 권한 이름
+     */
+    public record Route(String pattern, Access access, String authority) {
+    }
+
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final List<Route> routes;
+    private final Route anyRequest;
+    private final Node root = new Node();
+
+    private RouteTable(List<Route> routes, Route anyRequest) {
+        this.routes = List.copyOf(routes);
+        this.anyRequest = anyRequest;
+        for (int i = 0; i < this.routes.size(); i++) {
+            insert(this.routes.get(i).pattern(), i);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 경로에 적용되는 규칙 (일치하는 패턴이 없으면 anyRequest 규칙)
+     *
+     * @param path 컨텍스트 경로를 제외한 요청 경로 ("/" 로 시작)
+     */
+    public Route match(String path) {
+        if (path.isEmpty() || path.charAt(0) != '/') {
+            return anyRequest;
+        }
+        int index = match(root, path, 1);
+        return index == NO_MATCH ? anyRequest : routes.get(index);
+    }
+
+    /**
+     * 인증 없이 허용되는 요청인지
+     */
+    public boolean isPermitAll(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        String path = contextPath.isEmpty() ? uri : uri.substring(contextPath.length());
+        return match(path).access() == Access.PERMIT_ALL;
+    }
+
+    public List<Route> getRoutes() {
+        return routes;
+    }
+
+    /**
+     * 규칙을 선언 순서대로 Spring Security 인가 설정에 등록
+     *
+     * 역할/세부 권한 규칙은 권한 문자열 비교 대신 비트마스크 검사(BitmaskAuthorizationManager)로 등록
+     */
+    public void applyTo(AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizationManagerRequestMatcherRegistry auth) {
+        for (Route route : routes) {
+            apply(auth.requestMatchers(route.pattern()), route);
+        }
+        apply(auth.anyRequest(), anyRequest);
+    }
+
+    private static void apply(AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizedUrl url, Route route) {
+        switch (route.access()) {
+            case PERMIT_ALL -> url.permitAll();
+            case AUTHENTICATED -> url.authenticated();
+            case HAS_ROLE -> url.access(new BitmaskAuthorizationManager(Role.valueOf(route.authority()).mask()));
+            case HAS_PERMISSION -> url.access(new BitmaskAuthorizationManager(Permission.valueOf(route.authority()).mask()));
+        }
+    }
+
+    private void insert(String pattern, int index) {
+        if (pattern.isEmpty() || pattern.charAt(0) != '/') {
+            throw new IllegalArgumentException("Pattern must start with '/': " + pattern);
+        }
+        String[] segments = pattern.substring(1).split("/", -1);
+        Node node = root;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.equals("**")) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**' is only supported as the last segment: " + pattern);
+                }
+                node.remainderRoute = Math.min(node.remainderRoute, index);
+                return;
+            }
+            if (segment.equals("*")) {
+                if (node.wildcard == null) {
+                    node.wildcard = new Node();
+                }
+                node = node.wildcard;
+                continue;
+            }
+            if (segment.indexOf('*') >= 0 || segment.indexOf('{') >= 0) {
+                throw new IllegalArgumentException("Partial wildcards are not supported: " + pattern);
+            }
+            node = node.child(segment);
+        }
+        node.exactRoute = Math.min(node.exactRoute, index);
+    }
+
+    /**
+     * @param start 현재 세그먼트 시작 위치 (path.length() 보다 크면 남은 세그먼트 없음)
+     * @return 일치한 규칙 중 가장 먼저 선언된 규칙의 순번
+     */
+    private static int match(Node node, String path, int start) {
+        int best = node.remainderRoute;
+        if (start > path.length()) {
+            return Math.min(best, node.exactRoute);
+        }
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+        int next = end + 1;
+        Node child = node.find(path, start, end - start);
+        if (child != null) {
+            best = Math.min(best, match(child, path, next));
+        }
+        if (node.wildcard != null && end > start) {
+            best = Math.min(best, match(node.wildcard, path, next));
+        }
+        return best;
+    }
+
+    private static final class Node {
+
+        // 자식 수가 적으므로 배열 선형 탐색 (조회 시 부분 문자열을 만들지 않음)
+        private String[] keys = new String[0];
+        private Node[] children = new Node[0];
+        private Node wildcard;
+        // 이 노드에서 끝나는 규칙 / 이 노드 이하 모든 경로("**") 규칙의 순번
+        private int exactRoute = NO_MATCH;
+        private int remainderRoute = NO_MATCH;
+
+        private Node child(String segment) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(segment)) {
+                    return children[i];
+                }
+            }
+            Node node = new Node();
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            keys[keys.length - 1] = segment;
+            children[children.length - 1] = node;
+            return node;
+        }
+
+        private Node find(String path, int offset, int length) {
+            for (int i = 0; i < keys.length; i++) {
+                String key = keys[i];
+                if (key.length() == length && path.regionMatches(offset, key, 0, length)) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+    }
+
+    public static final class Builder {
+
+        private final List<Route> routes = new ArrayList<>();
+        private Route anyRequest = new Route("/**", Access.AUTHENTICATED, null);
+
+        private Builder() {
+        }
+
+        public Builder permitAll(String... patterns) {
+            return add(Access.PERMIT_ALL, null, patterns);
+        }
+
+        public Builder authenticated(String... patterns) {
+            return add(Access.AUTHENTICATED, null, patterns);
+        }
+
+        public Builder hasRole(String role, String... patterns) {
+            Role.valueOf(role);
+            return add(Access.HAS_ROLE, role, patterns);
+        }
+
+        public Builder hasPermission(Permission permission, String... patterns) {
+            return add(Access.HAS_PERMISSION, permission.name(), patterns);
+        }
+
+        /**
+         * 어떤 패턴과도 일치하지 않는 요청의 규칙 (기본값: AUTHENTICATED)
+         */
+        public Builder anyRequest(Access access, String authority) {
+            this.anyRequest = new Route("/**", access, authority);
+            return this;
+        }
+
+        public RouteTable build() {
+            return new RouteTable(routes, anyRequest);
+        }
+
+        private Builder add(Access access, String authority, String... patterns) {
+            for (String pattern : patterns) {
+                routes.add(new Route(pattern, access, authority));
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package springboot.boilerplate.global.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import springboot.boilerplate.auth.dto.response.ResponseTokenIntrospectionDto;
+import springboot.boilerplate.auth.dto.response.ResponseTokenIntrospectionDto.Status;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Access Token 일괄 검증
+ *
+ * 토큰 목록을 chunkSize 개씩 나누어 여러 코어에서 동시에 검증하고,
+ * 앞쪽 묶음부터 순서대로 결과를 넘겨 모든 검증이 끝나기 전에 응답을 보내기 시작할 수 있음
+ * 첫 묶음은 호출 스레드가 직접 검증하며, 검증 스레드가 모두 사용 중이고 대기 큐(queueCapacity 묶음)도
+ * 가득 차면 제출하던 호출 스레드가 그 묶음을 직접 검증하므로 대기 작업이 무한히 쌓이지 않음
+ */
+public class TokenIntrospector implements Closeable {
+
+    private final JwtUtil jwtUtil;
+    private final AccessTokenRevocationList revocationList;
+    private final int chunkSize;
+    private final ExecutorService executor;
+
+    /**
+     * 검증이 끝난 묶음을 받는 대상 (요청 순서대로 호출됨)
+     */
+    @FunctionalInterface
+    public interface ChunkConsumer {
+        void accept(List<ResponseTokenIntrospectionDto> results) throws IOException;
+    }
+
+    public TokenIntrospector(JwtUtil jwtUtil, AccessTokenRevocationList revocationList, int parallelism, int chunkSize,
+                             int queueCapacity) {
+        if (chunkSize <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("chunkSize and queueCapacity must be positive");
+        }
+        this.jwtUtil = jwtUtil;
+        this.revocationList = revocationList;
+        this.chunkSize = chunkSize;
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        // 큐가 가득 차거나 종료된 뒤에는 제출한 스레드에서 실행 (CallerRunsPolicy 와 달리 종료 후에도 버리지 않으므로
+        // 결과를 기다리는 요청이 멈추지 않음)
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "token-introspection-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, (runnable, pool) -> runnable.run());
+    }
+
+    /**
+     * 토큰 하나 검증
+     *
+     * @param index 요청 목록에서의 위치
+     * @param token Access Token
+     * @return 검증 결과
+     */
+    public ResponseTokenIntrospectionDto introspect(int index, String token) {
+        if (token == null || token.isBlank()) {
+            return ResponseTokenIntrospectionDto.invalid(index);
+        }
+        JwtClaims claims;
+        try {
+            claims = jwtUtil.parseToken(token);
+        } catch (ExpiredJwtException e) {
+            // 서명은 검증되었으므로 만료된 토큰도 클레임을 함께 반환
+            try {
+                return ResponseTokenIntrospectionDto.of(index, Status.EXPIRED, jwtUtil.toJwtClaims(e.getClaims()));
+            } catch (RuntimeException invalidClaims) {
+                return ResponseTokenIntrospectionDto.invalid(index);
+            }
+        } catch (JwtException | IllegalArgumentException e) {
+            return ResponseTokenIntrospectionDto.invalid(index);
+        }
+        Status status = revocationList.isRevoked(claims.tokenId()) ? Status.REVOKED : Status.VALID;
+        return ResponseTokenIntrospectionDto.of(index, status, claims);
+    }
+
+    /**
+     * 토큰 목록을 병렬로 검증하여 묶음 단위로 요청 순서대로 전달
+     *
+     * @param tokens Access Token 목록
+     * @param consumer 검증이 끝난 묶음을 받는 대상
+     * @throws IOException consumer 가 결과를 쓰지 못한 경우 (남은 검증은 취소)
+     */
+    public void introspectAll(List<String> tokens, ChunkConsumer consumer) throws IOException {
+        int chunks = (tokens.size() + chunkSize - 1) / chunkSize;
+        List<CompletableFuture<List<ResponseTokenIntrospectionDto>>> pending = new ArrayList<>(chunks);
+        // 첫 묶음은 호출 스레드가 검증하므로 두 번째 묶음부터 제출
+        for (int chunk = 1; chunk < chunks; chunk++) {
+            int from = chunk * chunkSize;
+            pending.add(submit(tokens, from, Math.min(from + chunkSize, tokens.size())));
+        }
+
+        try {
+            if (chunks > 0) {
+                consumer.accept(introspect(tokens, 0, Math.min(chunkSize, tokens.size())));
+            }
+            for (CompletableFuture<List<ResponseTokenIntrospectionDto>> future : pending) {
+                consumer.accept(join(future));
+            }
+        } finally {
+            for (CompletableFuture<List<ResponseTokenIntrospectionDto>> future : pending) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private CompletableFuture<List<ResponseTokenIntrospectionDto>> submit(List<String> tokens, int from, int to) {
+        return CompletableFuture.supplyAsync(() -> introspect(tokens, from, to), executor);
+    }
+
+    private List<ResponseTokenIntrospectionDto> introspect(List<String> tokens, int from, int to) {
+        List<ResponseTokenIntrospectionDto> results = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            results.add(introspect(i, tokens.get(i)));
+        }
+        return results;
+    }
+
+    private static List<ResponseTokenIntrospectionDto> join(CompletableFuture<List<ResponseTokenIntrospectionDto>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package springboot.boilerplate.global.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import springboot.boilerplate.auth.dto.response.TokenDto;
+import springboot.boilerplate.auth.enums.Role;
+import springboot.boilerplate.global.token.RefreshTokenStore;
+
+/**
+ * 로그인 토큰 발급
+ *
+ * AuthService.login과 CustomUsernamePasswordAuthenticationFilter가 공통으로 사용하여
+ * 두 로그인 경로의 토큰 생성 및 Refresh Token 저장 방식을 동일하게 유지
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenIssuer {
+
+    private final JwtUtil jwtUtil;
+    private final RefreshTokenStore refreshTokenStore;
+
+    /**
+     * Access/Refresh Token 생성 후 Refresh Token 저장
+     *
+     * @param userId 사용자 ID
+     * @param email 사용자 이메일
+     * @param role 사용자 역할
+     * @return TokenDto
+     */
+    public TokenDto issue(Long userId, String email, String role) {
+        return issue(userId, email, role, Role.valueOf(role).defaultAuthorities());
+    }
+
+    /**
+     * Access/Refresh Token 생성 후 Refresh Token 저장
+     *
+     * @param userId 사용자 ID
+     * @param email 사용자 이메일
+     * @param role 사용자 역할
+     * @param authorities 역할 + 세부 권한 비트마스크
+     * @return TokenDto
+     */
+    public TokenDto issue(Long userId, String email, String role, long authorities) {
+        String accessToken = jwtUtil.createAccessToken(userId, email, role, authorities);
+        String refreshToken = jwtUtil.createRefreshToken(userId, email, role, authorities);
+
+        // 기존 Refresh Token은 덮어씀 (TTL도 새로 설정됨)
+        refreshTokenStore.save(userId, refreshToken, jwtUtil.getRefreshTokenExpirationMillis());
+
+        return TokenDto.of(accessToken, refreshToken);
+    }
+}
@@ -0,0 +1,88 @@
+package springboot.boilerplate.global.swagger;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 빌드 시점에 생성된 OpenAPI 문서 제공
+ *
+ * springdoc.api-docs.enabled=false (prod) 일 때 런타임 스캔 대신
+ * classpath:openapi/openapi.json 을 그대로 응답 (ETag, gzip 사전 압축)
+ * 문서 생성: ./gradlew generateOpenApiDocs (bootJar 시 자동 실행)
+ */
+@Slf4j
+@RestController
+@ConditionalOnProperty(name = "springdoc.api-docs.enabled", havingValue = "false")
+public class StaticApiDocsController {
+
+    private static final String OPENAPI_RESOURCE = "openapi/openapi.json";
+
+    private final byte[] json;
+    private final byte[] gzippedJson;
+    private final String eTag;
+
+    public StaticApiDocsController() throws IOException {
+        ClassPathResource resource = new ClassPathResource(OPENAPI_RESOURCE);
+        if (!resource.exists()) {
+            log.warn("[ApiDocs] {} 가 없습니다. ./gradlew generateOpenApiDocs 로 생성하세요.", OPENAPI_RESOURCE);
+            this.json = null;
+            this.gzippedJson = null;
+            this.eTag = null;
+            return;
+        }
+        try (InputStream inputStream = resource.getInputStream()) {
+            this.json = inputStream.readAllBytes();
+        }
+        this.gzippedJson = gzip(json);
+        this.eTag = DigestUtils.md5DigestAsHex(json);
+    }
+
+    /**
+     * OpenAPI 문서 조회
+     *
+     * If-None-Match가 ETag와 일치하면 304 응답 (본문 없음)
+     *
+     * @param acceptEncoding Accept-Encoding 헤더
+     * @return OpenAPI JSON
+     */
+    @GetMapping(value = "${springdoc.api-docs.path:/v3/api-docs}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> apiDocs(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (json == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return builder.eTag(eTag + "-gzip")
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(gzippedJson);
+        }
+        return builder.eTag(eTag).body(json);
+    }
+
+    private static byte[] gzip(byte[] source) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(source.length / 4);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(source);
+        }
+        return outputStream.toByteArray();
+    }
+}
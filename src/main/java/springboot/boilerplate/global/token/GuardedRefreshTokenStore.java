@@ -0,0 +1,147 @@
+package springboot.boilerplate.global.token;
+
+import lombok.extern.slf4j.Slf4j;
+import springboot.boilerplate.global.resilience.DependencyGuard;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 장애 보호가 적용된 Refresh Token 저장소
+ *
+ * 모든 호출을 DependencyGuard 로 감싸 저장소가 느리거나 내려가 있을 때 요청 스레드가 묶이지 않고
+ * TOKEN_STORE_UNAVAILABLE 로 바로 실패하도록 함
+ * write-behind 저장소의 쓰기는 전송 스레드가 같은 guard 로 보호하여 결과를 기록하므로,
+ * 여기서는 대기열 추가를 기록하지 않고 브레이커가 열려 있을 때만 바로 실패
+ * degradedTtlMillis 가 0보다 크면 최근 확인된 토큰을 노드 로컬에 잠시 보관하여,
+ * 저장소 장애 중에도 보관 시간 안에서는 같은 토큰으로 재발급할 수 있음 (삭제는 항상 로컬에도 반영)
+ */
+@Slf4j
+public class GuardedRefreshTokenStore implements RefreshTokenStore, Closeable {
+
+    private record Recent(String refreshToken, long validUntilMillis) {
+    }
+
+    private final RefreshTokenStore delegate;
+    private final DependencyGuard guard;
+    private final long degradedTtlMillis;
+    private final int maxRecent;
+    private final LongSupplier clock;
+    private final Map<Long, Recent> recent = new ConcurrentHashMap<>();
+    private final LongAdder degradedReads = new LongAdder();
+
+    public GuardedRefreshTokenStore(RefreshTokenStore delegate, DependencyGuard guard,
+                                    long degradedTtlMillis, int maxRecent) {
+        this(delegate, guard, degradedTtlMillis, maxRecent, System::currentTimeMillis);
+    }
+
+    GuardedRefreshTokenStore(RefreshTokenStore delegate, DependencyGuard guard,
+                             long degradedTtlMillis, int maxRecent, LongSupplier clock) {
+        this.delegate = delegate;
+        this.guard = guard;
+        this.degradedTtlMillis = degradedTtlMillis;
+        this.maxRecent = maxRecent;
+        this.clock = clock;
+    }
+
+    @Override
+    public void save(Long userId, String refreshToken, long ttlMillis) {
+        write(() -> delegate.save(userId, refreshToken, ttlMillis));
+        remember(userId, refreshToken);
+    }
+
+    @Override
+    public String get(Long userId) {
+        try {
+            String refreshToken = guard.call(() -> delegate.get(userId));
+            if (refreshToken != null) {
+                remember(userId, refreshToken);
+            } else {
+                recent.remove(userId);
+            }
+            return refreshToken;
+        } catch (RuntimeException e) {
+            String fallback = degradedGet(userId);
+            if (fallback == null) {
+                throw e;
+            }
+            degradedReads.increment();
+            log.warn("[RefreshTokenStore] 저장소 장애로 최근 확인된 토큰 사용 (userId={}): {}", userId, e.getMessage());
+            return fallback;
+        }
+    }
+
+    @Override
+    public void delete(Long userId) {
+        // 저장소 삭제가 실패해도 이 노드에서는 더 이상 재발급되지 않도록 먼저 제거
+        recent.remove(userId);
+        write(() -> delegate.delete(userId));
+    }
+
+    /**
+     * 저장소 장애로 최근 확인된 토큰을 대신 사용한 횟수
+     */
+    public long getDegradedReadCount() {
+        return degradedReads.sum();
+    }
+
+    public DependencyGuard getGuard() {
+        return guard;
+    }
+
+    /**
+     * 감싼 저장소 종료 (write-behind 저장소의 남은 쓰기 반영)
+     */
+    @Override
+    public void close() throws IOException {
+        if (delegate instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void write(Runnable write) {
+        if (delegate instanceof WriteBehindRefreshTokenStore) {
+            guard.rejectIfOpen();
+            write.run();
+        } else {
+            guard.run(write);
+        }
+    }
+
+    private String degradedGet(Long userId) {
+        if (degradedTtlMillis <= 0) {
+            return null;
+        }
+        Recent entry = recent.get(userId);
+        if (entry == null || entry.validUntilMillis() < clock.getAsLong()) {
+            return null;
+        }
+        return entry.refreshToken();
+    }
+
+    private void remember(Long userId, String refreshToken) {
+        if (degradedTtlMillis <= 0) {
+            return;
+        }
+        long now = clock.getAsLong();
+        recent.put(userId, new Recent(refreshToken, now + degradedTtlMillis));
+        if (recent.size() > maxRecent) {
+            evict(now);
+        }
+    }
+
+    private void evict(long now) {
+        recent.values().removeIf(entry -> entry.validUntilMillis() < now);
+        // 만료된 항목이 없으면 임의 항목을 제거하여 상한 유지
+        Iterator<Long> keys = recent.keySet().iterator();
+        while (recent.size() > maxRecent && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+}
@@ -0,0 +1,556 @@
+package springboot.boilerplate.global.token;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 메모리 매핑 파일 기반 Refresh Token 저장소 (단일 노드용)
+ *
+ * 사용자 ID를 키로 하는 고정 크기 슬롯의 open addressing(선형 탐사) 해시 테이블을 힙 밖 파일에 유지
+ * - 조회: 슬롯별 시퀀스 락(seqlock)으로 락 없이 일관된 값을 읽음
+ * - 쓰기: 같은 키는 스트라이프 락으로, 같은 슬롯은 시퀀스 CAS로 직렬화
+ * - 만료: 조회 시 슬롯의 만료 시각을 확인하고, tick 마다 슬롯 일부를 순서대로 훑어 만료 슬롯을 회수
+ *   (sweepTicks 번의 tick 에 걸쳐 전체 슬롯을 한 바퀴 확인하며, 저장 시 힙에 만료 예약을 만들지 않음)
+ * - 삭제: 탐사 경로가 끊기지 않도록 삭제 표시(tombstone)를 남기고, 삭제 표시가 capacity / 4 를 넘으면
+ *   다음 tick 에 모든 쓰기 락을 잡고 제자리 재배치(compaction)하여 삭제 표시를 비워 탐사 길이를 되돌림
+ *   (재배치 중의 조회는 끝날 때까지 대기)
+ * - 재시작: 같은 파일을 다시 열어 유지하며, 기록 중 종료된 슬롯은 버림
+ *
+ * Refresh Token만 파일에 보관하며, Access Token 폐기 목록(AccessTokenRevocationList)과
+ * 폐기 알림 구독(RedisMessageListenerContainer)은 이 저장소를 사용해도 Redis 연결이 필요
+ *
+ * 슬롯 레이아웃: seq(int) | length(int) | userId(long) | expiresAt(long) | token(bytes)
+ */
+@Slf4j
+public class MappedRefreshTokenStore implements RefreshTokenStore, Closeable {
+
+    private static final long MAGIC = 0x52544f4b454e5354L;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+    private static final int HEADER_VERSION = 8;
+    private static final int HEADER_CAPACITY = 12;
+    private static final int HEADER_SLOT_BYTES = 16;
+
+    private static final int SEQ = 0;
+    private static final int LENGTH = 4;
+    private static final int USER_ID = 8;
+    private static final int EXPIRES_AT = 16;
+    private static final int TOKEN = 24;
+
+    private static final long EMPTY = 0L;
+    private static final long TOMBSTONE = Long.MIN_VALUE;
+
+    private static final int WRITE_LOCK_STRIPES = 64;
+    // 삭제 표시가 capacity / 이 값을 넘으면 재배치
+    private static final int COMPACT_TOMBSTONE_DIVISOR = 4;
+
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+    private static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final int mask;
+    private final int slotBytes;
+    private final int maxTokenBytes;
+    private final long tickMillis;
+    private final int slotsPerTick;
+    private final LongSupplier clock;
+    private final Object[] writeLocks = new Object[WRITE_LOCK_STRIPES];
+    private ScheduledExecutorService expiryScheduler;
+    // 다음 만료 확인을 시작할 슬롯 (expire 안에서만 변경)
+    private int sweepIndex;
+    // 삭제 표시 슬롯 수
+    private final AtomicInteger tombstones = new AtomicInteger();
+    // 재배치 시퀀스 (홀수면 재배치 중, 조회는 값이 바뀌면 다시 읽음)
+    private volatile int compactionSeq;
+
+    public MappedRefreshTokenStore(Path path, int capacity, int maxTokenBytes, long tickMillis, int sweepTicks) throws IOException {
+        this(path, capacity, maxTokenBytes, tickMillis, sweepTicks, System::currentTimeMillis);
+    }
+
+    MappedRefreshTokenStore(Path path, int capacity, int maxTokenBytes, long tickMillis, int sweepTicks,
+                            LongSupplier clock) throws IOException {
+        if (capacity <= 0 || maxTokenBytes <= 0) {
+            throw new IllegalArgumentException("capacity and maxTokenBytes must be positive");
+        }
+        if (tickMillis <= 0 || sweepTicks <= 0) {
+            throw new IllegalArgumentException("tickMillis and sweepTicks must be positive");
+        }
+        this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.maxTokenBytes = maxTokenBytes;
+        this.slotBytes = (TOKEN + maxTokenBytes + 7) & ~7;
+        this.tickMillis = tickMillis;
+        this.slotsPerTick = (int) Math.max(1, ((long) this.capacity + sweepTicks - 1) / sweepTicks);
+        this.clock = clock;
+        for (int i = 0; i < WRITE_LOCK_STRIPES; i++) {
+            writeLocks[i] = new Object();
+        }
+
+        long fileBytes = HEADER_BYTES + (long) this.capacity * slotBytes;
+        if (fileBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Refresh token store too large: " + fileBytes + " bytes");
+        }
+
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        boolean created = channel.size() == 0;
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileBytes);
+        if (created) {
+            writeHeader();
+        } else {
+            validateHeader(path);
+        }
+
+        long now = clock.getAsLong();
+        int recovered = recover(now);
+        if (tombstones.get() > this.capacity / COMPACT_TOMBSTONE_DIVISOR) {
+            compact(now);
+        }
+        log.info("Refresh token store opened: {} (capacity={}, slotBytes={}, entries={})", path, this.capacity, slotBytes, recovered);
+    }
+
+    /**
+     * tick 주기로 만료 슬롯을 회수하는 작업 시작
+     */
+    public synchronized void startExpiry() {
+        if (expiryScheduler != null) {
+            return;
+        }
+        expiryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "refresh-token-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        expiryScheduler.scheduleAtFixedRate(this::expire, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void save(Long userId, String refreshToken, long ttlMillis) {
+        long key = checkKey(userId);
+        byte[] token = refreshToken.getBytes(StandardCharsets.ISO_8859_1);
+        if (token.length > maxTokenBytes) {
+            throw new IllegalArgumentException("Refresh token exceeds " + maxTokenBytes + " bytes");
+        }
+        long now = clock.getAsLong();
+        long expiresAt = now + ttlMillis;
+
+        synchronized (writeLock(key)) {
+            while (true) {
+                int offset = findWritableSlot(key, now);
+                int seq = lockSlot(offset);
+                // 탐색 후 다른 키의 쓰기가 슬롯을 먼저 차지했으면 다시 탐색
+                if (!isWritable(offset, key, now)) {
+                    unlockSlot(offset, seq);
+                    continue;
+                }
+                if ((long) LONG.get(buffer, offset + USER_ID) == TOMBSTONE) {
+                    tombstones.decrementAndGet();
+                }
+                LONG.set(buffer, offset + USER_ID, key);
+                LONG.set(buffer, offset + EXPIRES_AT, expiresAt);
+                INT.set(buffer, offset + LENGTH, token.length);
+                buffer.put(offset + TOKEN, token);
+                unlockSlot(offset, seq);
+                break;
+            }
+        }
+    }
+
+    @Override
+    public String get(Long userId) {
+        long key = checkKey(userId);
+        long now = clock.getAsLong();
+        while (true) {
+            int epoch = compactionSeq;
+            if ((epoch & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            String token = find(key, now);
+            VarHandle.loadLoadFence();
+            if (compactionSeq == epoch) {
+                return token;
+            }
+        }
+    }
+
+    private String find(long key, long now) {
+        int index = slotIndex(key);
+        for (int probe = 0; probe < capacity; probe++) {
+            int offset = offset(index);
+            while (true) {
+                int seq = (int) INT.getAcquire(buffer, offset + SEQ);
+                if ((seq & 1) != 0) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                long slotKey = (long) LONG.get(buffer, offset + USER_ID);
+                byte[] token = null;
+                if (slotKey == key) {
+                    long expiresAt = (long) LONG.get(buffer, offset + EXPIRES_AT);
+                    int length = (int) INT.get(buffer, offset + LENGTH);
+                    if (expiresAt > now && length >= 0 && length <= maxTokenBytes) {
+                        token = new byte[length];
+                        buffer.get(offset + TOKEN, token);
+                    }
+                }
+                VarHandle.loadLoadFence();
+                if ((int) INT.getAcquire(buffer, offset + SEQ) != seq) {
+                    // 읽는 중 변경됨, 같은 슬롯 다시 읽기
+                    continue;
+                }
+                if (slotKey == key) {
+                    return token != null ? new String(token, StandardCharsets.ISO_8859_1) : null;
+                }
+                if (slotKey == EMPTY) {
+                    return null;
+                }
+                break;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    @Override
+    public void delete(Long userId) {
+        long key = checkKey(userId);
+        synchronized (writeLock(key)) {
+            int offset = findSlot(key);
+            if (offset >= 0) {
+                clearSlot(offset);
+            }
+        }
+    }
+
+    /**
+     * 이어서 다음 슬롯 일부(capacity / sweepTicks 개)를 확인하여 만료 시각이 지난 슬롯 회수
+     *
+     * 만료된 토큰은 회수 전에도 조회되지 않으며, 회수는 탐사 경로의 슬롯을 비워 재사용하기 위함
+     * 삭제 표시가 많이 쌓였으면 이어서 재배치
+     *
+     * @return 회수한 슬롯 수 (재배치에서 버린 만료 슬롯 포함)
+     */
+    public synchronized int expire() {
+        long now = clock.getAsLong();
+        int removed = 0;
+        for (int i = 0; i < slotsPerTick; i++) {
+            int offset = offset(sweepIndex);
+            sweepIndex = (sweepIndex + 1) & mask;
+            long slotKey = (long) LONG.getVolatile(buffer, offset + USER_ID);
+            if (slotKey == EMPTY || slotKey == TOMBSTONE || (long) LONG.getVolatile(buffer, offset + EXPIRES_AT) > now) {
+                continue;
+            }
+            synchronized (writeLock(slotKey)) {
+                if (clearIfExpired(offset, slotKey, now)) {
+                    removed++;
+                }
+            }
+        }
+        if (tombstones.get() > capacity / COMPACT_TOMBSTONE_DIVISOR) {
+            removed += lockAllAndCompact(0, now);
+        }
+        return removed;
+    }
+
+    // 쓰기 락을 순서대로 모두 잡은 뒤 재배치 (expire 의 this 락 안에서만 호출하여 락 순서 고정)
+    private int lockAllAndCompact(int stripe, long now) {
+        if (stripe == WRITE_LOCK_STRIPES) {
+            return compact(now);
+        }
+        synchronized (writeLocks[stripe]) {
+            return lockAllAndCompact(stripe + 1, now);
+        }
+    }
+
+    /**
+     * 삭제 표시와 만료 슬롯을 비우고 남은 항목을 제자리에서 재배치
+     *
+     * 모든 쓰기 락을 잡은 상태(또는 기동 중)에서만 호출하며, 조회는 compactionSeq 로 막음
+     * 각 항목을 홈 슬롯부터의 첫 빈 슬롯 또는 아직 재배치하지 않은 슬롯으로 옮기고(후자면 맞바꿈),
+     * 이미 재배치한 슬롯은 다시 옮기지 않으므로 모든 항목의 탐사 경로가 빈 슬롯 없이 이어짐
+     * 옮기는 슬롯은 시퀀스 락을 잡고 기록하므로, 도중에 종료되면 재시작 시 해당 슬롯만 버려짐
+     *
+     * @return 버린 만료 슬롯 수
+     */
+    private int compact(long now) {
+        compactionSeq++;
+        VarHandle.storeStoreFence();
+        try {
+            int expired = 0;
+            BitSet pending = new BitSet(capacity);
+            for (int index = 0; index < capacity; index++) {
+                int offset = offset(index);
+                long slotKey = (long) LONG.get(buffer, offset + USER_ID);
+                if (slotKey == EMPTY) {
+                    continue;
+                }
+                if (slotKey == TOMBSTONE || (long) LONG.get(buffer, offset + EXPIRES_AT) <= now) {
+                    if (slotKey != TOMBSTONE) {
+                        expired++;
+                    }
+                    int seq = lockSlot(offset);
+                    emptySlot(offset);
+                    unlockSlot(offset, seq);
+                } else {
+                    pending.set(index);
+                }
+            }
+            tombstones.set(0);
+
+            byte[] moving = new byte[slotBytes - LENGTH];
+            byte[] displaced = new byte[slotBytes - LENGTH];
+            for (int index = pending.nextSetBit(0); index >= 0; index = pending.nextSetBit(index + 1)) {
+                while (pending.get(index)) {
+                    int offset = offset(index);
+                    int target = slotIndex((long) LONG.get(buffer, offset + USER_ID));
+                    while (target != index && !pending.get(target)
+                            && (long) LONG.get(buffer, offset(target) + USER_ID) != EMPTY) {
+                        target = (target + 1) & mask;
+                    }
+                    pending.clear(target);
+                    if (target == index) {
+                        break;
+                    }
+                    int targetOffset = offset(target);
+                    int seq = lockSlot(offset);
+                    int targetSeq = lockSlot(targetOffset);
+                    buffer.get(offset + LENGTH, moving);
+                    if ((long) LONG.get(buffer, targetOffset + USER_ID) == EMPTY) {
+                        emptySlot(offset);
+                        pending.clear(index);
+                    } else {
+                        // 아직 재배치하지 않은 항목과 맞바꾸고, 이 슬롯으로 온 항목을 이어서 재배치
+                        buffer.get(targetOffset + LENGTH, displaced);
+                        buffer.put(offset + LENGTH, displaced);
+                    }
+                    buffer.put(targetOffset + LENGTH, moving);
+                    unlockSlot(targetOffset, targetSeq);
+                    unlockSlot(offset, seq);
+                }
+            }
+            return expired;
+        } finally {
+            compactionSeq++;
+        }
+    }
+
+    /**
+     * 키 조회 시 확인하는 슬롯 수 (테스트용)
+     */
+    int probeLength(Long userId) {
+        long key = checkKey(userId);
+        int index = slotIndex(key);
+        for (int probe = 1; probe <= capacity; probe++) {
+            long slotKey = (long) LONG.getVolatile(buffer, offset(index) + USER_ID);
+            if (slotKey == key || slotKey == EMPTY) {
+                return probe;
+            }
+            index = (index + 1) & mask;
+        }
+        return capacity;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (expiryScheduler != null) {
+                expiryScheduler.shutdownNow();
+            }
+        }
+        buffer.force();
+        channel.close();
+    }
+
+    // 키가 있으면 그 슬롯, 없으면 탐사 경로의 첫 재사용 가능 슬롯 (삭제/만료 슬롯 또는 빈 슬롯)
+    private int findWritableSlot(long key, long now) {
+        int index = slotIndex(key);
+        int reusable = -1;
+        for (int probe = 0; probe < capacity; probe++) {
+            int offset = offset(index);
+            long slotKey = (long) LONG.getVolatile(buffer, offset + USER_ID);
+            if (slotKey == key) {
+                return offset;
+            }
+            if (slotKey == EMPTY) {
+                return reusable >= 0 ? reusable : offset;
+            }
+            if (reusable < 0 && isWritable(offset, key, now)) {
+                reusable = offset;
+            }
+            index = (index + 1) & mask;
+        }
+        if (reusable >= 0) {
+            return reusable;
+        }
+        throw new IllegalStateException("Refresh token store is full (capacity=" + capacity + ")");
+    }
+
+    private boolean isWritable(int offset, long key, long now) {
+        long slotKey = (long) LONG.getVolatile(buffer, offset + USER_ID);
+        return slotKey == key
+                || slotKey == EMPTY
+                || slotKey == TOMBSTONE
+                || (long) LONG.getVolatile(buffer, offset + EXPIRES_AT) <= now;
+    }
+
+    // 쓰기 락을 잡은 상태에서만 호출 (같은 키의 슬롯은 변하지 않음)
+    private int findSlot(long key) {
+        int index = slotIndex(key);
+        for (int probe = 0; probe < capacity; probe++) {
+            int offset = offset(index);
+            long slotKey = (long) LONG.getVolatile(buffer, offset + USER_ID);
+            if (slotKey == key) {
+                return offset;
+            }
+            if (slotKey == EMPTY) {
+                return -1;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    // 탐사 경로가 끊기지 않도록 빈 슬롯이 아닌 삭제 표시(tombstone)로 변경
+    private void clearSlot(int offset) {
+        int seq = lockSlot(offset);
+        LONG.set(buffer, offset + USER_ID, TOMBSTONE);
+        LONG.set(buffer, offset + EXPIRES_AT, 0L);
+        INT.set(buffer, offset + LENGTH, 0);
+        unlockSlot(offset, seq);
+        tombstones.incrementAndGet();
+    }
+
+    private void emptySlot(int offset) {
+        LONG.set(buffer, offset + USER_ID, EMPTY);
+        LONG.set(buffer, offset + EXPIRES_AT, 0L);
+        INT.set(buffer, offset + LENGTH, 0);
+    }
+
+    // 확인 후 같은 키로 다시 저장되었거나 다른 키가 슬롯을 차지한 경우는 유지
+    private boolean clearIfExpired(int offset, long key, long now) {
+        int seq = lockSlot(offset);
+        boolean expired = (long) LONG.get(buffer, offset + USER_ID) == key
+                && (long) LONG.get(buffer, offset + EXPIRES_AT) <= now;
+        if (expired) {
+            LONG.set(buffer, offset + USER_ID, TOMBSTONE);
+            LONG.set(buffer, offset + EXPIRES_AT, 0L);
+            INT.set(buffer, offset + LENGTH, 0);
+            tombstones.incrementAndGet();
+        }
+        unlockSlot(offset, seq);
+        return expired;
+    }
+
+    private int lockSlot(int offset) {
+        while (true) {
+            int seq = (int) INT.getVolatile(buffer, offset + SEQ);
+            if ((seq & 1) == 0 && INT.compareAndSet(buffer, offset + SEQ, seq, seq + 1)) {
+                return seq + 1;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private void unlockSlot(int offset, int lockedSeq) {
+        INT.setRelease(buffer, offset + SEQ, lockedSeq + 1);
+    }
+
+    // 기록 중 종료된 슬롯(홀수 seq)과 만료된 슬롯은 버리고, 남은 항목 수를 반환
+    private int recover(long now) {
+        int live = 0;
+        for (int index = 0; index < capacity; index++) {
+            int offset = offset(index);
+            int seq = (int) INT.get(buffer, offset + SEQ);
+            long slotKey = (long) LONG.get(buffer, offset + USER_ID);
+            if ((seq & 1) != 0) {
+                INT.set(buffer, offset + SEQ, seq + 1);
+                if (slotKey != EMPTY) {
+                    clearSlot(offset);
+                }
+                continue;
+            }
+            if (slotKey == TOMBSTONE) {
+                tombstones.incrementAndGet();
+                continue;
+            }
+            if (slotKey == EMPTY) {
+                continue;
+            }
+            long expiresAt = (long) LONG.get(buffer, offset + EXPIRES_AT);
+            if (expiresAt <= now) {
+                clearSlot(offset);
+            } else {
+                live++;
+            }
+        }
+        return live;
+    }
+
+    private void writeHeader() {
+        buffer.putLong(0, MAGIC);
+        buffer.putInt(HEADER_VERSION, VERSION);
+        buffer.putInt(HEADER_CAPACITY, capacity);
+        buffer.putInt(HEADER_SLOT_BYTES, slotBytes);
+    }
+
+    private void validateHeader(Path path) {
+        if (buffer.getLong(0) != MAGIC || buffer.getInt(HEADER_VERSION) != VERSION) {
+            throw new IllegalStateException("Not a refresh token store file: " + path);
+        }
+        if (buffer.getInt(HEADER_CAPACITY) != capacity || buffer.getInt(HEADER_SLOT_BYTES) != slotBytes) {
+            throw new IllegalStateException(String.format(
+                    "Refresh token store %s was created with capacity=%d, slotBytes=%d but configured capacity=%d, slotBytes=%d",
+                    path, buffer.getInt(HEADER_CAPACITY), buffer.getInt(HEADER_SLOT_BYTES), capacity, slotBytes));
+        }
+    }
+
+    private Object writeLock(long key) {
+        return writeLocks[(int) (mix(key) >>> 58) & (WRITE_LOCK_STRIPES - 1)];
+    }
+
+    private int slotIndex(long key) {
+        return (int) mix(key) & mask;
+    }
+
+    private int offset(int index) {
+        return HEADER_BYTES + index * slotBytes;
+    }
+
+    private static long mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return hash ^ (hash >>> 32);
+    }
+
+    private static long checkKey(Long userId) {
+        if (userId == null || userId <= 0) {
+            throw new IllegalArgumentException("userId must be positive: " + userId);
+        }
+        return userId;
+    }
+}
@@ -0,0 +1,28 @@
+package springboot.boilerplate.global.token;
+
+import lombok.RequiredArgsConstructor;
+import springboot.boilerplate.global.redis.RedisService;
+
+/**
+ * Redis 기반 Refresh Token 저장소 (기본값)
+ */
+@RequiredArgsConstructor
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private final RedisService redisService;
+
+    @Override
+    public void save(Long userId, String refreshToken, long ttlMillis) {
+        redisService.saveRefreshToken(userId, refreshToken, ttlMillis);
+    }
+
+    @Override
+    public String get(Long userId) {
+        return redisService.getRefreshToken(userId);
+    }
+
+    @Override
+    public void delete(Long userId) {
+        redisService.deleteRefreshToken(userId);
+    }
+}
@@ -0,0 +1,35 @@
+package springboot.boilerplate.global.token;
+
+/**
+ * Refresh Token 저장소
+ *
+ * spring.jwt.refresh-token-store.type 으로 구현 선택
+ * - redis (기본): RedisService의 refresh:{userId} 키
+ * - mapped: 단일 노드용 메모리 매핑 파일 (Redis 네트워크 왕복 없음)
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * Refresh Token 저장 (기존 토큰은 교체)
+     *
+     * @param userId 사용자 ID
+     * @param refreshToken Refresh Token
+     * @param ttlMillis 만료까지 남은 시간 (밀리초)
+     */
+    void save(Long userId, String refreshToken, long ttlMillis);
+
+    /**
+     * 저장된 Refresh Token 조회
+     *
+     * @param userId 사용자 ID
+     * @return 저장된 Refresh Token, 없거나 만료되었으면 null
+     */
+    String get(Long userId);
+
+    /**
+     * 저장된 Refresh Token 삭제
+     *
+     * @param userId 사용자 ID
+     */
+    void delete(Long userId);
+}
@@ -0,0 +1,55 @@
+package springboot.boilerplate.global.token;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+/**
+ * Refresh Token 저장소 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "spring.jwt.refresh-token-store")
+public class RefreshTokenStoreProperties {
+
+    // 저장소 종류 (redis | mapped)
+    private String type = "redis";
+
+    // type=mapped 일 때의 메모리 매핑 파일 설정
+    private Mapped mapped = new Mapped();
+
+    // type=redis 일 때의 쓰기 모아 보내기 설정
+    private WriteBehind writeBehind = new WriteBehind();
+
+    @Getter
+    @Setter
+    public static class Mapped {
+        // 저장 파일 경로 (재시작 시 같은 파일을 다시 열어 유지)
+        private Path path = Path.of("data/refresh-tokens.dat");
+        // 슬롯 수 (2의 거듭제곱으로 올림, 변경 시 기존 파일은 사용할 수 없음)
+        private int capacity = 65536;
+        // 슬롯당 최대 토큰 길이 (바이트)
+        private int maxTokenBytes = 768;
+        // 만료 슬롯 회수 간격 (밀리초)
+        private long tickMs = 1000;
+        // 전체 슬롯을 한 바퀴 확인하는 데 나누어 쓰는 tick 수 (tick 마다 capacity / sweepTicks 개 확인)
+        private int sweepTicks = 3600;
+    }
+
+    @Getter
+    @Setter
+    public static class WriteBehind {
+        // 활성화 시 저장/삭제를 모아 파이프라인으로 전송
+        private boolean enabled = false;
+        // 파이프라인당 최대 쓰기 수
+        private int batchSize = 128;
+        // 첫 쓰기 후 전송까지 최대 대기 시간 (마이크로초)
+        private long maxDelayMicros = 500;
+        // 반영 대기 버퍼 크기 (2의 거듭제곱으로 올림, 가득 차면 호출 스레드가 대기)
+        private int queueCapacity = 16_384;
+        // 전송 실패 시 같은 배치를 다시 보내는 최대 시간 (밀리초, 넘으면 배치를 버리고 실패 수에 집계)
+        private long maxRetryMs = 10_000;
+    }
+}
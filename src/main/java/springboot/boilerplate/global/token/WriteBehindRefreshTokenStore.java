@@ -0,0 +1,171 @@
+package springboot.boilerplate.global.token;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import springboot.boilerplate.global.common.BatchingConsumer;
+import springboot.boilerplate.global.redis.RedisService;
+import springboot.boilerplate.global.redis.RedisService.RefreshTokenWrite;
+import springboot.boilerplate.global.resilience.DependencyGuard;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쓰기를 모아 파이프라인으로 전송하는 Redis Refresh Token 저장소 (write-behind)
+ *
+ * 저장/삭제는 BatchingConsumer 에 넣고 바로 반환하며, 전용 스레드가 batchSize 개가 모이거나
+ * 첫 쓰기 후 maxDelayMicros 가 지나면 한 번의 파이프라인으로 Redis에 반영
+ * 조회는 아직 반영되지 않은 쓰기를 먼저 확인하므로 자신이 쓴 값을 바로 읽을 수 있음
+ * 전송은 guard 로 보호하여 실패가 브레이커에 기록되며, 실패하면 같은 배치를 간격을 늘려 가며 maxRetryMillis 동안
+ * 다시 보내고 그래도 실패하면 버림(failed 지표, 버린 삭제는 Redis TTL 까지 남음)
+ * 재시도 중 같은 사용자의 더 새로운 쓰기가 들어온 항목은 빼고 보내므로 이전 값이 새 값을 덮어쓰지 않음
+ * 큐가 가득 차면 호출 스레드가 대기하며(재시도 시간이 제한되므로 대기도 제한됨), 종료 시 남은 쓰기를 모두 반영한 뒤 멈춤
+ */
+@Slf4j
+public class WriteBehindRefreshTokenStore implements RefreshTokenStore, Closeable {
+
+    // 전송 실패 시 재시도 간격 (실패할 때마다 두 배, 최대값까지)
+    private static final long RETRY_MIN_BACKOFF_MILLIS = 50;
+    private static final long RETRY_MAX_BACKOFF_MILLIS = 2_000;
+
+    private final RedisService redisService;
+    private final DependencyGuard guard;
+    private final long maxRetryNanos;
+    // 아직 Redis에 반영되지 않은 사용자별 마지막 쓰기
+    private final ConcurrentMap<Long, RefreshTokenWrite> pending = new ConcurrentHashMap<>();
+    private final BatchingConsumer<RefreshTokenWrite> flusher;
+
+    private final DistributionSummary batchSizes;
+    private final Timer flushLatency;
+    private final Counter retriedWrites;
+    private final Counter failedWrites;
+
+    public WriteBehindRefreshTokenStore(RedisService redisService, DependencyGuard guard, int batchSize,
+                                        long maxDelayMicros, int queueCapacity, long maxRetryMillis,
+                                        MeterRegistry meterRegistry) {
+        if (batchSize <= 0 || maxDelayMicros < 0 || queueCapacity <= 0 || maxRetryMillis < 0) {
+            throw new IllegalArgumentException(
+                    "batchSize and queueCapacity must be positive and maxDelayMicros, maxRetryMillis must not be negative");
+        }
+        this.redisService = redisService;
+        this.guard = guard;
+        this.maxRetryNanos = TimeUnit.MILLISECONDS.toNanos(maxRetryMillis);
+
+        this.batchSizes = DistributionSummary.builder("refresh.token.write.behind.batch.size")
+                .description("Refresh token writes sent per Redis pipeline")
+                .register(meterRegistry);
+        this.flushLatency = Timer.builder("refresh.token.write.behind.flush")
+                .description("Time spent sending one pipelined batch to Redis")
+                .register(meterRegistry);
+        this.retriedWrites = Counter.builder("refresh.token.write.behind.retried")
+                .description("Refresh token writes sent again after a failed pipeline")
+                .register(meterRegistry);
+        this.failedWrites = Counter.builder("refresh.token.write.behind.failed")
+                .description("Refresh token writes dropped after retrying for max-retry-ms or being interrupted")
+                .register(meterRegistry);
+
+        this.flusher = new BatchingConsumer<>("refresh-token-write-behind", queueCapacity, batchSize,
+                TimeUnit.MICROSECONDS.toNanos(maxDelayMicros), this::flush);
+        Gauge.builder("refresh.token.write.behind.queue.depth", flusher, BatchingConsumer::size)
+                .description("Refresh token writes waiting to be flushed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void save(Long userId, String refreshToken, long ttlMillis) {
+        enqueue(RefreshTokenWrite.save(userId, refreshToken, ttlMillis));
+    }
+
+    @Override
+    public String get(Long userId) {
+        RefreshTokenWrite write = pending.get(userId);
+        if (write != null) {
+            return write.refreshToken();
+        }
+        return redisService.getRefreshToken(userId);
+    }
+
+    @Override
+    public void delete(Long userId) {
+        enqueue(RefreshTokenWrite.delete(userId));
+    }
+
+    /**
+     * 반영 대기 중인 쓰기 수
+     */
+    public int getQueueDepth() {
+        return flusher.size();
+    }
+
+    /**
+     * 남은 쓰기를 모두 반영한 뒤 전송 스레드 종료
+     */
+    @Override
+    public void close() {
+        flusher.close();
+    }
+
+    private void enqueue(RefreshTokenWrite write) {
+        pending.put(write.userId(), write);
+        if (flusher.put(write)) {
+            return;
+        }
+        // 종료 이후의 쓰기는 바로 반영
+        try {
+            redisService.applyRefreshTokenWrites(List.of(write));
+        } finally {
+            pending.remove(write.userId(), write);
+        }
+    }
+
+    private void flush(List<RefreshTokenWrite> batch) {
+        long backoffMillis = RETRY_MIN_BACKOFF_MILLIS;
+        long retryUntil = System.nanoTime() + maxRetryNanos;
+        while (true) {
+            // 같은 사용자의 더 새로운 쓰기가 대기 중이면 그 쓰기가 반영되므로 이전 쓰기는 보내지 않음
+            batch.removeIf(write -> pending.get(write.userId()) != write);
+            if (batch.isEmpty()) {
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                guard.run(() -> redisService.applyRefreshTokenWrites(batch));
+                batchSizes.record(batch.size());
+                break;
+            } catch (RuntimeException e) {
+                if (System.nanoTime() - retryUntil >= 0) {
+                    failedWrites.increment(batch.size());
+                    log.error("Dropping {} refresh token writes after retrying for {} ms: {}",
+                            batch.size(), TimeUnit.NANOSECONDS.toMillis(maxRetryNanos), e.getMessage());
+                    break;
+                }
+                retriedWrites.increment(batch.size());
+                log.warn("Failed to flush {} refresh token writes, retrying in {} ms: {}",
+                        batch.size(), backoffMillis, e.getMessage());
+            } finally {
+                flushLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failedWrites.increment(batch.size());
+                log.error("Interrupted while retrying {} refresh token writes, dropping them", batch.size());
+                break;
+            }
+            backoffMillis = Math.min(backoffMillis * 2, RETRY_MAX_BACKOFF_MILLIS);
+        }
+        // 이후에 같은 사용자의 새 쓰기가 들어왔으면 그 쓰기는 유지
+        for (RefreshTokenWrite write : batch) {
+            pending.remove(write.userId(), write);
+        }
+        batch.clear();
+    }
+}
@@ -0,0 +1,177 @@
+package springboot.boilerplate.global.warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 워밍업 작업 실행기
+ *
+ * 등록 순서대로 작업을 반복 실행하며, 처음/마지막 10% 구간의 평균 지연을 워밍업 전/후 지연으로 기록
+ * 한 작업이 실패해도 다음 작업은 계속 실행하고, 제한 시간이 지나면 남은 반복과 작업을 건너뜀
+ * 작업은 별도 스레드에서 실행하고 제한 시간까지만 기다리므로, 반복 하나가 멈춰도(응답 없는 커넥션 등)
+ * 제한 시간에 끝남 (멈춘 작업은 인터럽트하고 기다리지 않음)
+ */
+public class Warmup {
+
+    private final long timeoutNanos;
+    private final List<Task> tasks = new ArrayList<>();
+
+    public Warmup(long timeoutMillis) {
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    /**
+     * 워밍업 작업 등록
+     *
+     * @param name 작업 이름 (지표 태그로 사용)
+     * @param iterations 반복 횟수 (0 이하이면 등록하지 않음)
+     * @param operation 실행할 작업
+     * @return this
+     */
+    public Warmup task(String name, int iterations, Operation operation) {
+        if (iterations > 0) {
+            tasks.add(new Task(name, iterations, operation));
+        }
+        return this;
+    }
+
+    /**
+     * 등록된 작업을 순서대로 실행
+     *
+     * @return 실행 결과
+     */
+    public Report run() {
+        long start = System.nanoTime();
+        long deadline = start + timeoutNanos;
+        List<Result> results = new ArrayList<>(tasks.size());
+        boolean timedOut = false;
+        ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (Task task : tasks) {
+                long remaining = deadline - System.nanoTime();
+                if (timedOut || remaining <= 0) {
+                    timedOut = true;
+                    results.add(new Result(task.name(), 0, task.iterations(), 0, 0, null));
+                    continue;
+                }
+                Progress progress = new Progress();
+                Future<Result> future = worker.submit(() -> run(task, deadline, progress));
+                Result result;
+                try {
+                    result = future.get(remaining, TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    future.cancel(true);
+                    result = progress.toResult(task);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    future.cancel(true);
+                    result = progress.toResult(task);
+                    timedOut = true;
+                } catch (ExecutionException e) {
+                    result = progress.toResult(task, e.getCause().toString());
+                }
+                timedOut |= result.completed() < task.iterations() && result.failure() == null;
+                results.add(result);
+            }
+        } finally {
+            worker.shutdownNow();
+        }
+        return new Report(results, System.nanoTime() - start, timedOut);
+    }
+
+    private static Result run(Task task, long deadline, Progress progress) {
+        int window = Math.max(1, task.iterations() / 10);
+        long afterTotal = 0;
+        int afterCount = 0;
+        try {
+            while (progress.completed < task.iterations() && System.nanoTime() - deadline < 0) {
+                long start = System.nanoTime();
+                task.operation().run();
+                long elapsed = System.nanoTime() - start;
+                if (progress.completed < window) {
+                    progress.beforeTotal += elapsed;
+                }
+                // 마지막 구간 (제한 시간으로 중단되면 가장 최근 구간)
+                if (progress.completed >= task.iterations() - window) {
+                    afterTotal += elapsed;
+                    afterCount++;
+                }
+                progress.completed++;
+            }
+        } catch (Exception e) {
+            return progress.toResult(task, e.toString());
+        }
+        return new Result(task.name(), progress.completed, task.iterations(),
+                progress.beforeAverage(task), average(afterTotal, afterCount), null);
+    }
+
+    private static long average(long total, int count) {
+        return count > 0 ? total / count : 0;
+    }
+
+    /**
+     * 워밍업 작업 (검사 예외 허용)
+     */
+    @FunctionalInterface
+    public interface Operation {
+        void run() throws Exception;
+    }
+
+    private record Task(String name, int iterations, Operation operation) {
+    }
+
+    /**
+     * 실행 중인 작업의 진행 상황 (작업 스레드만 쓰고, 제한 시간에 중단되면 호출 스레드가 읽음)
+     */
+    private static final class Progress {
+
+        private volatile int completed;
+        private volatile long beforeTotal;
+
+        private long beforeAverage(Task task) {
+            return average(beforeTotal, Math.min(completed, Math.max(1, task.iterations() / 10)));
+        }
+
+        private Result toResult(Task task) {
+            return toResult(task, null);
+        }
+
+        private Result toResult(Task task, String failure) {
+            return new Result(task.name(), completed, task.iterations(), beforeAverage(task), 0, failure);
+        }
+    }
+
+    /**
+     * 작업별 결과
+     *
+     * @param name 작업 이름
+     * @param completed 실행한 반복 수
+     * @param iterations 요청한 반복 수
+     * @param beforeNanos 처음 10% 구간의 평균 지연
+     * @param afterNanos 마지막 10% 구간의 평균 지연 (끝까지 실행하지 못하면 0)
+     * @param failure 실패 사유 (성공 시 null)
+     */
+    public record Result(String name, int completed, int iterations, long beforeNanos, long afterNanos,
+                         String failure) {
+    }
+
+    /**
+     * 전체 결과
+     *
+     * @param results 작업별 결과 (등록 순서)
+     * @param durationNanos 전체 소요 시간
+     * @param timedOut 제한 시간으로 중단된 작업이 있는지
+     */
+    public record Report(List<Result> results, long durationNanos, boolean timedOut) {
+    }
+}
@@ -0,0 +1,27 @@
+package springboot.boilerplate.global.warmup;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 기동 시 워밍업 설정
+ *
+ * 워밍업이 끝나거나 timeoutMs 가 지날 때까지 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌지 않음
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "spring.warmup")
+public class WarmupProperties {
+
+    // 비활성화 시 워밍업 없이 바로 트래픽 수신
+    private boolean enabled = true;
+    // 워밍업 전체 제한 시간 (밀리초, 초과 시 남은 작업을 건너뜀)
+    private long timeoutMs = 30_000;
+    // JWT 생성/검증, JSON 직렬화 반복 횟수
+    private int iterations = 20_000;
+    // 비밀번호 해시 검증 반복 횟수 (1회당 수십 ms)
+    private int passwordHashes = 16;
+    // DB/Redis 조회 반복 횟수
+    private int queries = 500;
+}
@@ -0,0 +1,200 @@
+package springboot.boilerplate.global.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import springboot.boilerplate.auth.dto.request.RequestUserLoginDto;
+import springboot.boilerplate.auth.dto.response.TokenDto;
+import springboot.boilerplate.auth.enums.Role;
+import springboot.boilerplate.auth.repository.UserRepository;
+import springboot.boilerplate.global.common.BaseResponse;
+import springboot.boilerplate.global.datasource.ReplicationRoutingDataSource;
+import springboot.boilerplate.global.redis.RedisService;
+import springboot.boilerplate.global.security.JwtUtil;
+import springboot.boilerplate.global.warmup.Warmup.Report;
+import springboot.boilerplate.global.warmup.Warmup.Result;
+
+import javax.sql.DataSource;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시 워밍업
+ *
+ * 트래픽을 받기 전에 인증 경로(JWT, 비밀번호 해시, JSON 직렬화, Hibernate 조회, Redis 조회)를
+ * 가상의 사용자로 반복 실행하여 JIT 컴파일을 유도하고, DB/Redis 커넥션을 미리 열어 둠
+ * ApplicationRunner 로 실행되므로 워밍업이 끝날 때까지 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌지 않음
+ *
+ * 조회는 존재하지 않는 사용자로만 수행하므로 데이터를 변경하지 않음
+ */
+@Slf4j
+public class WarmupRunner implements ApplicationRunner {
+
+    // 워밍업용 가상 사용자 (실제 사용자와 겹치지 않는 값)
+    private static final long WARMUP_USER_ID = 0L;
+    private static final String WARMUP_EMAIL = "warmup@warmup.invalid";
+    private static final String WARMUP_PASSWORD = "warmup-password";
+    private static final byte[] LOGIN_REQUEST =
+            ("{\"email\":\"" + WARMUP_EMAIL + "\",\"password\":\"" + WARMUP_PASSWORD + "\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private final WarmupProperties properties;
+    private final JwtUtil jwtUtil;
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final ObjectWriter responseWriter;
+    private final ObjectReader loginRequestReader;
+    private final UserRepository userRepository;
+    private final RedisService redisService;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final Collection<DataSource> pools;
+    private final MeterRegistry meterRegistry;
+
+    public WarmupRunner(WarmupProperties properties, JwtUtil jwtUtil, BCryptPasswordEncoder passwordEncoder,
+                        ObjectMapper objectMapper, UserRepository userRepository, RedisService redisService,
+                        RedisConnectionFactory redisConnectionFactory, Collection<DataSource> pools,
+                        MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jwtUtil = jwtUtil;
+        this.passwordEncoder = passwordEncoder;
+        this.responseWriter = objectMapper.writerFor(BaseResponse.class);
+        this.loginRequestReader = objectMapper.readerFor(RequestUserLoginDto.class);
+        this.userRepository = userRepository;
+        this.redisService = redisService;
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.pools = pools;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 라우팅 DataSource 를 사용하면 Primary/Replica 풀을 모두, 아니면 기본 DataSource 를 워밍업 대상으로 사용
+     */
+    public static Collection<DataSource> poolsOf(DataSource dataSource, ReplicationRoutingDataSource routingDataSource) {
+        if (routingDataSource != null) {
+            return routingDataSource.getTargets().values();
+        }
+        return List.of(dataSource);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("[Warmup] 시작 (제한 시간 {} ms)", properties.getTimeoutMs());
+        String passwordHash = passwordEncoder.encode(WARMUP_PASSWORD);
+        String sampleToken = jwtUtil.createAccessToken(WARMUP_USER_ID, WARMUP_EMAIL, Role.USER.name());
+        TokenDto sampleTokens = TokenDto.of(sampleToken, sampleToken);
+
+        Report report = new Warmup(properties.getTimeoutMs())
+                // 커넥션을 먼저 열어 이후 조회가 연결 비용을 부담하지 않도록 함
+                .task("db-pool", 1, this::openPools)
+                .task("redis-connection", 1, this::openRedisConnection)
+                .task("jwt", properties.getIterations(), this::issueAndVerifyToken)
+                .task("json", properties.getIterations(), () -> writeAndReadJson(sampleTokens))
+                .task("password-hash", properties.getPasswordHashes(),
+                        () -> passwordEncoder.matches(WARMUP_PASSWORD, passwordHash))
+                .task("db-query", properties.getQueries(), this::queryUser)
+                .task("redis-query", properties.getQueries(), () -> redisService.getRefreshToken(WARMUP_USER_ID))
+                .run();
+
+        for (Result result : report.results()) {
+            if (result.failure() != null) {
+                log.warn("[Warmup] {} 실패 ({}/{}회): {}", result.name(), result.completed(), result.iterations(),
+                        result.failure());
+            } else {
+                log.info("[Warmup] {}: {}/{}회, 평균 지연 {} -> {} ms", result.name(), result.completed(),
+                        result.iterations(), millis(result.beforeNanos()), millis(result.afterNanos()));
+            }
+        }
+        if (report.timedOut()) {
+            log.warn("[Warmup] 제한 시간 {} ms 초과, 남은 워밍업을 건너뛰고 트래픽 수신 시작", properties.getTimeoutMs());
+        }
+        log.info("[Warmup] 완료 ({} ms)", millis(report.durationNanos()));
+        registerMetrics(report);
+    }
+
+    private void openPools() throws SQLException {
+        for (DataSource pool : pools) {
+            // 최소 유휴 커넥션 수만큼 동시에 빌린 뒤 반납하여 풀을 채움
+            int size = pool.isWrapperFor(HikariDataSource.class)
+                    ? Math.max(1, pool.unwrap(HikariDataSource.class).getMinimumIdle())
+                    : 1;
+            List<Connection> connections = new ArrayList<>(size);
+            try {
+                for (int i = 0; i < size; i++) {
+                    connections.add(pool.getConnection());
+                }
+            } finally {
+                for (Connection connection : connections) {
+                    connection.close();
+                }
+            }
+        }
+    }
+
+    private void openRedisConnection() {
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            connection.ping();
+        }
+    }
+
+    private void issueAndVerifyToken() {
+        String token = jwtUtil.createAccessToken(WARMUP_USER_ID, WARMUP_EMAIL, Role.USER.name());
+        jwtUtil.parseToken(token);
+    }
+
+    private void writeAndReadJson(TokenDto tokenDto) throws Exception {
+        responseWriter.writeValue(OutputStream.nullOutputStream(), BaseResponse.success(tokenDto, "워밍업", HttpStatus.OK));
+        loginRequestReader.readValue(LOGIN_REQUEST);
+    }
+
+    private void queryUser() {
+        // 인증 경로 조회와 중복 검사 조회를 함께 실행
+        // (자연 키 조회는 없는 사용자를 2차 캐시에 저장하지 않고, existsByEmail 은 캐시를 쓰지 않으므로 매번 DB 까지 조회)
+        userRepository.findAuthByEmail(WARMUP_EMAIL);
+        userRepository.existsByEmail(WARMUP_EMAIL);
+    }
+
+    /**
+     * warmup.duration: 워밍업 전체 소요 시간 (밀리초)
+     * warmup.latency: 작업별 워밍업 전/후 평균 지연 (밀리초, phase 태그: before, after)
+     */
+    private void registerMetrics(Report report) {
+        Gauge.builder("warmup.duration", report, r -> r.durationNanos() / 1_000_000.0)
+                .description("Time spent warming up before accepting traffic")
+                .baseUnit("milliseconds")
+                .strongReference(true)
+                .register(meterRegistry);
+        for (Result result : report.results()) {
+            Gauge.builder("warmup.latency", result, r -> r.beforeNanos() / 1_000_000.0)
+                    .description("Average latency of the first and last warm-up iterations")
+                    .baseUnit("milliseconds")
+                    .tags("task", result.name(), "phase", "before")
+                    .strongReference(true)
+                    .register(meterRegistry);
+            Gauge.builder("warmup.latency", result, r -> r.afterNanos() / 1_000_000.0)
+                    .description("Average latency of the first and last warm-up iterations")
+                    .baseUnit("milliseconds")
+                    .tags("task", result.name(), "phase", "after")
+                    .strongReference(true)
+                    .register(meterRegistry);
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
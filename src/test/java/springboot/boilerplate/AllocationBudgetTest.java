@@ -0,0 +1,212 @@
+package springboot.boilerplate;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import springboot.boilerplate.auth.dto.projection.UserAuthDto;
+import springboot.boilerplate.auth.dto.request.RequestTokenReissueDto;
+import springboot.boilerplate.auth.dto.request.RequestUserLoginDto;
+import springboot.boilerplate.auth.enums.Role;
+import springboot.boilerplate.auth.repository.UserRepository;
+import springboot.boilerplate.auth.event.LoginEventPublisher;
+import springboot.boilerplate.auth.service.AuthService;
+import springboot.boilerplate.global.common.BaseResponse;
+import springboot.boilerplate.global.datasource.ReadYourWritesWindow;
+import springboot.boilerplate.global.exception.CustomException;
+import springboot.boilerplate.global.exception.ErrorCode;
+import springboot.boilerplate.global.exception.GlobalExceptionHandler;
+import springboot.boilerplate.global.exception.SecurityExceptionHandler;
+import springboot.boilerplate.global.security.AccessTokenRevocationList;
+import springboot.boilerplate.global.security.JwtAuthenticationFilter;
+import springboot.boilerplate.global.security.JwtUtil;
+import springboot.boilerplate.global.security.RouteTable;
+import springboot.boilerplate.global.security.TokenIssuer;
+import springboot.boilerplate.global.token.RefreshTokenStore;
+import springboot.boilerplate.support.AllocationBudget;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 처리 경로별 작업당 할당량 회귀 테스트
+ *
+ * DB/Redis 호출은 할당이 거의 없는 스텁으로 대체하고 애플리케이션 코드의 할당만 측정
+ * 예산은 src/test/resources/allocation-budget.properties 에서 관리
+ */
+class AllocationBudgetTest {
+
+    private static final int WARMUP = 10_000;
+    private static final int ITERATIONS = 5_000;
+
+    private static final String EMAIL = "budget@user.com";
+    private static final String PASSWORD = "password";
+
+    private final JwtUtil jwtUtil = new JwtUtil("allocation-budget-test-secret-0123456789abcdef", 600_000, 1_209_600_000);
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+    private final StubRefreshTokenStore refreshTokenStore = new StubRefreshTokenStore();
+    private final TokenIssuer tokenIssuer = new TokenIssuer(jwtUtil, refreshTokenStore);
+    private final HttpMessageConverters httpMessageConverters =
+            new HttpMessageConverters(false, List.of(new MappingJackson2HttpMessageConverter()));
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticatedRequestThroughFilter() {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil,
+                new AccessTokenRevocationList(null, null, 1_000, 0.01, 60_000, null), RouteTable.builder().build());
+        String alreadyFiltered = JwtAuthenticationFilter.class.getName() + OncePerRequestFilter.ALREADY_FILTERED_SUFFIX;
+        FilterChain endOfChain = (request, response) -> { };
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/onlyuser");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtil.createAccessToken(1L, EMAIL, Role.USER.name()));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        Supplier<Authentication> authenticate = () -> {
+            request.removeAttribute(alreadyFiltered);
+            try {
+                filter.doFilter(request, response, endOfChain);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            SecurityContextHolder.clearContext();
+            return authentication;
+        };
+        assertThat(authenticate.get()).isNotNull();
+
+        AllocationBudget.assertWithinBudget("authenticated-request", WARMUP, ITERATIONS, authenticate);
+    }
+
+    @Test
+    void securityErrorResponse() {
+        SecurityExceptionHandler handler = new SecurityExceptionHandler(httpMessageConverters);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/onlyuser");
+
+        AllocationBudget.assertWithinBudget("error-response.security", WARMUP, ITERATIONS, () -> {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            try {
+                handler.writeErrorResponse(request, response, ErrorCode.UNAUTHORIZED);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return response;
+        });
+    }
+
+    @Test
+    void globalErrorResponse() {
+        GlobalExceptionHandler handler = new GlobalExceptionHandler();
+        MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter();
+        CustomException exception = new CustomException(ErrorCode.USER_NOT_FOUND);
+
+        // 로그 출력 비용은 로깅 설정에 따라 달라지므로 측정에서 제외
+        Logger logger = (Logger) LoggerFactory.getLogger(GlobalExceptionHandler.class);
+        Level level = logger.getLevel();
+        logger.setLevel(Level.OFF);
+        try {
+            AllocationBudget.assertWithinBudget("error-response.global", WARMUP, ITERATIONS, () -> {
+                ResponseEntity<BaseResponse<Void>> entity = handler.handleCustomException(exception);
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                response.setStatus(entity.getStatusCode().value());
+                try {
+                    converter.write(entity.getBody(), MediaType.APPLICATION_JSON, new ServletServerHttpResponse(response));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return response;
+            });
+        } finally {
+            logger.setLevel(level);
+        }
+    }
+
+    @Test
+    void login() {
+        // BCrypt 할당량은 JIT 의 escape analysis 결과에 따라 실행마다 두 배 가까이 달라지므로
+        // 비교만 하는 인코더로 대체하여 애플리케이션 코드의 할당만 측정
+        BCryptPasswordEncoder plainEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.contentEquals(rawPassword);
+            }
+        };
+        AuthService authService = authService(new UserAuthDto(1L, EMAIL, PASSWORD, Role.USER), plainEncoder);
+        RequestUserLoginDto dto = new RequestUserLoginDto();
+        ReflectionTestUtils.setField(dto, "email", EMAIL);
+        ReflectionTestUtils.setField(dto, "password", PASSWORD);
+
+        AllocationBudget.assertWithinBudget("login", WARMUP, ITERATIONS, () -> authService.login(dto));
+    }
+
+    @Test
+    void reissue() {
+        AuthService authService = authService(null, passwordEncoder);
+        RequestTokenReissueDto dto = new RequestTokenReissueDto();
+        ReflectionTestUtils.setField(dto, "refreshToken", tokenIssuer.issue(1L, EMAIL, Role.USER.name()).getRefreshToken());
+
+        AllocationBudget.assertWithinBudget("reissue", WARMUP, ITERATIONS, () -> authService.reissueAccessToken(dto));
+    }
+
+    private AuthService authService(UserAuthDto user, BCryptPasswordEncoder passwordEncoder) {
+        // findAuthByEmail만 응답하는 저장소 스텁 (Mockito는 호출 기록으로 할당이 발생하므로 사용하지 않음)
+        UserRepository userRepository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAuthByEmail")) {
+                        return Optional.ofNullable(user);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        return new AuthService(userRepository, passwordEncoder, jwtUtil, refreshTokenStore,
+                new ReadYourWritesWindow(0), null, tokenIssuer, LoginEventPublisher.NOOP, null);
+    }
+
+    // Refresh Token을 메모리에 보관하는 저장소 스텁
+    private static final class StubRefreshTokenStore implements RefreshTokenStore {
+
+        private final Map<Long, String> refreshTokens = new HashMap<>();
+
+        @Override
+        public void save(Long userId, String refreshToken, long ttlMillis) {
+            refreshTokens.put(userId, refreshToken);
+        }
+
+        @Override
+        public String get(Long userId) {
+            return refreshTokens.get(userId);
+        }
+
+        @Override
+        public void delete(Long userId) {
+            refreshTokens.remove(userId);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package springboot.boilerplate.auth.controller;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import springboot.boilerplate.auth.domain.CustomUserDetails;
+import springboot.boilerplate.auth.domain.User;
+import springboot.boilerplate.auth.enums.Role;
+import springboot.boilerplate.auth.repository.UserRepository;
+import springboot.boilerplate.auth.search.EmailPrefixIndex;
+import springboot.boilerplate.auth.service.UserService;
+import springboot.boilerplate.global.config.HibernateCacheConfig;
+import springboot.boilerplate.global.datasource.ReadYourWritesWindow;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 내 정보 조회의 조건부 응답 검증
+ *
+ * User 엔티티 캐시가 적재된 뒤의 304 응답은 SQL 없이 처리되어야 함
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=create",
+        "spring.jpa.cache.regions.user.max-entries=100",
+        "spring.jpa.cache.regions.user-natural-id.max-entries=100"
+})
+@Import(HibernateCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserControllerTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private MockMvc mockMvc;
+    private Statistics statistics;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        UserService userService = new UserService(userRepository, new ReadYourWritesWindow(0),
+                new EmailPrefixIndex(16));
+        mockMvc = MockMvcBuilders.standaloneSetup(new UserController(userService))
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        userId = userRepository.save(User.builder()
+                .email("me@user.com")
+                .password("{noop}unused")
+                .role(Role.USER)
+                .authorities(Role.USER.defaultAuthorities())
+                .build()).getId();
+
+        // JwtAuthenticationFilter 와 같이 토큰 클레임만으로 만든 인증 정보
+        CustomUserDetails principal = new CustomUserDetails(User.builder()
+                .id(userId)
+                .email("me@user.com")
+                .password("")
+                .role(Role.USER)
+                .authorities(Role.USER.defaultAuthorities())
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void answersFromClaimsAndCachedProjection() throws Exception {
+        mockMvc.perform(get("/api/v1/users/me"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(jsonPath("$.data.id").value(userId))
+                .andExpect(jsonPath("$.data.email").value("me@user.com"))
+                .andExpect(jsonPath("$.data.role").value("USER"))
+                .andExpect(jsonPath("$.data.authorities[0]").value("ROLE_USER"))
+                .andExpect(jsonPath("$.data.modifiedDate").exists());
+    }
+
+    @Test
+    void unchangedProfileIsNotModifiedWithoutSql() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/users/me"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        statistics.clear();
+
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/api/v1/users/me").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                    .andExpect(content().string(""));
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void modifiedProfileGetsNewETag() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/users/me"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            entityManager.createQuery("update User u set u.modifiedDate = :modifiedDate where u.id = :id")
+                    .setParameter("modifiedDate", LocalDateTime.now().plusMinutes(1))
+                    .setParameter("id", userId)
+                    .executeUpdate();
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+
+        MvcResult result = mockMvc.perform(get("/api/v1/users/me").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+    }
+}
@@ -0,0 +1,107 @@
+package springboot.boilerplate.auth.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import springboot.boilerplate.auth.repository.LoginEventWriter;
+import springboot.boilerplate.support.Gate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginEventPipelineTest {
+
+    private final Gate gate = new Gate();
+    private final FakeLoginEventWriter writer = new FakeLoginEventWriter(gate);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LoginEventPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        gate.release();
+        pipeline.close();
+    }
+
+    @Test
+    void eventsAreWrittenInBoundedBatchesAndFlushedOnClose() {
+        gate.hold();
+        pipeline = new LoginEventPipeline(writer, 64, 4, 60_000, LoginEventProperties.Overflow.DROP, meterRegistry);
+        for (long userId = 1; userId <= 10; userId++) {
+            pipeline.publishSuccess(userId, "user" + userId + "@user.com");
+        }
+        pipeline.publishFailure(null, "unknown@user.com");
+
+        gate.release();
+        pipeline.close();
+
+        assertThat(writer.batchSizes).allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(4));
+        assertThat(writer.events).hasSize(11);
+        assertThat(writer.events.get(10).success()).isFalse();
+        assertThat(meterRegistry.get("login.events.published").counter().count()).isEqualTo(11);
+        assertThat(meterRegistry.get("login.events.batch.size").summary().totalAmount()).isEqualTo(11);
+    }
+
+    @Test
+    void dropPolicyDiscardsEventsWhenBufferIsFull() throws InterruptedException {
+        gate.hold();
+        pipeline = new LoginEventPipeline(writer, 4, 1, 0, LoginEventProperties.Overflow.DROP, meterRegistry);
+        pipeline.publishSuccess(1L, "first@user.com");
+        gate.awaitEntered();
+
+        for (long userId = 2; userId <= 10; userId++) {
+            pipeline.publishSuccess(userId, "user@user.com");
+        }
+
+        // 저장 중인 1개 + 버퍼 4개를 제외한 나머지는 버려짐
+        assertThat(meterRegistry.get("login.events.dropped").counter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("login.events.pending").gauge().value()).isEqualTo(4);
+    }
+
+    @Test
+    void callerRunsPolicyWritesOnTheCallingThread() throws InterruptedException {
+        gate.hold();
+        pipeline = new LoginEventPipeline(writer, 1, 1, 0, LoginEventProperties.Overflow.CALLER_RUNS, meterRegistry);
+        pipeline.publishSuccess(1L, "first@user.com");
+        gate.awaitEntered();
+        // 버퍼 크기는 최소 2
+        pipeline.publishSuccess(2L, "second@user.com");
+        pipeline.publishSuccess(3L, "third@user.com");
+
+        // 버퍼가 가득 찬 상태이므로 호출 스레드에서 바로 저장
+        pipeline.publishSuccess(4L, "fourth@user.com");
+
+        assertThat(writer.threads).contains(Thread.currentThread().getName());
+        assertThat(writer.events).extracting(LoginEvent::userId).containsExactly(4L);
+        assertThat(meterRegistry.get("login.events.dropped").counter().count()).isZero();
+    }
+
+    /**
+     * 저장 요청을 기록하는 LoginEventWriter (전용 스레드의 저장은 gate 에서 대기)
+     */
+    private static class FakeLoginEventWriter extends LoginEventWriter {
+
+        private final List<LoginEvent> events = new CopyOnWriteArrayList<>();
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+        private final Gate gate;
+
+        FakeLoginEventWriter(Gate gate) {
+            super(null);
+            this.gate = gate;
+        }
+
+        @Override
+        public void write(List<LoginEvent> batch) {
+            threads.add(Thread.currentThread().getName());
+            if (!Thread.currentThread().getName().equals("login-event-writer")) {
+                events.addAll(batch);
+                return;
+            }
+            gate.pass();
+            batchSizes.add(batch.size());
+            events.addAll(batch);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package springboot.boilerplate.auth.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import springboot.boilerplate.auth.domain.User;
+import springboot.boilerplate.auth.enums.Role;
+import springboot.boilerplate.auth.event.LoginEvent;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(LoginEventWriter.class)
+class LoginEventWriterTest {
+
+    @Autowired
+    private LoginEventWriter writer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void insertsHistoryRowsAndKeepsLatestLogin() {
+        Long userId = userRepository.saveAndFlush(User.builder()
+                .email("history@user.com")
+                .password("password")
+                .role(Role.USER)
+                .build()).getId();
+
+        writer.write(List.of(
+                new LoginEvent(userId, "history@user.com", true, 2_000_000L, 0),
+                new LoginEvent(userId, "history@user.com", false, 3_000_000L, 0),
+                new LoginEvent(null, "unknown@user.com", false, 3_000_000L, 0),
+                new LoginEvent(userId, "history@user.com", true, 1_000_000L, 0)));
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from tb_login_history", Integer.class)).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from tb_login_history where success = false", Integer.class))
+                .isEqualTo(2);
+        assertThat(lastLogin(userId)).isEqualTo(new Timestamp(2_000_000L));
+
+        // 이전 시각의 배치가 늦게 도착해도 되돌리지 않음
+        writer.write(List.of(new LoginEvent(userId, "history@user.com", true, 1_500_000L, 0)));
+        assertThat(lastLogin(userId)).isEqualTo(new Timestamp(2_000_000L));
+    }
+
+    private Timestamp lastLogin(Long userId) {
+        return jdbcTemplate.queryForObject("select last_login_at from tb_user where user_id = ?", Timestamp.class, userId);
+    }
+}
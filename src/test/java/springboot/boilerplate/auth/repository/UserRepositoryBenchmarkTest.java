@@ -0,0 +1,72 @@
+package springboot.boilerplate.auth.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import springboot.boilerplate.auth.domain.User;
+import springboot.boilerplate.auth.enums.Role;
+import springboot.boilerplate.support.Benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 엔티티 조회와 프로젝션 조회의 지연 시간/할당량 비교
+ *
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@DataJpaTest
+class UserRepositoryBenchmarkTest {
+
+    private static final int USERS = 1_000;
+    private static final int WARMUP = 5_000;
+    private static final int ITERATIONS = 20_000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private int cursor;
+
+    @BeforeEach
+    void seed() {
+        for (int i = 0; i < USERS; i++) {
+            userRepository.save(User.builder()
+                    .email(email(i))
+                    .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z5Q4c3y6Q0K2Ukq2nT3yYv2W")
+                    .role(Role.USER)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void projectionLookupAllocatesLessThanEntityLookup() {
+        // 매 조회마다 영속성 컨텍스트를 비워 요청 단위 EntityManager와 같은 조건으로 측정
+        Benchmark.Result entity = Benchmark.run("findByEmail (entity)", WARMUP, ITERATIONS, () -> {
+            entityManager.clear();
+            return userRepository.findByEmail(nextEmail()).orElseThrow();
+        });
+        Benchmark.Result projection = Benchmark.run("findAuthByEmail (projection)", WARMUP, ITERATIONS, () -> {
+            entityManager.clear();
+            return userRepository.findAuthByEmail(nextEmail()).orElseThrow();
+        });
+
+        assertThat(projection.bytesPerOp()).isLessThan(entity.bytesPerOp());
+    }
+
+    private String nextEmail() {
+        cursor = (cursor + 1) % USERS;
+        return email(cursor);
+    }
+
+    private static String email(int i) {
+        return "user" + i + "@bench.com";
+    }
+}
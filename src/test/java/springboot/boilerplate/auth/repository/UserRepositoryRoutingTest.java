@@ -0,0 +1,109 @@
+package springboot.boilerplate.auth.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import springboot.boilerplate.auth.domain.User;
+import springboot.boilerplate.auth.enums.Role;
+import springboot.boilerplate.global.datasource.ReplicationRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Repository 조회가 트랜잭션 밖에서 호출되어도 Replica로 라우팅되는지 검증
+ *
+ * Primary/Replica 모두 같은 내장 DB를 가리키고, 어느 쪽에서 커넥션을 얻었는지만 센다
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        // 2차 캐시에서 응답하면 커넥션을 얻지 않으므로 끄고 검증
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserRepositoryRoutingTest {
+
+    private static final AtomicInteger primaryConnections = new AtomicInteger();
+    private static final AtomicInteger replicaConnections = new AtomicInteger();
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAllInBatch();
+        primaryConnections.set(0);
+        replicaConnections.set(0);
+    }
+
+    @Test
+    void declaredQueriesReadFromReplica() {
+        Long id = userRepository.save(User.builder()
+                .email("routed@user.com")
+                .password("password")
+                .role(Role.USER)
+                .build()).getId();
+        assertThat(primaryConnections).hasValue(1);
+        assertThat(replicaConnections).hasValue(0);
+
+        assertThat(userRepository.findByEmail("routed@user.com")).isPresent();
+        assertThat(userRepository.findAuthByEmail("routed@user.com")).isPresent();
+        assertThat(userRepository.findProfileById(id)).isPresent();
+        assertThat(userRepository.existsByEmail("routed@user.com")).isTrue();
+
+        assertThat(replicaConnections).hasValue(4);
+        assertThat(primaryConnections).hasValue(1);
+    }
+
+    @TestConfiguration
+    static class RoutingConfig {
+
+        @Bean
+        EmbeddedDatabase embeddedDatabase() {
+            return new EmbeddedDatabaseBuilder()
+                    .setType(EmbeddedDatabaseType.H2)
+                    .generateUniqueName(true)
+                    .build();
+        }
+
+        @Bean
+        ReplicationRoutingDataSource replicationRoutingDataSource(EmbeddedDatabase embeddedDatabase) {
+            return new ReplicationRoutingDataSource(counting(embeddedDatabase, primaryConnections),
+                    List.of(counting(embeddedDatabase, replicaConnections)), 3_600_000, 1);
+        }
+
+        @Bean
+        @Primary
+        DataSource dataSource(ReplicationRoutingDataSource replicationRoutingDataSource) {
+            return new LazyConnectionDataSourceProxy(replicationRoutingDataSource);
+        }
+
+        private static DataSource counting(DataSource target, AtomicInteger counter) {
+            return new DelegatingDataSource(target) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    counter.incrementAndGet();
+                    return super.getConnection();
+                }
+            };
+        }
+    }
+}
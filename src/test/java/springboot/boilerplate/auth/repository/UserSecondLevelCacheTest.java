@@ -0,0 +1,112 @@
+package springboot.boilerplate.auth.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import springboot.boilerplate.auth.dto.request.RequestUserSaveDto;
+import springboot.boilerplate.auth.event.LoginEventPublisher;
+import springboot.boilerplate.auth.search.EmailPrefixIndexSync;
+import springboot.boilerplate.auth.service.AuthService;
+import springboot.boilerplate.global.config.HibernateCacheConfig;
+import springboot.boilerplate.global.datasource.ReadYourWritesWindow;
+import springboot.boilerplate.global.security.AccessTokenRevocationList;
+import springboot.boilerplate.global.security.JwtUtil;
+import springboot.boilerplate.global.security.TokenIssuer;
+import springboot.boilerplate.global.token.RefreshTokenStore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * User 2차 캐시(엔티티/자연 키 캐시) 동작 검증
+ *
+ * 각 조회가 별도 트랜잭션(EntityManager)에서 실행되도록 테스트 트랜잭션을 사용하지 않음
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=create",
+        "spring.jpa.cache.regions.user.max-entries=100",
+        "spring.jpa.cache.regions.user-natural-id.max-entries=100"
+})
+@Import(HibernateCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserSecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AuthService authService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        authService = new AuthService(userRepository, new BCryptPasswordEncoder(4),
+                mock(JwtUtil.class), mock(RefreshTokenStore.class), new ReadYourWritesWindow(0),
+                mock(AccessTokenRevocationList.class), mock(TokenIssuer.class), LoginEventPublisher.NOOP,
+                mock(EmailPrefixIndexSync.class));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void repeatedLookupsIssueNoSql() {
+        Long id = authService.save(saveDto("cached@user.com")).getId();
+
+        // 최초 조회로 자연 키/엔티티 캐시 적재
+        userRepository.findAuthByEmail("cached@user.com");
+        userRepository.findProfileById(id);
+        statistics.clear();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(userRepository.findById(id)).isPresent();
+            assertThat(userRepository.findAuthByEmail("cached@user.com")).isPresent();
+            assertThat(userRepository.findProfileById(id)).isPresent();
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(10);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    void missingUsersAreNotCached() {
+        assertThat(userRepository.findAuthByEmail("late@user.com")).isEmpty();
+
+        // 다른 노드의 가입 (이 노드의 Hibernate 캐시를 거치지 않음)
+        jdbcTemplate.update("insert into tb_user (email, password, role, authorities, created_date, modified_date) "
+                + "values ('late@user.com', 'password', 'USER', 0, current_timestamp, current_timestamp)");
+
+        assertThat(userRepository.findAuthByEmail("late@user.com"))
+                .hasValueSatisfying(user -> assertThat(user.email()).isEqualTo("late@user.com"));
+    }
+
+    private RequestUserSaveDto saveDto(String email) {
+        RequestUserSaveDto dto = new RequestUserSaveDto();
+        ReflectionTestUtils.setField(dto, "email", email);
+        ReflectionTestUtils.setField(dto, "password", "password");
+        return dto;
+    }
+}
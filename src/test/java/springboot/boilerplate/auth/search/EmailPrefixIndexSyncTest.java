@@ -0,0 +1,118 @@
+package springboot.boilerplate.auth.search;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import springboot.boilerplate.auth.dto.projection.UserEmailDto;
+import springboot.boilerplate.auth.repository.UserRepository;
+import springboot.boilerplate.global.exception.ErrorCode;
+import springboot.boilerplate.global.redis.RedisService;
+import springboot.boilerplate.global.resilience.Bulkhead;
+import springboot.boilerplate.global.resilience.CircuitBreaker;
+import springboot.boilerplate.global.resilience.DependencyGuard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmailPrefixIndexSyncTest {
+
+    private final FakeRedisService redis = new FakeRedisService();
+    private final DependencyGuard guard = new DependencyGuard("redis",
+            new Bulkhead(10, 0),
+            new CircuitBreaker(10, 2, 50, 5_000, 1),
+            0,
+            ErrorCode.TOKEN_STORE_UNAVAILABLE);
+    private final EmailPrefixIndex index = new EmailPrefixIndex(16);
+
+    @Test
+    void signupIsIndexedLocallyAndPublished() {
+        EmailPrefixIndexSync sync = new EmailPrefixIndexSync(index, null, redis, null, guard, 0);
+
+        sync.add(1L, "new@user.com");
+
+        assertThat(index.search("new", 0, 10).entries()).extracting(EmailPrefixIndex.Entry::userId).containsExactly(1L);
+        assertThat(redis.published).containsExactly("1:new@user.com");
+    }
+
+    @Test
+    void redisFailureStillIndexesOnThisNode() {
+        redis.down = true;
+        EmailPrefixIndexSync sync = new EmailPrefixIndexSync(index, null, redis, null, guard, 0);
+
+        sync.add(1L, "new@user.com");
+
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void signupPublishedByAnotherNodeIsIndexed() {
+        EmailPrefixIndexSync sync = new EmailPrefixIndexSync(index, null, redis, null, guard, 0);
+
+        sync.onMessage(message("7:remote@user.com"), null);
+        sync.onMessage(message("no-separator"), null);
+        sync.onMessage(message("abc:broken@user.com"), null);
+
+        assertThat(index.search("", 0, 10).entries()).containsExactly(new EmailPrefixIndex.Entry(7, "remote@user.com"));
+    }
+
+    @Test
+    void resubscribingReloadsSignupsMissedWhileDisconnected() throws InterruptedException {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findEmailsAfter(anyLong(), any(Limit.class)))
+                .thenReturn(List.of(new UserEmailDto(1L, "missed@user.com")));
+        EmailPrefixIndexLoader loader = new EmailPrefixIndexLoader(userRepository, index, 100);
+        EmailPrefixIndexSync sync = new EmailPrefixIndexSync(index, loader, redis,
+                mock(RedisMessageListenerContainer.class), guard, 0);
+        sync.afterPropertiesSet();
+        try {
+            // 기동 시 적재 전의 첫 구독은 적재를 기다림
+            sync.onChannelSubscribed(new byte[0], 1);
+            assertThat(index.isLoaded()).isFalse();
+
+            index.load(new EmailPrefixIndex.Entry[0]);
+            sync.onChannelSubscribed(new byte[0], 1);
+
+            for (int i = 0; i < 500 && index.size() == 0; i++) {
+                Thread.sleep(10);
+            }
+        } finally {
+            sync.destroy();
+        }
+        assertThat(index.search("missed", 0, 10).total()).isEqualTo(1);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(RedisService.USER_SIGNUP_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 가입 알림을 기록하는 RedisService (down 이면 연결 실패)
+     */
+    private static class FakeRedisService extends RedisService {
+
+        private final List<String> published = new CopyOnWriteArrayList<>();
+        private volatile boolean down;
+
+        FakeRedisService() {
+            super(null);
+        }
+
+        @Override
+        public void publishUserSignup(Long userId, String email) {
+            if (down) {
+                throw new RedisConnectionFailureException("redis down");
+            }
+            published.add(userId + ":" + email);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package springboot.boilerplate.auth.search;
+
+import org.junit.jupiter.api.Test;
+import springboot.boilerplate.auth.search.EmailPrefixIndex.Entry;
+import springboot.boilerplate.auth.search.EmailPrefixIndex.Result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailPrefixIndexTest {
+
+    @Test
+    void searchIsCaseInsensitiveAndOrderedByEmail() {
+        EmailPrefixIndex index = new EmailPrefixIndex(1_000);
+        index.load(new Entry[]{
+                new Entry(1, "Bob@example.com"),
+                new Entry(2, "alice@example.com"),
+                new Entry(3, "bobby@example.com"),
+                new Entry(4, "carol@example.com")
+        });
+
+        Result result = index.search("BOB", 0, 10);
+
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.entries()).containsExactly(
+                new Entry(1, "bob@example.com"),
+                new Entry(3, "bobby@example.com"));
+        assertThat(index.search("dave", 0, 10).total()).isZero();
+        assertThat(index.search("", 0, 10).total()).isEqualTo(4);
+    }
+
+    @Test
+    void pagesMergeLoadedAndNewlyAddedUsers() {
+        EmailPrefixIndex index = new EmailPrefixIndex(1_000);
+        TreeMap<String, Long> expected = new TreeMap<>();
+        List<Entry> loaded = new ArrayList<>();
+        for (int i = 0; i < 200; i += 2) {
+            String email = String.format("user%03d@example.com", i);
+            loaded.add(new Entry(i, email));
+            expected.put(email, (long) i);
+        }
+        index.load(loaded.toArray(Entry[]::new));
+        for (int i = 1; i < 200; i += 2) {
+            String email = String.format("user%03d@example.com", i);
+            index.add(i, email);
+            expected.put(email, (long) i);
+        }
+
+        List<Entry> paged = new ArrayList<>();
+        for (int page = 0; ; page++) {
+            Result result = index.search("user", page * 7L, 7);
+            assertThat(result.total()).isEqualTo(200);
+            if (result.entries().isEmpty()) {
+                break;
+            }
+            paged.addAll(result.entries());
+        }
+
+        assertThat(paged).extracting(Entry::email).containsExactlyElementsOf(expected.keySet());
+        assertThat(paged).extracting(Entry::userId).containsExactlyElementsOf(expected.values());
+        assertThat(index.search("user1", 95, 10).entries()).extracting(Entry::email)
+                .containsExactly("user195@example.com", "user196@example.com", "user197@example.com",
+                        "user198@example.com", "user199@example.com");
+    }
+
+    @Test
+    void compactionKeepsEveryUserSearchable() {
+        EmailPrefixIndex index = new EmailPrefixIndex(4);
+        index.load(new Entry[0]);
+        for (int i = 0; i < 50; i++) {
+            index.add(i, "member" + i + "@example.com");
+        }
+        index.add(99, "MEMBER7@example.com");
+
+        assertThat(index.size()).isEqualTo(50);
+        assertThat(index.search("member7", 0, 10).entries()).containsExactly(
+                new Entry(7, "member7@example.com"));
+        assertThat(index.search("member", 0, 100).total()).isEqualTo(50);
+    }
+
+    @Test
+    void compactionRunsOffTheSignupThread() {
+        List<Runnable> compactions = new ArrayList<>();
+        EmailPrefixIndex index = new EmailPrefixIndex(4, compactions::add);
+        index.load(new Entry[]{new Entry(100, "loaded@example.com")});
+        for (int i = 0; i < 4; i++) {
+            index.add(i, "member" + i + "@example.com");
+        }
+
+        // 합치기는 예약만 되고 가입 스레드에서 실행되지 않음
+        assertThat(compactions).hasSize(1);
+        index.add(4, "member4@example.com");
+        assertThat(compactions).hasSize(1);
+        assertThat(index.search("member", 0, 10).total()).isEqualTo(5);
+
+        // 예약 이후에 추가된 사용자도 합친 뒤 그대로 검색됨
+        compactions.remove(0).run();
+        index.add(5, "member5@example.com");
+        assertThat(index.search("", 0, 10).entries()).extracting(Entry::userId)
+                .containsExactly(100L, 0L, 1L, 2L, 3L, 4L, 5L);
+        assertThat(index.size()).isEqualTo(7);
+    }
+
+    @Test
+    void signupsDuringStartupLoadAreKept() {
+        EmailPrefixIndex index = new EmailPrefixIndex(2);
+        // 적재 전에 가입하여 이미 압축 배열에 합쳐진 사용자 포함
+        index.add(10, "early1@example.com");
+        index.add(11, "early2@example.com");
+        index.add(12, "early3@example.com");
+        assertThat(index.isLoaded()).isFalse();
+
+        index.load(new Entry[]{
+                new Entry(1, "scanned@example.com"),
+                new Entry(11, "early2@example.com")
+        });
+
+        assertThat(index.isLoaded()).isTrue();
+        assertThat(index.search("", 0, 10).entries()).extracting(Entry::email).containsExactly(
+                "early1@example.com", "early2@example.com", "early3@example.com", "scanned@example.com");
+    }
+
+    @Test
+    void signupsWhileLoadingAreKept() throws InterruptedException {
+        EmailPrefixIndex index = new EmailPrefixIndex(8);
+        Entry[] scanned = new Entry[20_000];
+        for (int i = 0; i < scanned.length; i++) {
+            scanned[i] = new Entry(i, "scanned" + i + "@example.com");
+        }
+
+        // 합치기는 잠금 밖에서 하므로 그동안의 가입과 합치기 교체가 적재 결과에 반영되어야 함
+        Thread signups = new Thread(() -> {
+            for (int i = 0; i < 2_000; i++) {
+                index.add(100_000 + i, "signup" + i + "@example.com");
+            }
+        });
+        signups.start();
+        index.load(scanned, 10_000);
+        signups.join();
+
+        assertThat(index.search("signup", 0, 10).total()).isEqualTo(2_000);
+        assertThat(index.search("scanned", 0, 10).total()).isEqualTo(10_000);
+        assertThat(index.size()).isEqualTo(12_000);
+    }
+}
@@ -0,0 +1,103 @@
+package springboot.boilerplate.auth.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import springboot.boilerplate.auth.domain.User;
+import springboot.boilerplate.auth.dto.request.RequestUserSaveDto;
+import springboot.boilerplate.auth.enums.Role;
+import springboot.boilerplate.auth.event.LoginEventPublisher;
+import springboot.boilerplate.auth.repository.UserRepository;
+import springboot.boilerplate.auth.search.EmailPrefixIndexSync;
+import springboot.boilerplate.global.datasource.ReadYourWritesWindow;
+import springboot.boilerplate.global.exception.CustomException;
+import springboot.boilerplate.global.exception.ErrorCode;
+import springboot.boilerplate.global.security.AccessTokenRevocationList;
+import springboot.boilerplate.global.security.JwtUtil;
+import springboot.boilerplate.global.security.TokenIssuer;
+import springboot.boilerplate.global.token.RefreshTokenStore;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 회원가입의 비밀번호 해시가 트랜잭션 밖에서 계산되는지 검증
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AuthServiceSaveTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<Boolean> transactionActiveWhileHashing = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void passwordIsHashedBeforeTransactionOpens() {
+        AuthService authService = authService(userRepository);
+
+        assertThat(authService.save(saveDto("hash@user.com")).getId()).isNotNull();
+
+        assertThat(transactionActiveWhileHashing).containsExactly(false);
+        assertThat(userRepository.findByEmail("hash@user.com")).isPresent();
+    }
+
+    @Test
+    void concurrentSignupWithSameEmailIsRejected() {
+        // 중복 검사를 통과한 뒤 다른 가입이 먼저 커밋된 경우 (unique 제약 위반)
+        UserRepository racing = mock(UserRepository.class, AdditionalAnswers.delegatesTo(userRepository));
+        doAnswer(invocation -> {
+            userRepository.save(User.builder()
+                    .email("race@user.com")
+                    .password("password")
+                    .role(Role.USER)
+                    .build());
+            return false;
+        }).when(racing).existsByEmail("race@user.com");
+        AuthService authService = authService(racing);
+
+        assertThatThrownBy(() -> authService.save(saveDto("race@user.com")))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.EMAIL_ALREADY_EXISTS);
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    private AuthService authService(UserRepository repository) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                transactionActiveWhileHashing.add(TransactionSynchronizationManager.isActualTransactionActive());
+                return super.encode(rawPassword);
+            }
+        };
+        return new AuthService(repository, encoder,
+                mock(JwtUtil.class), mock(RefreshTokenStore.class), new ReadYourWritesWindow(0),
+                mock(AccessTokenRevocationList.class), mock(TokenIssuer.class), LoginEventPublisher.NOOP,
+                mock(EmailPrefixIndexSync.class));
+    }
+
+    private RequestUserSaveDto saveDto(String email) {
+        RequestUserSaveDto dto = new RequestUserSaveDto();
+        ReflectionTestUtils.setField(dto, "email", email);
+        ReflectionTestUtils.setField(dto, "password", "password");
+        return dto;
+    }
+}
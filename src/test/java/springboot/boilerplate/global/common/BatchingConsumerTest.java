@@ -0,0 +1,108 @@
+package springboot.boilerplate.global.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import springboot.boilerplate.support.Gate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchingConsumerTest {
+
+    private final Gate gate = new Gate();
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+    private BatchingConsumer<Integer> consumer;
+
+    @AfterEach
+    void tearDown() {
+        gate.release();
+        consumer.close();
+    }
+
+    @Test
+    void batchesAreBoundedAndRemainingItemsAreHandledOnClose() {
+        gate.hold();
+        consumer = newConsumer(64, 4, TimeUnit.SECONDS.toNanos(60));
+        for (int i = 1; i <= 10; i++) {
+            assertThat(consumer.offer(i)).isTrue();
+        }
+
+        gate.release();
+        consumer.close();
+
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(4));
+        assertThat(batches.stream().flatMap(List::stream)).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    @Test
+    void partialBatchIsHandledAfterMaxDelay() throws InterruptedException {
+        consumer = newConsumer(64, 128, TimeUnit.MILLISECONDS.toNanos(5));
+        consumer.offer(1);
+        consumer.offer(2);
+
+        // 배치가 차지 않아도 최대 대기 시간이 지나면 처리
+        gate.awaitEntered();
+        assertThat(batches).isNotEmpty();
+        assertThat(consumer.isRunning()).isTrue();
+    }
+
+    @Test
+    void offerFailsWhenFullAndPutWaitsForRoom() throws Exception {
+        gate.hold();
+        consumer = newConsumer(2, 1, 0);
+        consumer.offer(1);
+        gate.awaitEntered();
+        consumer.offer(2);
+        consumer.offer(3);
+
+        assertThat(consumer.offer(4)).isFalse();
+        CompletableFuture<Boolean> put = CompletableFuture.supplyAsync(() -> consumer.put(4));
+        gate.release();
+
+        assertThat(put.get(5, TimeUnit.SECONDS)).isTrue();
+        consumer.close();
+        assertThat(batches.stream().flatMap(List::stream)).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    void handlerFailureDoesNotStopTheConsumer() {
+        consumer = new BatchingConsumer<>("batching-test", 64, 1, 0, failingOn(1));
+        consumer.offer(1);
+        consumer.offer(2);
+        consumer.close();
+
+        assertThat(batches).containsExactly(List.of(2));
+    }
+
+    @Test
+    void offersAfterCloseAreRejected() {
+        consumer = newConsumer(64, 4, 0);
+        consumer.close();
+
+        assertThat(consumer.isRunning()).isFalse();
+        assertThat(consumer.offer(1)).isFalse();
+        assertThat(consumer.put(1)).isFalse();
+        assertThat(batches).isEmpty();
+    }
+
+    private BatchingConsumer<Integer> newConsumer(int capacity, int batchSize, long maxDelayNanos) {
+        return new BatchingConsumer<>("batching-test", capacity, batchSize, maxDelayNanos, batch -> {
+            batches.add(List.copyOf(batch));
+            gate.pass();
+        });
+    }
+
+    private Consumer<List<Integer>> failingOn(int item) {
+        return batch -> {
+            if (batch.contains(item)) {
+                throw new IllegalStateException("write failed");
+            }
+            batches.add(List.copyOf(batch));
+        };
+    }
+}
@@ -0,0 +1,73 @@
+package springboot.boilerplate.global.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import springboot.boilerplate.auth.dto.response.ResponseUserSaveDto;
+import springboot.boilerplate.auth.dto.response.TokenDto;
+import springboot.boilerplate.support.Benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JSON/CBOR/Smile 응답 본문 크기와 직렬화 비용 비교
+ *
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+class BinaryFormatBenchmarkTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final ObjectMapper cbor = new CBORMapper();
+    private final ObjectMapper smile = new SmileMapper();
+
+    @Test
+    void tokenResponse() throws Exception {
+        // 실제 토큰과 비슷한 길이의 JWT 형태 문자열
+        String accessToken = "eyJhbGciOiJIUzI1NiJ9." + "a".repeat(180) + "." + "b".repeat(43);
+        String refreshToken = "eyJhbGciOiJIUzI1NiJ9." + "c".repeat(180) + "." + "d".repeat(43);
+        compare("TokenDto", BaseResponse.success(TokenDto.of(accessToken, refreshToken), "로그인 성공", HttpStatus.OK));
+    }
+
+    @Test
+    void pagedResponse() throws Exception {
+        List<ResponseUserSaveDto> users = new ArrayList<>();
+        for (long i = 0; i < 50; i++) {
+            users.add(new ResponseUserSaveDto(i, "user" + i + "@bench.com", "USER"));
+        }
+        compare("PagedResponse(50)", PagedResponse.fromPage(new PageImpl<>(users, PageRequest.of(0, 50), 10_000)));
+    }
+
+    private void compare(String name, Object body) throws Exception {
+        int jsonSize = json.writeValueAsBytes(body).length;
+        int cborSize = cbor.writeValueAsBytes(body).length;
+        int smileSize = smile.writeValueAsBytes(body).length;
+        System.out.printf("[Benchmark] %-45s json=%d B, cbor=%d B, smile=%d B%n", name + " size", jsonSize, cborSize, smileSize);
+
+        Benchmark.run(name + " json", WARMUP, ITERATIONS, () -> serialize(json, body));
+        Benchmark.run(name + " cbor", WARMUP, ITERATIONS, () -> serialize(cbor, body));
+        Benchmark.run(name + " smile", WARMUP, ITERATIONS, () -> serialize(smile, body));
+
+        assertThat(cborSize).isLessThan(jsonSize);
+        assertThat(smileSize).isLessThan(jsonSize);
+    }
+
+    private static byte[] serialize(ObjectMapper mapper, Object body) {
+        try {
+            return mapper.writeValueAsBytes(body);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package springboot.boilerplate.global.common;
+
+import org.junit.jupiter.api.Test;
+import springboot.boilerplate.global.deadline.RequestDeadline;
+import springboot.boilerplate.global.exception.CustomException;
+import springboot.boilerplate.global.exception.ErrorCode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>(100);
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @Test
+    void concurrentCallsShareOneExecution() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submitAll(() -> singleFlight.execute("token", () -> {
+            awaitQuietly(release);
+            return "access-" + executions.incrementAndGet();
+        }));
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("access-1");
+        }
+        assertThat(executions).hasValue(1);
+        assertThat(singleFlight.getCoalescedCount()).isEqualTo(CALLERS - 1);
+        assertThat(singleFlight.getInFlightCount()).isZero();
+        executor.shutdown();
+    }
+
+    @Test
+    void waitersReceiveTheSameException() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("invalid");
+
+        List<Future<String>> results = submitAll(() -> singleFlight.execute("token", () -> {
+            awaitQuietly(release);
+            throw failure;
+        }));
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        }
+        assertThat(singleFlight.getInFlightCount()).isZero();
+        executor.shutdown();
+    }
+
+    @Test
+    void waitersStopAtTheirOwnDeadline() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> singleFlight.execute("token", () -> {
+            awaitQuietly(release);
+            return "access";
+        }));
+        awaitInFlight();
+
+        Future<Long> waiter = executor.submit(() -> {
+            RequestDeadline.start(50);
+            long start = System.nanoTime();
+            try {
+                singleFlight.execute("token", () -> "never");
+                throw new AssertionError("waiter must time out");
+            } catch (CustomException e) {
+                assertThat(e.getErrorCode()).isEqualTo(ErrorCode.DEADLINE_EXCEEDED);
+                return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            } finally {
+                RequestDeadline.clear();
+            }
+        });
+
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isLessThan(1_000);
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("access");
+        executor.shutdown();
+    }
+
+    @Test
+    void leaderDeadlineFailureIsNotShared() throws Exception {
+        Future<String> leader = executor.submit(() -> {
+            RequestDeadline.start(50);
+            try {
+                return singleFlight.execute("token", () -> {
+                    try {
+                        awaitCoalesced(1);
+                        Thread.sleep(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new CustomException(ErrorCode.DEADLINE_EXCEEDED);
+                });
+            } finally {
+                RequestDeadline.clear();
+            }
+        });
+        awaitInFlight();
+
+        // 기한이 없는 호출은 실행한 호출의 기한 초과를 공유받지 않고 직접 다시 실행
+        Future<String> waiter = executor.submit(() -> singleFlight.execute("token", () -> "waiter"));
+
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("waiter");
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(CustomException.class);
+        assertThat(singleFlight.getExecutionCount()).isEqualTo(2);
+        executor.shutdown();
+    }
+
+    @Test
+    void completedKeysAreNotCached() {
+        AtomicInteger executions = new AtomicInteger();
+
+        singleFlight.execute("token", () -> String.valueOf(executions.incrementAndGet()));
+        singleFlight.execute("token", () -> String.valueOf(executions.incrementAndGet()));
+
+        assertThat(executions).hasValue(2);
+        assertThat(singleFlight.getCoalescedCount()).isZero();
+    }
+
+    private List<Future<String>> submitAll(Callable<String> call) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(call));
+        }
+        return results;
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getInFlightCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private void awaitCoalesced(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getCoalescedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package springboot.boilerplate.global.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReplicationRoutingDataSourceTest {
+
+    private static final String SELECT_NODE = "SELECT name FROM node";
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private final AtomicBoolean replicaDown = new AtomicBoolean();
+
+    private ReplicationRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTx;
+    private TransactionTemplate readWriteTx;
+
+    @BeforeEach
+    void setUp() {
+        primary = embeddedDatabase("primary");
+        replica = embeddedDatabase("replica");
+
+        DataSource flakyReplica = new DelegatingDataSource(replica) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (replicaDown.get()) {
+                    throw new SQLException("replica down");
+                }
+                return super.getConnection();
+            }
+        };
+
+        // 주기 점검이 테스트 중에 돌지 않도록 긴 주기 사용 (checkReplicas 로 직접 점검)
+        routingDataSource = new ReplicationRoutingDataSource(primary, List.of(flakyReplica), 3_600_000, 1);
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        readWriteTx = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        routingDataSource.close();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        assertThat(readOnlyTx.<String>execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void writeTransactionAndNonTransactionalAccessGoToPrimary() {
+        assertThat(readWriteTx.<String>execute(status -> currentNode())).isEqualTo("primary");
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void forcedPrimaryOverridesReadOnly() {
+        String node = DataSourceRoutingContext.callOnPrimary(() -> readOnlyTx.execute(status -> currentNode()));
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    void fallsBackToPrimaryWhileReplicaIsDown() {
+        replicaDown.set(true);
+        assertThat(readOnlyTx.<String>execute(status -> currentNode())).isEqualTo("primary");
+        assertThat(routingDataSource.getDownReplicas()).containsExactly("replica-0");
+
+        replicaDown.set(false);
+        routingDataSource.checkReplicas();
+        assertThat(routingDataSource.getDownReplicas()).isEmpty();
+        assertThat(readOnlyTx.<String>execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void readYourWritesWindowPinsRecentKeysToPrimary() {
+        ReadYourWritesWindow window = new ReadYourWritesWindow(60_000);
+        window.markWritten("new@user.com");
+
+        assertThat(window.<String>read("new@user.com", () -> readOnlyTx.execute(status -> currentNode()))).isEqualTo("primary");
+        assertThat(window.<String>read("old@user.com", () -> readOnlyTx.execute(status -> currentNode()))).isEqualTo("replica");
+    }
+
+    @Test
+    void rejectsDisabledHealthCheck() {
+        assertThatThrownBy(() -> new ReplicationRoutingDataSource(primary, List.of(replica), 0, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("healthCheckIntervalMs");
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject(SELECT_NODE, String.class);
+    }
+
+    private EmbeddedDatabase embeddedDatabase(String node) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate template = new JdbcTemplate(database);
+        template.execute("CREATE TABLE node (name VARCHAR(20))");
+        template.update("INSERT INTO node (name) VALUES (?)", node);
+        return database;
+    }
+}
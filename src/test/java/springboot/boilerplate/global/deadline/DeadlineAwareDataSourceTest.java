@@ -0,0 +1,78 @@
+package springboot.boilerplate.global.deadline;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import springboot.boilerplate.global.exception.CustomException;
+import springboot.boilerplate.global.exception.ErrorCode;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DeadlineAwareDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private final PreparedStatement statement = mock(PreparedStatement.class);
+    private final DeadlineAwareDataSource dataSource = new DeadlineAwareDataSource(target);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    void queriesWithoutDeadlineKeepTheirTimeout() throws SQLException {
+        dataSource.getConnection().prepareStatement("select 1");
+
+        verify(statement, never()).setQueryTimeout(anyInt());
+    }
+
+    @Test
+    void remainingBudgetIsRoundedUpToWholeSeconds() throws SQLException {
+        RequestDeadline.start(1_500);
+        dataSource.getConnection().prepareStatement("select 1");
+        verify(statement).setQueryTimeout(2);
+    }
+
+    @Test
+    void subSecondBudgetUsesOneSecondBecauseZeroMeansUnlimited() throws SQLException {
+        RequestDeadline.start(200);
+        dataSource.getConnection().prepareStatement("select 1");
+        verify(statement).setQueryTimeout(1);
+    }
+
+    @Test
+    void expiredRequestsDoNotBorrowConnections() throws SQLException {
+        RequestDeadline.start(0);
+
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.DEADLINE_EXCEEDED);
+        verify(target, never()).getConnection();
+    }
+
+    @Test
+    void otherConnectionMethodsAreDelegated() throws SQLException {
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        assertThat(dataSource.getConnection().getAutoCommit()).isTrue();
+    }
+}
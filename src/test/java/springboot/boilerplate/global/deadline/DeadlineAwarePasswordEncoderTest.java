@@ -0,0 +1,29 @@
+package springboot.boilerplate.global.deadline;
+
+import org.junit.jupiter.api.Test;
+import springboot.boilerplate.global.exception.CustomException;
+import springboot.boilerplate.global.exception.ErrorCode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeadlineAwarePasswordEncoderTest {
+
+    @Test
+    void passwordHashIsNotStartedWithoutEnoughBudget() {
+        DeadlineAwarePasswordEncoder encoder = new DeadlineAwarePasswordEncoder(1);
+        String hash = encoder.encode("password");
+
+        RequestDeadline.start(0);
+        try {
+            assertThat(RequestDeadline.isExpired()).isTrue();
+            assertThatThrownBy(() -> encoder.matches("password", hash))
+                    .isInstanceOf(CustomException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.DEADLINE_EXCEEDED);
+        } finally {
+            RequestDeadline.clear();
+        }
+        assertThat(encoder.matches("password", hash)).isTrue();
+        assertThat(encoder.getAverageHashMillis()).isPositive();
+    }
+}
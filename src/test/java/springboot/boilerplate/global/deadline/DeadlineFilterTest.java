@@ -0,0 +1,95 @@
+package springboot.boilerplate.global.deadline;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import springboot.boilerplate.global.exception.CustomException;
+import springboot.boilerplate.global.exception.ErrorCode;
+import springboot.boilerplate.global.exception.SecurityExceptionHandler;
+import springboot.boilerplate.global.resilience.ConcurrencyLimitFilter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeadlineFilterTest {
+
+    private final SecurityExceptionHandler handler = new SecurityExceptionHandler(
+            new HttpMessageConverters(false, List.of(new MappingJackson2HttpMessageConverter())));
+
+    @Test
+    void budgetIsShorterOfHeaderAndEndpointLimit() {
+        DeadlineFilter filter = new DeadlineFilter(properties(), handler);
+
+        assertThat(filter.budgetMillis(request("/api/v1/auth/login", null))).isEqualTo(2000);
+        assertThat(filter.budgetMillis(request("/api/v1/auth/login", "300"))).isEqualTo(300);
+        assertThat(filter.budgetMillis(request("/api/v1/auth/login", "60000"))).isEqualTo(2000);
+        assertThat(filter.budgetMillis(request("/api/v1/auth/save", null))).isEqualTo(1000);
+        assertThat(filter.budgetMillis(request("/onlyuser", "abc"))).isEqualTo(5000);
+    }
+
+    @Test
+    void deadlineIsVisibleDuringChainAndClearedAfter() throws Exception {
+        DeadlineFilter filter = new DeadlineFilter(properties(), handler);
+        AtomicLong remaining = new AtomicLong(-1);
+
+        filter.doFilter(request("/onlyuser", "500"), new MockHttpServletResponse(),
+                (req, res) -> remaining.set(RequestDeadline.remainingMillis()));
+
+        assertThat(remaining.get()).isBetween(1L, 500L);
+        assertThat(RequestDeadline.isSet()).isFalse();
+    }
+
+    @Test
+    void expiredRequestsAreAnsweredWithGatewayTimeout() throws Exception {
+        DeadlineFilter filter = new DeadlineFilter(properties(), handler);
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(request("/onlyuser", "0"), rejected, (req, res) -> {
+            throw new AssertionError("chain must not run");
+        });
+        assertThat(rejected.getStatus()).isEqualTo(ErrorCode.DEADLINE_EXCEEDED.getHttpStatus().value());
+
+        MockHttpServletResponse timedOut = new MockHttpServletResponse();
+        filter.doFilter(request("/login", null), timedOut, (req, res) -> {
+            throw new CustomException(ErrorCode.DEADLINE_EXCEEDED);
+        });
+        assertThat(timedOut.getStatus()).isEqualTo(504);
+        assertThat(RequestDeadline.isSet()).isFalse();
+    }
+
+    @Test
+    void timeoutsOfClientShortenedDeadlinesAreNotOverloadSignals() throws Exception {
+        DeadlineFilter filter = new DeadlineFilter(properties(), handler);
+
+        MockHttpServletRequest shortened = request("/onlyuser", "1");
+        filter.doFilter(shortened, new MockHttpServletResponse(), (req, res) -> { });
+        MockHttpServletRequest serverDeadline = request("/onlyuser", "60000");
+        filter.doFilter(serverDeadline, new MockHttpServletResponse(), (req, res) -> { });
+
+        assertThat(shortened.getAttribute(ConcurrencyLimitFilter.IGNORED_STATUS_ATTRIBUTE)).isEqualTo(504);
+        assertThat(serverDeadline.getAttribute(ConcurrencyLimitFilter.IGNORED_STATUS_ATTRIBUTE)).isNull();
+    }
+
+    private static DeadlineProperties properties() {
+        DeadlineProperties properties = new DeadlineProperties();
+        properties.setDefaultMs(5000);
+        properties.setEndpoints(Map.of(
+                "/api/v1/auth", 1000L,
+                "/api/v1/auth/login", 2000L,
+                "/login", 2000L));
+        return properties;
+    }
+
+    private static MockHttpServletRequest request(String uri, String timeoutHeader) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        if (timeoutHeader != null) {
+            request.addHeader("X-Request-Timeout-Ms", timeoutHeader);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,51 @@
+package springboot.boilerplate.global.deadline;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeadlineTimeoutSourceTest {
+
+    private static final Duration COMMAND_TIMEOUT = Duration.ofMillis(500);
+
+    private final DeadlineTimeoutSource timeoutSource = new DeadlineTimeoutSource(COMMAND_TIMEOUT);
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    void commandsWithoutDeadlineUseTheCommandTimeout() {
+        assertThat(timeoutSource.getTimeout(null)).isEqualTo(COMMAND_TIMEOUT.toNanos());
+        assertThat(timeoutSource.getTimeUnit()).isEqualTo(TimeUnit.NANOSECONDS);
+    }
+
+    @Test
+    void shorterRemainingBudgetWins() {
+        RequestDeadline.start(100);
+
+        assertThat(timeoutSource.getTimeout(null))
+                .isPositive()
+                .isLessThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    void longerRemainingBudgetKeepsTheCommandTimeout() {
+        RequestDeadline.start(10_000);
+
+        assertThat(timeoutSource.getTimeout(null)).isEqualTo(COMMAND_TIMEOUT.toNanos());
+    }
+
+    @Test
+    void expiredDeadlineUsesTheMinimumInsteadOfZero() {
+        RequestDeadline.start(0);
+
+        // 0 은 Lettuce 에서 제한 없음으로 해석됨
+        assertThat(timeoutSource.getTimeout(null)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
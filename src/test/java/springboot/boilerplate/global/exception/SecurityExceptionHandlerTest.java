@@ -0,0 +1,87 @@
+package springboot.boilerplate.global.exception;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import springboot.boilerplate.global.config.JacksonConfig;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityExceptionHandlerTest {
+
+    private final SecurityExceptionHandler handler = new SecurityExceptionHandler(new HttpMessageConverters(false, List.of(
+            new MappingJackson2HttpMessageConverter(),
+            new MappingJackson2CborHttpMessageConverter(),
+            new MappingJackson2SmileHttpMessageConverter()
+    )));
+
+    @Test
+    void writesJsonByDefault() throws Exception {
+        MockHttpServletResponse response = write(null);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(MediaType.parseMediaType(response.getContentType()).isCompatibleWith(MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(new ObjectMapper().readTree(response.getContentAsByteArray()).get("statusCode").asInt()).isEqualTo(401);
+    }
+
+    @Test
+    void writesCborWhenAccepted() throws Exception {
+        MockHttpServletResponse response = write("application/cbor");
+
+        assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_CBOR_VALUE);
+        JsonNode body = new CBORMapper().readTree(response.getContentAsByteArray());
+        assertThat(body.get("message").asText()).isEqualTo(ErrorCode.UNAUTHORIZED.getMessage());
+    }
+
+    @Test
+    void writesSmileWhenPreferred() throws Exception {
+        MockHttpServletResponse response = write("application/json;q=0.5, application/x-jackson-smile");
+
+        assertThat(response.getContentType()).isEqualTo(JacksonConfig.APPLICATION_SMILE.toString());
+        assertThat(new SmileMapper().readTree(response.getContentAsByteArray()).get("statusCode").asInt()).isEqualTo(401);
+    }
+
+    @Test
+    void skipsTypesExcludedWithZeroQuality() throws Exception {
+        MockHttpServletResponse response = write("*/*, application/json;q=0");
+
+        assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_CBOR_VALUE);
+    }
+
+    @Test
+    void usesQualityOfTheMostSpecificMatchingRange() throws Exception {
+        // cbor 는 더 구체적인 application/cbor 의 q 값(0.2)을 따르므로 application/* 로 포함되는 JSON 선택
+        MockHttpServletResponse response = write("application/cbor;q=0.2, application/*;q=0.8");
+
+        assertThat(MediaType.parseMediaType(response.getContentType()).isCompatibleWith(MediaType.APPLICATION_JSON)).isTrue();
+    }
+
+    @Test
+    void fallsBackToJsonForUnsupportedAccept() throws Exception {
+        MockHttpServletResponse response = write("text/html");
+
+        assertThat(MediaType.parseMediaType(response.getContentType()).isCompatibleWith(MediaType.APPLICATION_JSON)).isTrue();
+    }
+
+    private MockHttpServletResponse write(String accept) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (accept != null) {
+            request.addHeader(HttpHeaders.ACCEPT, accept);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        handler.writeErrorResponse(request, response, ErrorCode.UNAUTHORIZED);
+        return response;
+    }
+}
@@ -0,0 +1,112 @@
+package springboot.boilerplate.global.redis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import springboot.boilerplate.global.redis.RedisService.RefreshTokenWrite;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 로컬 Redis Cluster 대상 검증 (./scripts/redis-cluster.sh start 후 실행, 없으면 건너뜀)
+ *
+ * 노드 목록은 -Dredis.cluster.nodes=127.0.0.1:7000,127.0.0.1:7001 로 변경 가능
+ */
+class RedisClusterIntegrationTest {
+
+    private static final long TTL = 60_000;
+
+    private final List<LettuceConnectionFactory> factories = new ArrayList<>();
+    private RedisService redisService;
+
+    @BeforeEach
+    void setUp() {
+        List<String> nodes = Arrays.asList(System.getProperty("redis.cluster.nodes",
+                "127.0.0.1:7000,127.0.0.1:7001,127.0.0.1:7002").split(","));
+        assumeTrue(isReachable(nodes.get(0)), "Redis Cluster not reachable at " + nodes.get(0));
+
+        redisService = new RedisService(template(nodes, LettuceClientConfiguration.defaultConfiguration()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        factories.forEach(LettuceConnectionFactory::destroy);
+    }
+
+    @Test
+    void refreshTokensAreSavedAndDeleted() {
+        String token = UUID.randomUUID().toString();
+        redisService.saveRefreshToken(1L, token, TTL);
+
+        assertThat(redisService.getRefreshToken(1L)).isEqualTo(token);
+        assertThat(redisService.hasKey(1L)).isTrue();
+
+        redisService.deleteRefreshToken(1L);
+        assertThat(redisService.getRefreshToken(1L)).isNull();
+        assertThat(redisService.hasKey(1L)).isFalse();
+    }
+
+    @Test
+    void pipelinedWritesSpanSlots() {
+        List<RefreshTokenWrite> writes = new ArrayList<>();
+        for (long userId = 100; userId < 200; userId++) {
+            writes.add(RefreshTokenWrite.save(userId, "token-" + userId, TTL));
+        }
+        writes.add(RefreshTokenWrite.delete(150L));
+        redisService.applyRefreshTokenWrites(writes);
+
+        assertThat(redisService.getRefreshToken(100L)).isEqualTo("token-100");
+        assertThat(redisService.getRefreshToken(199L)).isEqualTo("token-199");
+        assertThat(redisService.getRefreshToken(150L)).isNull();
+    }
+
+    @Test
+    void revokedTokensAreCollectedFromEveryMaster() {
+        List<String> tokenIds = new ArrayList<>();
+        long expiresAt = System.currentTimeMillis() + TTL;
+        for (int i = 0; i < 50; i++) {
+            String tokenId = UUID.randomUUID().toString();
+            tokenIds.add(tokenId);
+            redisService.saveRevokedAccessToken(tokenId, expiresAt, TTL);
+        }
+
+        assertThat(redisService.getRevokedAccessTokens()).containsKeys(tokenIds.toArray(String[]::new));
+    }
+
+    private RedisTemplate<String, String> template(List<String> nodes, LettuceClientConfiguration clientConfiguration) {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(new RedisClusterConfiguration(nodes), clientConfiguration);
+        factory.afterPropertiesSet();
+        factories.add(factory);
+
+        RedisTemplate<String, String> template = new RedisTemplate<>();
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new StringRedisSerializer());
+        template.setConnectionFactory(factory);
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    private static boolean isReachable(String node) {
+        String[] hostAndPort = node.split(":");
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(hostAndPort[0], Integer.parseInt(hostAndPort[1])), 200);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
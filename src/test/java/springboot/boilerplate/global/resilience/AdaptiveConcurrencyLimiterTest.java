@@ -0,0 +1,124 @@
+package springboot.boilerplate.global.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long WINDOW_MILLIS = 100;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void requestsOverTheLimitAreRejectedImmediately() {
+        // 하한(4)보다 작은 시작 제한은 하한으로 올림
+        AdaptiveConcurrencyLimiter limiter = limiter(2);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(4);
+        assertThat(limiter.getRejections()).isEqualTo(1);
+
+        limiter.release(1_000, false);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void limitGrowsWhileSaturatedAtSteadyLatency() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+
+        for (int window = 0; window < 10; window++) {
+            runWindow(limiter, limiter.getLimit(), 5, false);
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    void limitShrinksWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = limiter(50);
+        for (int window = 0; window < 5; window++) {
+            runWindow(limiter, limiter.getLimit(), 5, false);
+        }
+        int before = limiter.getLimit();
+
+        // 의존 서비스가 느려져 지연이 10배로 증가
+        for (int window = 0; window < 10; window++) {
+            runWindow(limiter, limiter.getLimit(), 50, false);
+        }
+
+        assertThat(limiter.getLimit()).isLessThan(before);
+    }
+
+    @Test
+    void overloadResponsesBackOffAndLimitStaysWithinBounds() {
+        AdaptiveConcurrencyLimiter limiter = limiter(50);
+
+        for (int window = 0; window < 200; window++) {
+            runWindow(limiter, limiter.getLimit(), 5, true);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void occasionalDropsBelowTheRateThresholdDoNotBackOff() {
+        AdaptiveConcurrencyLimiter limiter = limiter(50);
+
+        // 구간마다 50개 중 1개(2%)만 실패하면 줄이지 않음
+        for (int window = 0; window < 10; window++) {
+            runWindow(limiter, limiter.getLimit(), 5, 1);
+        }
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(50);
+
+        // 20%가 실패하면 줄임
+        int before = limiter.getLimit();
+        for (int window = 0; window < 10; window++) {
+            runWindow(limiter, limiter.getLimit(), 5, limiter.getLimit() / 5);
+        }
+        assertThat(limiter.getLimit()).isLessThan(before);
+    }
+
+    @Test
+    void idleLimiterDoesNotGrow() {
+        AdaptiveConcurrencyLimiter limiter = limiter(40);
+
+        for (int window = 0; window < 10; window++) {
+            runWindow(limiter, 2, 5, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(40);
+    }
+
+    private void runWindow(AdaptiveConcurrencyLimiter limiter, int concurrency, long latencyMillis, boolean dropped) {
+        runWindow(limiter, concurrency, latencyMillis, dropped ? concurrency : 0);
+    }
+
+    // concurrency 개의 요청을 동시에 시작한 뒤 모두 latencyMillis 로 끝내고(앞의 drops 개는 과부하 실패) 구간을 넘김
+    private void runWindow(AdaptiveConcurrencyLimiter limiter, int concurrency, long latencyMillis, int drops) {
+        int acquired = 0;
+        for (int i = 0; i < Math.max(concurrency, 10); i++) {
+            if (limiter.tryAcquire()) {
+                acquired++;
+            }
+            if (acquired == concurrency) {
+                break;
+            }
+        }
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(WINDOW_MILLIS));
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(latencyMillis), i < drops);
+        }
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter("test", initialLimit, 4, 200, 0.2, 1.5, 0.9, 0.1,
+                WINDOW_MILLIS, 1, clock::get);
+    }
+}
@@ -0,0 +1,98 @@
+package springboot.boilerplate.global.resilience;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import springboot.boilerplate.global.exception.ErrorCode;
+import springboot.boilerplate.global.exception.SecurityExceptionHandler;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private final SecurityExceptionHandler handler = new SecurityExceptionHandler(
+            new HttpMessageConverters(false, List.of(new MappingJackson2HttpMessageConverter())));
+    private final AdaptiveConcurrencyLimiter authLimiter = new AdaptiveConcurrencyLimiter("auth", 4, 4, 4, 0.2, 1.5, 0.9, 0.1, 1_000, 10);
+    private final AdaptiveConcurrencyLimiter apiLimiter = new AdaptiveConcurrencyLimiter("api", 4, 4, 4, 0.2, 1.5, 0.9, 0.1, 1_000, 10);
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(authLimiter, apiLimiter,
+            new ConcurrencyLimitProperties(), handler);
+
+    @Test
+    void authAndApiTrafficUseSeparateLimits() throws Exception {
+        holdAll(authLimiter);
+
+        MockHttpServletResponse login = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/auth/login"), login, (req, res) -> {
+            throw new AssertionError("chain must not run");
+        });
+        MockHttpServletResponse api = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/onlyuser"), api, (req, res) -> { });
+
+        assertThat(login.getStatus()).isEqualTo(ErrorCode.SERVER_OVERLOADED.getHttpStatus().value());
+        assertThat(login.getContentAsString()).contains(ErrorCode.SERVER_OVERLOADED.getMessage());
+        assertThat(api.getStatus()).isEqualTo(200);
+        assertThat(apiLimiter.getInFlight()).isZero();
+        assertThat(authLimiter.getRejections()).isEqualTo(1);
+    }
+
+    @Test
+    void healthChecksAreNeverRejected() throws Exception {
+        holdAll(apiLimiter);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health/readiness"), response, (req, res) -> { });
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(apiLimiter.getRejections()).isZero();
+    }
+
+    @Test
+    void permitIsReleasedWhenChainFails() {
+        try {
+            filter.doFilter(new MockHttpServletRequest("GET", "/onlyuser"), new MockHttpServletResponse(), (req, res) -> {
+                throw new IllegalStateException("boom");
+            });
+        } catch (Exception ignored) {
+            // 예외는 그대로 전파
+        }
+
+        assertThat(apiLimiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void ignoredFailuresDoNotShrinkTheLimit() throws Exception {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("api", 20, 4, 200, 0.2, 1.5, 0.9, 0.1,
+                1_000, 1, clock::get);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, limiter, new ConcurrencyLimitProperties(), handler);
+
+        // 클라이언트가 줄인 기한으로 끝난 504
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        filter.doFilter(new MockHttpServletRequest("GET", "/onlyuser"), new MockHttpServletResponse(), (req, res) -> {
+            ConcurrencyLimitFilter.ignoreStatus(req, HttpStatus.GATEWAY_TIMEOUT);
+            ((HttpServletResponse) res).setStatus(504);
+        });
+        assertThat(limiter.getLimit()).isEqualTo(20);
+
+        // 서버 기한으로 끝난 504
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        filter.doFilter(new MockHttpServletRequest("GET", "/onlyuser"), new MockHttpServletResponse(),
+                (req, res) -> ((HttpServletResponse) res).setStatus(504));
+        assertThat(limiter.getLimit()).isLessThan(20);
+    }
+
+    private static void holdAll(AdaptiveConcurrencyLimiter limiter) {
+        // 제한까지 모두 점유
+        for (int i = 0; i < limiter.getLimit(); i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+    }
+}
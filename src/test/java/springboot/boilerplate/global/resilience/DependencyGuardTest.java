@@ -0,0 +1,187 @@
+package springboot.boilerplate.global.resilience;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import springboot.boilerplate.global.deadline.RequestDeadline;
+import springboot.boilerplate.global.exception.CustomException;
+import springboot.boilerplate.global.exception.ErrorCode;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DependencyGuardTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void opensAfterFailureRateAndFailsFast() {
+        DependencyGuard guard = guard(10, 0, 0);
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> guard.call(() -> { throw new QueryTimeoutException("timeout"); }))
+                    .isInstanceOf(QueryTimeoutException.class);
+        }
+        assertThat(guard.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> guard.call(() -> "never called"))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOKEN_STORE_UNAVAILABLE);
+        assertThat(guard.getCircuitRejections()).isEqualTo(1);
+    }
+
+    @Test
+    void circuitRejectionsAreNotReportedAsOverload() {
+        DependencyGuard guard = guard(10, 0, 0);
+        for (int i = 0; i < 4; i++) {
+            try {
+                guard.call(() -> { throw new QueryTimeoutException("timeout"); });
+            } catch (QueryTimeoutException ignored) {
+            }
+        }
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            assertThatThrownBy(() -> guard.call(() -> "never called")).isInstanceOf(CustomException.class);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        assertThat(request.getAttribute(ConcurrencyLimitFilter.IGNORED_STATUS_ATTRIBUTE)).isEqualTo(503);
+    }
+
+    @Test
+    void halfOpenTrialClosesTheBreaker() {
+        DependencyGuard guard = guard(10, 0, 0);
+        for (int i = 0; i < 4; i++) {
+            try {
+                guard.call(() -> { throw new QueryTimeoutException("timeout"); });
+            } catch (QueryTimeoutException ignored) {
+            }
+        }
+
+        clock.addAndGet(1_000);
+        assertThat(guard.call(() -> "ok")).isEqualTo("ok");
+        assertThat(guard.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void requestErrorsDoNotOpenTheBreaker() {
+        DependencyGuard guard = guard(10, 0, 0);
+        for (int i = 0; i < 10; i++) {
+            try {
+                guard.call(() -> { throw new DataIntegrityViolationException("duplicate"); });
+            } catch (DataIntegrityViolationException ignored) {
+            }
+        }
+        assertThat(guard.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void slowCallsCountAsFailures() {
+        DependencyGuard guard = guard(10, 0, 1);
+        for (int i = 0; i < 4; i++) {
+            guard.call(() -> {
+                sleep(5);
+                return "slow";
+            });
+        }
+        assertThat(guard.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void failuresAfterTheRequestDeadlineAreNotCountedAgainstTheDependency() {
+        DependencyGuard guard = guard(10, 0, 1);
+        for (int i = 0; i < 10; i++) {
+            RequestDeadline.start(50);
+            try {
+                // 기한에 맞춰 줄어든 시간 제한으로 실패한 호출
+                assertThatThrownBy(() -> guard.call(() -> {
+                    sleep(60);
+                    throw new QueryTimeoutException("timeout");
+                }))
+                        .isInstanceOf(CustomException.class)
+                        .extracting(e -> ((CustomException) e).getErrorCode())
+                        .isEqualTo(ErrorCode.DEADLINE_EXCEEDED);
+
+                // 기한을 넘겨 끝난 호출도 느린 호출로 기록하지 않음
+                RequestDeadline.start(50);
+                assertThat(guard.call(() -> {
+                    sleep(60);
+                    return "late";
+                })).isEqualTo("late");
+            } finally {
+                RequestDeadline.clear();
+            }
+        }
+        assertThat(guard.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void expiredRequestsDoNotCallTheDependency() {
+        DependencyGuard guard = guard(10, 0, 0);
+        RequestDeadline.start(0);
+        try {
+            assertThatThrownBy(() -> guard.call(() -> {
+                throw new AssertionError("dependency must not be called");
+            }))
+                    .isInstanceOf(CustomException.class)
+                    .extracting(e -> ((CustomException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.DEADLINE_EXCEEDED);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    @Test
+    void bulkheadRejectsCallsBeyondTheLimit() throws InterruptedException {
+        DependencyGuard guard = guard(1, 0, 0);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> guard.call(() -> {
+            entered.countDown();
+            await(release);
+            return null;
+        }));
+        holder.start();
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> guard.call(() -> "rejected")).isInstanceOf(CustomException.class);
+        assertThat(guard.getBulkheadRejections()).isEqualTo(1);
+
+        release.countDown();
+        holder.join();
+        assertThat(guard.call(() -> "ok")).isEqualTo("ok");
+    }
+
+    private DependencyGuard guard(int maxConcurrentCalls, long maxWaitMillis, long slowCallMillis) {
+        return new DependencyGuard("redis",
+                new Bulkhead(maxConcurrentCalls, maxWaitMillis),
+                new CircuitBreaker(10, 4, 50, 1_000, 1, clock::get),
+                slowCallMillis,
+                ErrorCode.TOKEN_STORE_UNAVAILABLE);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package springboot.boilerplate.global.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import springboot.boilerplate.global.exception.ErrorCode;
+import springboot.boilerplate.global.redis.RedisService;
+import springboot.boilerplate.global.resilience.Bulkhead;
+import springboot.boilerplate.global.resilience.CircuitBreaker;
+import springboot.boilerplate.global.resilience.DependencyGuard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessTokenRevocationListTest {
+
+    private final FakeRedisService redis = new FakeRedisService();
+    private final DependencyGuard guard = new DependencyGuard("redis",
+            new Bulkhead(10, 0),
+            new CircuitBreaker(10, 2, 50, 5_000, 1),
+            0,
+            ErrorCode.TOKEN_STORE_UNAVAILABLE);
+    // 리스너 컨테이너 없이 생성 (afterPropertiesSet 을 호출하지 않음)
+    private final AccessTokenRevocationList revocationList =
+            new AccessTokenRevocationList(redis, null, 1_000, 0.01, 60_000, guard);
+
+    @Test
+    void revokedTokenIsRejectedLocallyAndStoredInRedis() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        revocationList.revoke("jti-1", expiresAt);
+
+        assertThat(revocationList.isRevoked("jti-1")).isTrue();
+        assertThat(revocationList.isRevoked("jti-2")).isFalse();
+        assertThat(revocationList.isRevoked(null)).isFalse();
+        assertThat(redis.revoked).containsExactly(Map.entry("jti-1", expiresAt));
+        assertThat(redis.lastTtlMillis).isPositive().isLessThanOrEqualTo(60_000);
+    }
+
+    @Test
+    void expiredTokenIsNotRevoked() {
+        revocationList.revoke("expired", System.currentTimeMillis() - 1);
+
+        assertThat(revocationList.isRevoked("expired")).isFalse();
+        assertThat(redis.revoked).isEmpty();
+    }
+
+    @Test
+    void redisFailureStillRevokesOnThisNode() {
+        redis.down = true;
+
+        revocationList.revoke("jti-1", System.currentTimeMillis() + 60_000);
+
+        assertThat(revocationList.isRevoked("jti-1")).isTrue();
+    }
+
+    @Test
+    void revocationPublishedByAnotherNodeIsApplied() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        revocationList.onMessage(message("remote:jti:" + expiresAt), null);
+        revocationList.onMessage(message("no-separator"), null);
+        revocationList.onMessage(message("jti-3:not-a-number"), null);
+
+        // jti 에 ':' 가 있어도 마지막 구분자 기준으로 해석
+        assertThat(revocationList.isRevoked("remote:jti")).isTrue();
+        assertThat(revocationList.size()).isEqualTo(1);
+    }
+
+    @Test
+    void resyncLoadsMissedRevocationsAndDropsExpiredOnes() throws InterruptedException {
+        long shortLived = System.currentTimeMillis() + 20;
+        revocationList.onMessage(message("short:" + shortLived), null);
+        assertThat(revocationList.isRevoked("short")).isTrue();
+        redis.revoked.put("missed", System.currentTimeMillis() + 60_000);
+
+        while (System.currentTimeMillis() <= shortLived) {
+            Thread.sleep(5);
+        }
+        revocationList.resync();
+
+        assertThat(revocationList.isRevoked("missed")).isTrue();
+        assertThat(revocationList.isRevoked("short")).isFalse();
+        assertThat(revocationList.size()).isEqualTo(1);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(RedisService.TOKEN_REVOCATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 폐기 목록을 메모리에 보관하는 RedisService (down 이면 연결 실패)
+     */
+    private static class FakeRedisService extends RedisService {
+
+        private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+        private volatile long lastTtlMillis;
+        private volatile boolean down;
+
+        FakeRedisService() {
+            super(null);
+        }
+
+        @Override
+        public void saveRevokedAccessToken(String tokenId, long expiresAtMillis, long ttlMillis) {
+            if (down) {
+                throw new RedisConnectionFailureException("redis down");
+            }
+            revoked.put(tokenId, expiresAtMillis);
+            lastTtlMillis = ttlMillis;
+        }
+
+        @Override
+        public Map<String, Long> getRevokedAccessTokens() {
+            if (down) {
+                throw new RedisConnectionFailureException("redis down");
+            }
+            return Map.copyOf(revoked);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package springboot.boilerplate.global.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import springboot.boilerplate.auth.domain.CustomUserDetails;
+import springboot.boilerplate.auth.domain.User;
+import springboot.boilerplate.auth.enums.Permission;
+import springboot.boilerplate.auth.enums.Role;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuthoritiesTest {
+
+    @Test
+    void sameMaskSharesOneImmutableCollection() {
+        long mask = Role.USER.defaultAuthorities();
+
+        assertThat(Authorities.toGrantedAuthorities(mask)).isSameAs(Authorities.toGrantedAuthorities(mask));
+        assertThat(Authorities.toGrantedAuthorities(mask)).extracting("authority")
+                .containsExactly("ROLE_USER", "PROFILE_READ", "PROFILE_WRITE");
+        assertThatThrownBy(() -> Authorities.toGrantedAuthorities(mask).clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void internedCollectionsSurviveTableGrowth() {
+        long first = Role.ADMIN.mask() | Permission.METRICS_READ.mask();
+        var before = Authorities.toGrantedAuthorities(first);
+        for (long mask = 0; mask < 200; mask++) {
+            Authorities.toGrantedAuthorities(mask << 16);
+        }
+
+        assertThat(Authorities.toGrantedAuthorities(first)).isSameAs(before);
+        assertThat(Authorities.fromGrantedAuthorities(before)).isEqualTo(first);
+    }
+
+    @Test
+    void missingMaskFallsBackToRoleDefaults() {
+        assertThat(Authorities.effective(Role.ADMIN, 0)).isEqualTo(Role.ADMIN.defaultAuthorities());
+        assertThat(Authorities.effective(Role.ADMIN, Role.ADMIN.mask())).isEqualTo(Role.ADMIN.mask());
+        assertThat(Authorities.hasPermission(Role.ADMIN.defaultAuthorities(), Permission.USER_READ_ALL)).isTrue();
+        assertThat(Authorities.hasPermission(Role.USER.defaultAuthorities(), Permission.USER_READ_ALL)).isFalse();
+    }
+
+    @Test
+    void storedRoleBitsAreKept() {
+        // 저장된 역할 비트가 기준이므로 여러 역할을 함께 가질 수 있음
+        long stored = Role.USER.mask() | Role.ADMIN.mask() | Permission.METRICS_READ.mask();
+        long effective = Authorities.effective(Role.USER, stored);
+        assertThat(effective).isEqualTo(stored);
+        assertThat(Authorities.hasRole(effective, Role.ADMIN)).isTrue();
+        assertThat(Authorities.hasRole(effective, Role.USER)).isTrue();
+        assertThat(Authorities.toGrantedAuthorities(effective)).extracting(GrantedAuthority::getAuthority)
+                .contains("ROLE_USER", "ROLE_ADMIN");
+    }
+
+    @Test
+    void authorizationManagerTestsBitsOfPrincipal() {
+        User user = User.builder().id(1L).email("bit@user.com").password("").role(Role.USER).build();
+        Authentication userAuthentication = new TestingAuthenticationToken(new CustomUserDetails(user), null, "ROLE_USER");
+        userAuthentication.setAuthenticated(true);
+        Authentication adminAuthentication = new TestingAuthenticationToken("admin", null, "ROLE_ADMIN", "USER_READ_ALL");
+
+        BitmaskAuthorizationManager requiresUser = new BitmaskAuthorizationManager(Role.USER.mask());
+        BitmaskAuthorizationManager requiresSearch = new BitmaskAuthorizationManager(Permission.USER_READ_ALL.mask());
+
+        assertThat(requiresUser.authorize(() -> userAuthentication, null).isGranted()).isTrue();
+        assertThat(requiresSearch.authorize(() -> userAuthentication, null).isGranted()).isFalse();
+        assertThat(requiresSearch.authorize(() -> adminAuthentication, null).isGranted()).isTrue();
+        assertThat(requiresUser.authorize(() -> adminAuthentication, null).isGranted()).isFalse();
+    }
+}
@@ -0,0 +1,112 @@
+package springboot.boilerplate.global.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import springboot.boilerplate.auth.event.LoginEventPublisher;
+import springboot.boilerplate.global.exception.ErrorCode;
+import springboot.boilerplate.global.exception.SecurityExceptionHandler;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CustomUsernamePasswordAuthenticationFilterTest {
+
+    private final AuthenticationManager authenticationManager = mock(AuthenticationManager.class);
+    private final CustomUsernamePasswordAuthenticationFilter filter = new CustomUsernamePasswordAuthenticationFilter(
+            authenticationManager, new ObjectMapper(), mock(TokenIssuer.class), LoginEventPublisher.NOOP,
+            new SecurityExceptionHandler(new HttpMessageConverters(false,
+                    List.of(new MappingJackson2HttpMessageConverter()))));
+
+    CustomUsernamePasswordAuthenticationFilterTest() {
+        filter.setFilterProcessesUrl("/login");
+    }
+
+    @Test
+    void oversizedBodyIsRejectedBeforeReading() throws Exception {
+        String body = "{\"email\":\"" + "a".repeat(CustomUsernamePasswordAuthenticationFilter.MAX_BODY_BYTES)
+                + "@user.com\",\"password\":\"password\"}";
+
+        MockHttpServletResponse response = login(new MockHttpServletRequest("POST", "/login"), body);
+
+        assertInvalidRequest(response);
+        verify(authenticationManager, never()).authenticate(any());
+    }
+
+    @Test
+    void oversizedChunkedBodyIsRejectedWhileReading() throws Exception {
+        // Content-Length 없이 전송된 본문은 읽은 바이트 수로 제한
+        MockHttpServletRequest chunked = new MockHttpServletRequest("POST", "/login") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        String body = "{\"email\":\"" + "a".repeat(CustomUsernamePasswordAuthenticationFilter.MAX_BODY_BYTES)
+                + "@user.com\",\"password\":\"password\"}";
+
+        MockHttpServletResponse response = login(chunked, body);
+
+        assertInvalidRequest(response);
+        verify(authenticationManager, never()).authenticate(any());
+    }
+
+    @Test
+    void malformedJsonIsRejected() throws Exception {
+        MockHttpServletResponse response = login(new MockHttpServletRequest("POST", "/login"), "{\"email\":");
+
+        assertInvalidRequest(response);
+        verify(authenticationManager, never()).authenticate(any());
+    }
+
+    @Test
+    void emptyBodyIsRejected() throws Exception {
+        MockHttpServletResponse response = login(new MockHttpServletRequest("POST", "/login"), "");
+
+        assertInvalidRequest(response);
+    }
+
+    @Test
+    void wrongPasswordIsUnauthorized() throws Exception {
+        when(authenticationManager.authenticate(any())).thenThrow(new BadCredentialsException("bad credentials"));
+
+        MockHttpServletResponse response = login(new MockHttpServletRequest("POST", "/login"),
+                "{\"email\":\"user@user.com\",\"password\":\"wrong\"}");
+
+        assertThat(response.getStatus()).isEqualTo(ErrorCode.INVALID_CREDENTIALS.getHttpStatus().value());
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8))
+                .contains(ErrorCode.INVALID_CREDENTIALS.getMessage());
+    }
+
+    private MockHttpServletResponse login(MockHttpServletRequest request, String body) throws Exception {
+        request.setServletPath(request.getRequestURI());
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> {
+            throw new AssertionError("login requests must not reach the chain");
+        });
+        return response;
+    }
+
+    private static void assertInvalidRequest(MockHttpServletResponse response) throws Exception {
+        assertThat(response.getStatus()).isEqualTo(ErrorCode.INVALID_REQUEST.getHttpStatus().value());
+        assertThat(response.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8))
+                .contains(ErrorCode.INVALID_REQUEST.getMessage())
+                .contains("\"statusCode\":400");
+    }
+}
@@ -0,0 +1,87 @@
+package springboot.boilerplate.global.security;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import springboot.boilerplate.auth.enums.Role;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class JwtAuthenticationFilterTest {
+
+    private final JwtUtil jwtUtil = spy(new JwtUtil("jwt-filter-test-secret-0123456789abcdef0123", 600_000, 1_209_600_000));
+    private final RouteTable routeTable = RouteTable.builder()
+            .permitAll("/api/v1/auth/**")
+            .hasRole("USER", "/onlyuser")
+            .build();
+    private final AccessTokenRevocationList revocationList =
+            new AccessTokenRevocationList(null, null, 1_000, 0.01, 60_000, null);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil, revocationList, routeTable);
+    private final FilterChain endOfChain = (request, response) -> { };
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void permitAllRoutesSkipTokenParsing() throws Exception {
+        filter.doFilter(request("/api/v1/auth/logout"), new MockHttpServletResponse(), endOfChain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(jwtUtil, never()).parseToken(anyString());
+    }
+
+    @Test
+    void tokenIsVerifiedOnceWhenAuthenticationIsFirstNeeded() throws Exception {
+        filter.doFilter(request("/onlyuser"), new MockHttpServletResponse(), endOfChain);
+        verify(jwtUtil, never()).parseToken(anyString());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getAuthorities()).extracting("authority")
+                .containsExactly("ROLE_USER", "PROFILE_READ", "PROFILE_WRITE");
+
+        SecurityContextHolder.getContext().getAuthentication();
+        verify(jwtUtil, times(1)).parseToken(anyString());
+    }
+
+    @Test
+    void invalidTokenLeavesContextUnauthenticated() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/onlyuser");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer not-a-jwt");
+
+        filter.doFilter(request, new MockHttpServletResponse(), endOfChain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void revokedTokenLeavesContextUnauthenticated() throws Exception {
+        MockHttpServletRequest request = request("/onlyuser");
+        String token = request.getHeader(HttpHeaders.AUTHORIZATION).substring("Bearer ".length());
+        JwtClaims claims = jwtUtil.parseToken(token);
+        // Redis 없이 생성했으므로 이 노드에만 반영됨
+        revocationList.revoke(claims.tokenId(), claims.expiresAtMillis());
+
+        filter.doFilter(request, new MockHttpServletResponse(), endOfChain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private MockHttpServletRequest request(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtil.createAccessToken(1L, "filter@user.com", Role.USER.name()));
+        return request;
+    }
+}
@@ -0,0 +1,75 @@
+package springboot.boilerplate.global.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.AntPathMatcher;
+import springboot.boilerplate.global.security.RouteTable.Access;
+import springboot.boilerplate.global.security.RouteTable.Route;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RouteTableTest {
+
+    private final RouteTable table = RouteTable.builder()
+            .permitAll("/api-docs/**", "/v3/api-docs", "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html")
+            .permitAll("/api/v1/auth/**")
+            .permitAll("/actuator/health/**")
+            .hasRole("ADMIN", "/actuator/**")
+            .hasRole("USER", "/onlyuser")
+            .authenticated("/api/*/users/me")
+            .build();
+
+    @Test
+    void firstDeclaredMatchingRouteWins() {
+        assertThat(table.match("/actuator/health").access()).isEqualTo(Access.PERMIT_ALL);
+        assertThat(table.match("/actuator/health/liveness").access()).isEqualTo(Access.PERMIT_ALL);
+        assertThat(table.match("/actuator/metrics").authority()).isEqualTo("ADMIN");
+        assertThat(table.match("/onlyuser").authority()).isEqualTo("USER");
+        assertThat(table.match("/onlyuser/").access()).isEqualTo(Access.AUTHENTICATED);
+        assertThat(table.match("/api/v2/users/me").pattern()).isEqualTo("/api/*/users/me");
+        assertThat(table.match("/unknown").pattern()).isEqualTo("/**");
+    }
+
+    @Test
+    void agreesWithAntPathMatcherOnDeclaredOrder() {
+        AntPathMatcher matcher = new AntPathMatcher();
+        List<String> paths = List.of("/", "/api", "/api/v1/auth", "/api/v1/auth/login", "/api/v1/authx",
+                "/api/v1/auth/a/b/c", "/v3/api-docs", "/v3/api-docs/swagger-config", "/v3/api-docsx",
+                "/swagger-ui.html", "/swagger-ui/index.html", "/actuator", "/actuator/health",
+                "/actuator/prometheus", "/onlyuser", "/onlyuser/x", "/api/v1/users/me", "/api//users/me");
+
+        for (String path : paths) {
+            Route expected = table.getRoutes().stream()
+                    .filter(route -> matcher.match(route.pattern(), path))
+                    .findFirst()
+                    .orElse(null);
+            Route actual = table.match(path);
+            if (expected == null) {
+                assertThat(actual.pattern()).as(path).isEqualTo("/**");
+            } else {
+                assertThat(actual).as(path).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void permitAllIsResolvedWithoutContextPath() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/app/api/v1/auth/login");
+        request.setContextPath("/app");
+        assertThat(table.isPermitAll(request)).isTrue();
+
+        request.setRequestURI("/app/onlyuser");
+        assertThat(table.isPermitAll(request)).isFalse();
+    }
+
+    @Test
+    void rejectsUnsupportedPatterns() {
+        assertThatThrownBy(() -> RouteTable.builder().permitAll("/a/**/b").build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RouteTable.builder().permitAll("/files/*.png").build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
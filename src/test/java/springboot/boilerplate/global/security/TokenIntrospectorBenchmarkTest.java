@@ -0,0 +1,73 @@
+package springboot.boilerplate.global.security;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import springboot.boilerplate.auth.enums.Role;
+import springboot.boilerplate.support.Benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 토큰 일괄 검증 처리량 (코어당 초당 검증 토큰 수)
+ *
+ * 게이트웨이 용량 산정용이며 ./gradlew benchmark 로 실행
+ * 단일 스레드 처리량이 코어당 처리량이고, 일괄 검증은 CPU 수만큼 스레드를 써서 전체 처리량을 측정
+ */
+@Tag("benchmark")
+class TokenIntrospectorBenchmarkTest {
+
+    private static final int TOKENS = 1_000;
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+    private static final int BATCH_WARMUP = 50;
+    private static final int BATCHES = 200;
+
+    private final JwtUtil jwtUtil = new JwtUtil("introspection-benchmark-secret-0123456789abcdef", 3_600_000, 0);
+    private final AccessTokenRevocationList revocationList = new AccessTokenRevocationList(null, null, 100_000, 0.01, 60_000, null);
+    private final List<String> tokens = tokens();
+
+    private int cursor;
+
+    @Test
+    void singleCoreThroughput() {
+        try (TokenIntrospector introspector = new TokenIntrospector(jwtUtil, revocationList, 1, 64, 256)) {
+            Benchmark.Result result = Benchmark.run("introspect 1 token", WARMUP, ITERATIONS, () -> {
+                cursor = (cursor + 1) % TOKENS;
+                return introspector.introspect(cursor, tokens.get(cursor));
+            });
+            System.out.printf("[Benchmark] %-45s %12.0f tokens/s/core%n", "introspect", 1e9 / result.nanosPerOp());
+        }
+    }
+
+    @Test
+    void batchThroughput() throws IOException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        try (TokenIntrospector introspector = new TokenIntrospector(jwtUtil, revocationList, cores, 64, 256)) {
+            LongAdder verified = new LongAdder();
+            for (int i = 0; i < BATCH_WARMUP; i++) {
+                introspector.introspectAll(tokens, chunk -> verified.add(chunk.size()));
+            }
+
+            verified.reset();
+            long start = System.nanoTime();
+            for (int i = 0; i < BATCHES; i++) {
+                introspector.introspectAll(tokens, chunk -> verified.add(chunk.size()));
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            double tokensPerSecond = verified.sum() / seconds;
+            System.out.printf("[Benchmark] %-45s %12.0f tokens/s %12.0f tokens/s/core (%d cores, %d tokens/batch)%n",
+                    "introspectAll", tokensPerSecond, tokensPerSecond / cores, cores, TOKENS);
+        }
+    }
+
+    private List<String> tokens() {
+        List<String> created = new ArrayList<>(TOKENS);
+        for (long userId = 1; userId <= TOKENS; userId++) {
+            created.add(jwtUtil.createAccessToken(userId, "bench" + userId + "@user.com", Role.USER.name()));
+        }
+        return created;
+    }
+}
@@ -0,0 +1,106 @@
+package springboot.boilerplate.global.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import springboot.boilerplate.auth.dto.response.ResponseTokenIntrospectionDto;
+import springboot.boilerplate.auth.dto.response.ResponseTokenIntrospectionDto.Status;
+import springboot.boilerplate.auth.enums.Role;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenIntrospectorTest {
+
+    private static final String SECRET = "introspection-test-secret-0123456789abcdef";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 600_000, 1_209_600_000);
+    private final AccessTokenRevocationList revocationList = new AccessTokenRevocationList(null, null, 1_000, 0.01, 60_000, null);
+    private final TokenIntrospector introspector = new TokenIntrospector(jwtUtil, revocationList, 4, 3, 16);
+
+    @AfterEach
+    void tearDown() {
+        introspector.close();
+    }
+
+    @Test
+    void reportsStatusAndClaimsPerToken() {
+        String valid = jwtUtil.createAccessToken(1L, "valid@user.com", Role.USER.name());
+        String expired = new JwtUtil(SECRET, -1_000, 0).createAccessToken(2L, "expired@user.com", Role.ADMIN.name());
+        String revoked = jwtUtil.createAccessToken(3L, "revoked@user.com", Role.USER.name());
+        revocationList.revoke(jwtUtil.parseToken(revoked).tokenId(), System.currentTimeMillis() + 600_000);
+        String forged = new JwtUtil("another-secret-0123456789abcdef0123456789", 600_000, 0)
+                .createAccessToken(4L, "forged@user.com", Role.ADMIN.name());
+
+        assertThat(introspector.introspect(0, valid))
+                .extracting(ResponseTokenIntrospectionDto::status, ResponseTokenIntrospectionDto::userId,
+                        ResponseTokenIntrospectionDto::authorities)
+                .containsExactly(Status.VALID, 1L, Role.USER.defaultAuthorities());
+        assertThat(introspector.introspect(1, expired))
+                .extracting(ResponseTokenIntrospectionDto::status, ResponseTokenIntrospectionDto::email)
+                .containsExactly(Status.EXPIRED, "expired@user.com");
+        assertThat(introspector.introspect(2, revoked).status()).isEqualTo(Status.REVOKED);
+        assertThat(introspector.introspect(3, forged))
+                .extracting(ResponseTokenIntrospectionDto::status, ResponseTokenIntrospectionDto::email)
+                .containsExactly(Status.INVALID, null);
+        assertThat(introspector.introspect(4, "not-a-jwt").status()).isEqualTo(Status.INVALID);
+        assertThat(introspector.introspect(5, "").status()).isEqualTo(Status.INVALID);
+    }
+
+    @Test
+    void chunksArriveInRequestOrder() throws IOException {
+        List<String> tokens = new ArrayList<>();
+        for (long userId = 0; userId < 10; userId++) {
+            tokens.add(userId % 4 == 3 ? "broken" : jwtUtil.createAccessToken(userId, userId + "@user.com", Role.USER.name()));
+        }
+        List<Integer> chunkSizes = new ArrayList<>();
+        List<ResponseTokenIntrospectionDto> results = new ArrayList<>();
+
+        introspector.introspectAll(tokens, chunk -> {
+            chunkSizes.add(chunk.size());
+            results.addAll(chunk);
+        });
+
+        assertThat(chunkSizes).containsExactly(3, 3, 3, 1);
+        assertThat(results).extracting(ResponseTokenIntrospectionDto::index).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(results).filteredOn(result -> result.status() == Status.INVALID)
+                .extracting(ResponseTokenIntrospectionDto::index).containsExactly(3, 7);
+        assertThat(results.get(5).userId()).isEqualTo(5L);
+    }
+
+    @Test
+    void chunksBeyondTheQueueRunOnTheCallingThread() throws IOException {
+        List<String> tokens = new ArrayList<>();
+        for (long userId = 0; userId < 40; userId++) {
+            tokens.add(jwtUtil.createAccessToken(userId, userId + "@user.com", Role.USER.name()));
+        }
+        List<ResponseTokenIntrospectionDto> results = new ArrayList<>();
+
+        // 검증 스레드 1개, 대기 큐 1개이므로 나머지 묶음은 호출 스레드가 검증
+        try (TokenIntrospector saturated = new TokenIntrospector(jwtUtil, revocationList, 1, 1, 1)) {
+            saturated.introspectAll(tokens, results::addAll);
+            assertThat(results).extracting(ResponseTokenIntrospectionDto::index).hasSize(40).isSorted();
+
+            // 종료 이후에도 작업을 버리지 않고 호출 스레드가 검증
+            saturated.close();
+            results.clear();
+            saturated.introspectAll(tokens.subList(0, 4), results::addAll);
+        }
+        assertThat(results).extracting(ResponseTokenIntrospectionDto::status).containsOnly(Status.VALID).hasSize(4);
+    }
+
+    @Test
+    void consumerFailureStopsStreaming() {
+        List<String> tokens = List.of("a", "b", "c", "d", "e", "f", "g");
+        List<Integer> delivered = new ArrayList<>();
+
+        assertThatThrownBy(() -> introspector.introspectAll(tokens, chunk -> {
+            delivered.add(chunk.get(0).index());
+            throw new IOException("client gone");
+        })).isInstanceOf(IOException.class);
+        assertThat(delivered).containsExactly(0);
+    }
+}
@@ -0,0 +1,69 @@
+package springboot.boilerplate.global.swagger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 빌드 시점 OpenAPI 문서 생성기
+ *
+ * ./gradlew generateOpenApiDocs 로 실행되며 (일반 test 태스크에서는 제외)
+ * 런타임과 동일한 springdoc 스캔 + ErrorCode 예시 결과를 openapi.output 경로에 저장
+ */
+@Tag("openapi")
+@SpringBootTest(properties = {
+        "springdoc.api-docs.enabled=true",
+        "spring.data.redis.host=localhost",
+        "spring.data.redis.port=6379",
+        "spring.jwt.secret=openapi-generator-secret-key-0123456789abcdef",
+        "spring.jwt.accessTokenExpiration=600000",
+        "spring.jwt.refreshTokenExpiration=1209600000"
+})
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+class OpenApiDocsGenerator {
+
+    private static final String DEFAULT_OUTPUT = "build/generated-resources/openapi/openapi/openapi.json";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // 문서 생성에는 Redis Pub/Sub 구독이 필요 없음
+    @MockitoBean
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Test
+    void generate() throws Exception {
+        String json = mockMvc.perform(get("/v3/api-docs"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        // 생성 환경의 서버 주소(http://localhost)는 제거하여 배포 환경의 동일 출처를 사용하도록 함
+        ObjectNode document = (ObjectNode) objectMapper.readTree(json);
+        document.remove("servers");
+
+        Path output = Path.of(System.getProperty("openapi.output", DEFAULT_OUTPUT));
+        Files.createDirectories(output.getParent());
+        Files.write(output, objectMapper.writeValueAsBytes(document));
+    }
+}
@@ -0,0 +1,108 @@
+package springboot.boilerplate.global.token;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import springboot.boilerplate.global.exception.CustomException;
+import springboot.boilerplate.global.exception.ErrorCode;
+import springboot.boilerplate.global.resilience.Bulkhead;
+import springboot.boilerplate.global.resilience.CircuitBreaker;
+import springboot.boilerplate.global.resilience.DependencyGuard;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GuardedRefreshTokenStoreTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final FlakyStore delegate = new FlakyStore();
+    private final DependencyGuard guard = new DependencyGuard("redis",
+            new Bulkhead(10, 0),
+            new CircuitBreaker(10, 2, 50, 5_000, 1),
+            0,
+            ErrorCode.TOKEN_STORE_UNAVAILABLE);
+
+    @Test
+    void servesRecentlyValidatedTokenWhileStoreIsDown() {
+        GuardedRefreshTokenStore store = new GuardedRefreshTokenStore(delegate, guard, 60_000, 100, clock::get);
+        store.save(1L, "token-1", 1_000_000);
+        assertThat(store.get(1L)).isEqualTo("token-1");
+
+        delegate.down = true;
+        assertThat(store.get(1L)).isEqualTo("token-1");
+        assertThat(store.get(1L)).isEqualTo("token-1");
+        assertThat(guard.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(store.getDegradedReadCount()).isEqualTo(2);
+
+        // 보관 시간이 지나면 더 이상 대신 사용하지 않음
+        clock.addAndGet(60_001);
+        assertThatThrownBy(() -> store.get(1L)).isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    void unknownUsersFailFastWhileStoreIsDown() {
+        GuardedRefreshTokenStore store = new GuardedRefreshTokenStore(delegate, guard, 60_000, 100, clock::get);
+        delegate.down = true;
+
+        assertThatThrownBy(() -> store.get(2L)).isInstanceOf(RedisConnectionFailureException.class);
+        assertThatThrownBy(() -> store.get(2L)).isInstanceOf(RedisConnectionFailureException.class);
+        assertThatThrownBy(() -> store.get(2L))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOKEN_STORE_UNAVAILABLE);
+    }
+
+    @Test
+    void deleteIsAppliedLocallyEvenWhenStoreIsDown() {
+        GuardedRefreshTokenStore store = new GuardedRefreshTokenStore(delegate, guard, 60_000, 100, clock::get);
+        store.save(1L, "token-1", 1_000_000);
+
+        delegate.down = true;
+        assertThatThrownBy(() -> store.delete(1L)).isInstanceOf(RedisConnectionFailureException.class);
+        // 로그아웃된 토큰은 장애 중에도 최근 확인된 토큰으로 사용되지 않음
+        assertThatThrownBy(() -> store.get(1L)).isInstanceOf(CustomException.class);
+        assertThat(store.getDegradedReadCount()).isZero();
+    }
+
+    @Test
+    void degradedModeIsOffByDefault() {
+        GuardedRefreshTokenStore store = new GuardedRefreshTokenStore(delegate, guard, 0, 100, clock::get);
+        store.save(1L, "token-1", 1_000_000);
+
+        delegate.down = true;
+        assertThatThrownBy(() -> store.get(1L)).isInstanceOf(RedisConnectionFailureException.class);
+    }
+
+    private static class FlakyStore implements RefreshTokenStore {
+
+        private final Map<Long, String> tokens = new ConcurrentHashMap<>();
+        private volatile boolean down;
+
+        @Override
+        public void save(Long userId, String refreshToken, long ttlMillis) {
+            check();
+            tokens.put(userId, refreshToken);
+        }
+
+        @Override
+        public String get(Long userId) {
+            check();
+            return tokens.get(userId);
+        }
+
+        @Override
+        public void delete(Long userId) {
+            check();
+            tokens.remove(userId);
+        }
+
+        private void check() {
+            if (down) {
+                throw new RedisConnectionFailureException("redis down");
+            }
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package springboot.boilerplate.global.token;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedRefreshTokenStoreTest {
+
+    private static final long TTL = 60_000;
+    private static final int SWEEP_TICKS = 64;
+
+    @TempDir
+    Path directory;
+
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+    private MappedRefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = open(1_000);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+    }
+
+    @Test
+    void savesReplacesAndDeletesTokens() {
+        store.save(1L, "token-1", TTL);
+        store.save(2L, "token-2", TTL);
+        store.save(1L, "token-1-new", TTL);
+
+        assertThat(store.get(1L)).isEqualTo("token-1-new");
+        assertThat(store.get(2L)).isEqualTo("token-2");
+        assertThat(store.get(3L)).isNull();
+
+        store.delete(1L);
+        assertThat(store.get(1L)).isNull();
+        assertThat(store.get(2L)).isEqualTo("token-2");
+    }
+
+    @Test
+    void expiredTokensAreHiddenAndReclaimedBySweep() {
+        store.save(1L, "short", 1_000);
+        store.save(2L, "long", TTL);
+
+        clock.addAndGet(1_500);
+        assertThat(store.get(1L)).isNull();
+        assertThat(sweepAll()).isEqualTo(1);
+        assertThat(store.get(2L)).isEqualTo("long");
+
+        // 만료 전에 다시 저장된 토큰은 이전 만료 시각으로 지워지지 않음
+        store.save(3L, "first", 1_000);
+        store.save(3L, "second", TTL);
+        clock.addAndGet(1_500);
+        assertThat(sweepAll()).isZero();
+        assertThat(store.get(3L)).isEqualTo("second");
+    }
+
+    @Test
+    void eachTickSweepsOnlyItsShareOfSlots() {
+        for (long userId = 1; userId <= 500; userId++) {
+            store.save(userId, "token-" + userId, 1_000);
+        }
+        clock.addAndGet(1_500);
+
+        // 1024 슬롯을 SWEEP_TICKS 번에 나누어 tick 마다 16개씩 확인
+        int firstTick = store.expire();
+        assertThat(firstTick).isLessThanOrEqualTo(1_024 / SWEEP_TICKS);
+        assertThat(firstTick + sweepAll()).isEqualTo(500);
+        for (long userId = 1; userId <= 500; userId++) {
+            assertThat(store.get(userId)).isNull();
+        }
+    }
+
+    @Test
+    void reopeningTheFileKeepsTokens() throws IOException {
+        for (long userId = 1; userId <= 900; userId++) {
+            store.save(userId, "token-" + userId, TTL);
+        }
+        store.delete(7L);
+        store.close();
+
+        store = open(1_000);
+        assertThat(store.get(1L)).isEqualTo("token-1");
+        assertThat(store.get(900L)).isEqualTo("token-900");
+        assertThat(store.get(7L)).isNull();
+    }
+
+    @Test
+    void probeLengthStaysBoundedUnderDeleteChurn() throws IOException {
+        for (long userId = 1; userId <= 500; userId++) {
+            store.save(userId, "token-" + userId, TTL);
+        }
+        // 저장/삭제를 반복하면 삭제 표시가 쌓이지만 tick 마다 재배치되어 비워짐
+        long next = 1_000;
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 300; i++) {
+                store.save(next + i, "churn", TTL);
+            }
+            for (int i = 0; i < 300; i++) {
+                store.delete(next + i);
+            }
+            next += 300;
+            store.expire();
+        }
+
+        long totalProbes = 0;
+        for (long missing = 100_000; missing < 101_000; missing++) {
+            totalProbes += store.probeLength(missing);
+        }
+        // 부하율 약 0.5 의 선형 탐사에서 없는 키의 평균 탐사 길이는 2~3 슬롯
+        assertThat(totalProbes / 1_000.0).isLessThan(8);
+        for (long userId = 1; userId <= 500; userId++) {
+            assertThat(store.get(userId)).isEqualTo("token-" + userId);
+        }
+
+        store.close();
+        store = open(1_000);
+        assertThat(store.get(1L)).isEqualTo("token-1");
+        assertThat(store.get(500L)).isEqualTo("token-500");
+        assertThat(store.get(1_000L)).isNull();
+    }
+
+    @Test
+    void readersFindLiveTokensWhileCompacting() throws Exception {
+        for (long userId = 1; userId <= 200; userId++) {
+            store.save(userId, "token-" + userId, TTL);
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<Long> missed = new AtomicReference<>();
+        Thread churn = new Thread(() -> {
+            for (long next = 1_000; running.get(); next += 300) {
+                for (int i = 0; i < 300; i++) {
+                    store.save(next + i, "churn", TTL);
+                }
+                for (int i = 0; i < 300; i++) {
+                    store.delete(next + i);
+                }
+                store.expire();
+            }
+        });
+        Thread reader = new Thread(() -> {
+            for (long userId = 1; running.get(); userId = userId % 200 + 1) {
+                if (!("token-" + userId).equals(store.get(userId))) {
+                    missed.set(userId);
+                }
+            }
+        });
+        churn.start();
+        reader.start();
+        Thread.sleep(300);
+        running.set(false);
+        churn.join();
+        reader.join();
+
+        assertThat(missed.get()).isNull();
+    }
+
+    @Test
+    void rejectsFileCreatedWithDifferentLayout() throws IOException {
+        store.close();
+        assertThatThrownBy(() -> open(4_096)).isInstanceOf(IllegalStateException.class);
+        store = open(1_000);
+    }
+
+    @Test
+    void readersNeverObserveTornTokens() throws Exception {
+        String longToken = "A".repeat(200);
+        String shortToken = "B".repeat(40);
+        store.save(1L, longToken, TTL);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> torn = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            for (int i = 0; running.get(); i++) {
+                store.save(1L, (i & 1) == 0 ? shortToken : longToken, TTL);
+            }
+        });
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                String token = store.get(1L);
+                if (!longToken.equals(token) && !shortToken.equals(token)) {
+                    torn.set(token);
+                }
+            }
+        });
+        writer.start();
+        reader.start();
+        Thread.sleep(300);
+        running.set(false);
+        writer.join();
+        reader.join();
+
+        assertThat(torn.get()).isNull();
+    }
+
+    // 한 바퀴(SWEEP_TICKS 번) 확인하여 회수한 슬롯 수
+    private int sweepAll() {
+        int removed = 0;
+        for (int tick = 0; tick < SWEEP_TICKS; tick++) {
+            removed += store.expire();
+        }
+        return removed;
+    }
+
+    private MappedRefreshTokenStore open(int capacity) throws IOException {
+        return new MappedRefreshTokenStore(directory.resolve("refresh-tokens.dat"), capacity, 256, 1_000, SWEEP_TICKS, clock::get);
+    }
+}
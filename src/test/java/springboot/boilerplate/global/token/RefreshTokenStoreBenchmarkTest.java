@@ -0,0 +1,90 @@
+package springboot.boilerplate.global.token;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import springboot.boilerplate.global.redis.RedisService;
+import springboot.boilerplate.support.Benchmark;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 메모리 매핑 저장소와 Redis 저장소의 저장/조회 비용 비교
+ *
+ * ./gradlew benchmark 로 실행 (Redis 측정은 benchmark.redis.host:port 에 Redis가 있을 때만)
+ */
+@Tag("benchmark")
+class RefreshTokenStoreBenchmarkTest {
+
+    private static final int USERS = 10_000;
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+    private static final String TOKEN = "eyJhbGciOiJIUzI1NiJ9." + "r".repeat(220) + "." + "s".repeat(43);
+    private static final long TTL = 1_209_600_000L;
+
+    @TempDir
+    Path directory;
+
+    private long cursor;
+
+    @Test
+    void mappedStore() throws IOException {
+        try (MappedRefreshTokenStore store = new MappedRefreshTokenStore(
+                directory.resolve("refresh-tokens.dat"), USERS * 2, 512, 1_000, 3_600)) {
+            measure("mapped", store);
+        }
+    }
+
+    @Test
+    void redisStore() {
+        String host = System.getProperty("benchmark.redis.host", "localhost");
+        int port = Integer.getInteger("benchmark.redis.port", 6379);
+        assumeTrue(isReachable(host, port), "Redis not reachable at " + host + ":" + port);
+
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(host, port);
+        connectionFactory.afterPropertiesSet();
+        try {
+            RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+            redisTemplate.setKeySerializer(new StringRedisSerializer());
+            redisTemplate.setValueSerializer(new StringRedisSerializer());
+            redisTemplate.setConnectionFactory(connectionFactory);
+            redisTemplate.afterPropertiesSet();
+            measure("redis", new RedisRefreshTokenStore(new RedisService(redisTemplate)));
+        } finally {
+            connectionFactory.destroy();
+        }
+    }
+
+    private void measure(String name, RefreshTokenStore store) {
+        for (long userId = 1; userId <= USERS; userId++) {
+            store.save(userId, TOKEN, TTL);
+        }
+        Benchmark.run(name + " save", WARMUP, ITERATIONS, () -> {
+            store.save(nextUserId(), TOKEN, TTL);
+            return store;
+        });
+        Benchmark.run(name + " get", WARMUP, ITERATIONS, () -> store.get(nextUserId()));
+    }
+
+    private long nextUserId() {
+        cursor = cursor % USERS + 1;
+        return cursor;
+    }
+
+    private static boolean isReachable(String host, int port) {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(host, port), 200);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
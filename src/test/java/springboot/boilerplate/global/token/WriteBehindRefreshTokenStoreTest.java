@@ -0,0 +1,183 @@
+package springboot.boilerplate.global.token;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import springboot.boilerplate.global.exception.CustomException;
+import springboot.boilerplate.global.exception.ErrorCode;
+import springboot.boilerplate.global.redis.RedisService;
+import springboot.boilerplate.global.redis.RedisService.RefreshTokenWrite;
+import springboot.boilerplate.global.resilience.Bulkhead;
+import springboot.boilerplate.global.resilience.CircuitBreaker;
+import springboot.boilerplate.global.resilience.DependencyGuard;
+import springboot.boilerplate.support.Gate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WriteBehindRefreshTokenStoreTest {
+
+    private final Gate gate = new Gate();
+    private final FakeRedisService redis = new FakeRedisService(gate);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(10, 2, 50, 5_000, 1);
+    private final DependencyGuard guard = new DependencyGuard("redis",
+            new Bulkhead(10, 0),
+            circuitBreaker,
+            0,
+            ErrorCode.TOKEN_STORE_UNAVAILABLE);
+    private WriteBehindRefreshTokenStore store;
+
+    @AfterEach
+    void tearDown() {
+        gate.release();
+        store.close();
+    }
+
+    @Test
+    void pendingWritesAreVisibleBeforeFlush() throws InterruptedException {
+        gate.hold();
+        store = newStore(1, 0, 10_000);
+
+        store.save(1L, "first", 60_000);
+        gate.awaitEntered();
+        store.save(2L, "second", 60_000);
+        store.delete(1L);
+
+        // Redis에는 아직 반영되지 않았지만 대기 중인 쓰기가 조회됨
+        assertThat(redis.values).isEmpty();
+        assertThat(store.get(1L)).isNull();
+        assertThat(store.get(2L)).isEqualTo("second");
+        assertThat(meterRegistry.get("refresh.token.write.behind.queue.depth").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void writesAreSentInBoundedBatches() {
+        gate.hold();
+        store = newStore(4, 1_000_000, 10_000);
+        for (long userId = 1; userId <= 10; userId++) {
+            store.save(userId, "token-" + userId, 60_000);
+        }
+        gate.release();
+        store.close();
+
+        assertThat(redis.batchSizes).allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(4));
+        assertThat(redis.batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(10);
+        assertThat(meterRegistry.get("refresh.token.write.behind.batch.size").summary().totalAmount()).isEqualTo(10);
+    }
+
+    @Test
+    void closeFlushesQueuedWritesInOrder() {
+        gate.hold();
+        store = newStore(128, 1_000_000, 10_000);
+        store.save(1L, "old", 60_000);
+        store.save(1L, "new", 60_000);
+        store.save(2L, "gone", 60_000);
+        store.delete(2L);
+
+        gate.release();
+        store.close();
+
+        assertThat(redis.values).containsExactly(Map.entry(1L, "new"));
+        assertThat(store.get(1L)).isEqualTo("new");
+        assertThat(store.get(2L)).isNull();
+    }
+
+    @Test
+    void failedFlushIsRetriedWithoutOverwritingNewerWrites() throws InterruptedException {
+        redis.failNext(2);
+        store = newStore(128, 0, 10_000);
+        store.save(1L, "old", 60_000);
+        gate.awaitEntered();
+        store.save(1L, "new", 60_000);
+        store.close();
+
+        assertThat(redis.values).containsExactly(Map.entry(1L, "new"));
+        assertThat(meterRegistry.get("refresh.token.write.behind.retried").counter().count()).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.get("refresh.token.write.behind.failed").counter().count()).isZero();
+    }
+
+    @Test
+    void batchIsDroppedAndCountedAfterMaxRetryTime() {
+        redis.failNext(Integer.MAX_VALUE);
+        store = newStore(128, 0, 200);
+        store.save(1L, "lost", 60_000);
+        store.save(2L, "lost", 60_000);
+        store.close();
+
+        // 재시도 시간이 지나면 배치를 버리므로 종료가 끝나고 대기 중인 쓰기도 남지 않음
+        assertThat(redis.values).isEmpty();
+        assertThat(store.get(1L)).isNull();
+        assertThat(meterRegistry.get("refresh.token.write.behind.failed").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void flushFailuresOpenTheBreakerAndSavesFailFast() throws InterruptedException {
+        redis.failNext(Integer.MAX_VALUE);
+        store = newStore(1, 0, 300);
+        GuardedRefreshTokenStore guarded = new GuardedRefreshTokenStore(store, guard, 60_000, 100);
+        guarded.save(1L, "first", 60_000);
+
+        // 전송 실패 2번으로 브레이커가 열리면 대기열에 넣지 않고 바로 실패
+        for (int i = 0; i < 500 && circuitBreaker.getState() != CircuitBreaker.State.OPEN; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> guarded.save(2L, "second", 60_000))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TOKEN_STORE_UNAVAILABLE);
+    }
+
+    private WriteBehindRefreshTokenStore newStore(int batchSize, long maxDelayMicros, long maxRetryMillis) {
+        return new WriteBehindRefreshTokenStore(redis, guard, batchSize, maxDelayMicros, 100, maxRetryMillis, meterRegistry);
+    }
+
+    /**
+     * 파이프라인 전송을 기록하는 RedisService (전송은 gate 에서 대기하고, failNext 횟수만큼 전송 실패)
+     */
+    private static class FakeRedisService extends RedisService {
+
+        private final Map<Long, String> values = new ConcurrentHashMap<>();
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final Gate gate;
+
+        FakeRedisService(Gate gate) {
+            super(null);
+            this.gate = gate;
+        }
+
+        void failNext(int count) {
+            failures.set(count);
+        }
+
+        @Override
+        public void applyRefreshTokenWrites(List<RefreshTokenWrite> writes) {
+            gate.pass();
+            if (failures.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                throw new RedisConnectionFailureException("redis down");
+            }
+            batchSizes.add(writes.size());
+            for (RefreshTokenWrite write : writes) {
+                if (write.isDelete()) {
+                    values.remove(write.userId());
+                } else {
+                    values.put(write.userId(), write.refreshToken());
+                }
+            }
+        }
+
+        @Override
+        public String getRefreshToken(Long userId) {
+            return values.get(userId);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package springboot.boilerplate.global.warmup;
+
+import org.junit.jupiter.api.Test;
+import springboot.boilerplate.global.warmup.Warmup.Report;
+import springboot.boilerplate.global.warmup.Warmup.Result;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WarmupTest {
+
+    @Test
+    void recordsLatencyBeforeAndAfterWarmup() {
+        AtomicInteger calls = new AtomicInteger();
+
+        Report report = new Warmup(10_000)
+                .task("slow-start", 20, () -> {
+                    // 처음 두 번만 느린 작업
+                    if (calls.getAndIncrement() < 2) {
+                        Thread.sleep(20);
+                    }
+                })
+                .run();
+
+        Result result = report.results().get(0);
+        assertThat(report.timedOut()).isFalse();
+        assertThat(result.completed()).isEqualTo(20);
+        assertThat(result.beforeNanos()).isGreaterThanOrEqualTo(20_000_000L);
+        assertThat(result.afterNanos()).isLessThan(result.beforeNanos());
+        assertThat(report.durationNanos()).isGreaterThanOrEqualTo(40_000_000L);
+    }
+
+    @Test
+    void failingTaskDoesNotStopLaterTasks() {
+        AtomicInteger later = new AtomicInteger();
+
+        Report report = new Warmup(10_000)
+                .task("broken", 5, () -> {
+                    throw new IllegalStateException("pool unavailable");
+                })
+                .task("later", 3, later::incrementAndGet)
+                .task("skipped", 0, later::incrementAndGet)
+                .run();
+
+        assertThat(report.results()).extracting(Result::name).containsExactly("broken", "later");
+        assertThat(report.results().get(0).failure()).contains("pool unavailable");
+        assertThat(report.results().get(0).completed()).isZero();
+        assertThat(later).hasValue(3);
+        assertThat(report.timedOut()).isFalse();
+    }
+
+    @Test
+    void stopsAtTimeoutAndSkipsRemainingTasks() {
+        AtomicInteger remaining = new AtomicInteger();
+
+        Report report = new Warmup(50)
+                .task("endless", Integer.MAX_VALUE, () -> Thread.sleep(5))
+                .task("remaining", 10, remaining::incrementAndGet)
+                .run();
+
+        assertThat(report.timedOut()).isTrue();
+        assertThat(report.results().get(0).completed()).isLessThan(Integer.MAX_VALUE);
+        assertThat(report.results().get(0).afterNanos()).isZero();
+        assertThat(report.results().get(1).completed()).isZero();
+        assertThat(remaining).hasValue(0);
+    }
+
+    @Test
+    void stuckIterationDoesNotHoldStartupPastTimeout() {
+        AtomicInteger remaining = new AtomicInteger();
+
+        // 반복 하나가 제한 시간보다 오래 걸려도 제한 시간에 끝남
+        Report report = new Warmup(50)
+                .task("stuck", 1, () -> Thread.sleep(10_000))
+                .task("remaining", 10, remaining::incrementAndGet)
+                .run();
+
+        assertThat(report.timedOut()).isTrue();
+        assertThat(report.durationNanos()).isLessThan(5_000_000_000L);
+        assertThat(report.results().get(0).completed()).isZero();
+        assertThat(report.results().get(0).failure()).isNull();
+        assertThat(remaining).hasValue(0);
+    }
+}
@@ -0,0 +1,60 @@
+package springboot.boilerplate.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작업당 할당량 예산 검증
+ *
+ * 예산은 allocation-budget.properties 에서 읽으며,
+ * Benchmark로 JIT 워밍업 후 측정한 bytes/op가 예산을 넘으면 실패
+ */
+public final class AllocationBudget {
+
+    private static final String BUDGET_FILE = "/allocation-budget.properties";
+    private static final Properties BUDGETS = load();
+
+    private AllocationBudget() {
+    }
+
+    /**
+     * 작업의 할당량이 예산 이내인지 검증
+     *
+     * @param name 예산 이름 (allocation-budget.properties 키)
+     * @param warmup 워밍업 반복 횟수
+     * @param iterations 측정 반복 횟수
+     * @param operation 측정할 작업
+     * @return 측정 결과
+     */
+    public static Benchmark.Result assertWithinBudget(String name, int warmup, int iterations, Supplier<?> operation) {
+        String budget = BUDGETS.getProperty(name);
+        if (budget == null) {
+            throw new IllegalArgumentException("No allocation budget for '" + name + "' in " + BUDGET_FILE);
+        }
+        long budgetBytes = Long.parseLong(budget.trim());
+
+        Benchmark.Result result = Benchmark.run(name, warmup, iterations, operation);
+        assertThat(result.bytesPerOp())
+                .as("%s allocated %.0f B/op, budget %d B/op", name, result.bytesPerOp(), budgetBytes)
+                .isLessThanOrEqualTo(budgetBytes);
+        return result;
+    }
+
+    private static Properties load() {
+        Properties properties = new Properties();
+        try (InputStream in = AllocationBudget.class.getResourceAsStream(BUDGET_FILE)) {
+            if (in == null) {
+                throw new IllegalStateException(BUDGET_FILE + " not found on the test classpath");
+            }
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return properties;
+    }
+}
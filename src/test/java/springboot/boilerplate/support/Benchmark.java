@@ -0,0 +1,58 @@
+package springboot.boilerplate.support;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * 벤치마크 테스트 공통 유틸
+ *
+ * JIT 워밍업 후 작업당 소요 시간(ns)과 스레드 할당 바이트(B)를 측정
+ */
+public final class Benchmark {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // 측정 대상 결과가 JIT에 의해 제거되지 않도록 유지
+    private static volatile int sink;
+
+    private Benchmark() {
+    }
+
+    public record Result(String name, int iterations, double nanosPerOp, double bytesPerOp) {
+        @Override
+        public String toString() {
+            return String.format("%-45s %12.1f ns/op %12.1f B/op (%d ops)", name, nanosPerOp, bytesPerOp, iterations);
+        }
+    }
+
+    /**
+     * 워밍업 후 작업을 반복 실행하여 측정
+     *
+     * @param name 측정 이름
+     * @param warmup 워밍업 반복 횟수
+     * @param iterations 측정 반복 횟수
+     * @param operation 측정할 작업
+     * @return 측정 결과
+     */
+    public static Result run(String name, int warmup, int iterations, Supplier<?> operation) {
+        int hash = 0;
+        for (int i = 0; i < warmup; i++) {
+            hash += System.identityHashCode(operation.get());
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            hash += System.identityHashCode(operation.get());
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - bytesBefore;
+        sink = hash;
+
+        Result result = new Result(name, iterations, (double) elapsed / iterations, (double) allocated / iterations);
+        System.out.println("[Benchmark] " + result);
+        return result;
+    }
+}
@@ -0,0 +1,42 @@
+package springboot.boilerplate.support;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 배치 처리 스레드를 테스트에서 멈춰 두기 위한 관문
+ *
+ * hold 후 pass 를 호출한 스레드는 release 까지 대기하며,
+ * awaitEntered 로 처음 pass 에 들어온 시점을 기다릴 수 있음
+ */
+public final class Gate {
+
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private volatile CountDownLatch open = new CountDownLatch(0);
+
+    public void hold() {
+        open = new CountDownLatch(1);
+    }
+
+    public void release() {
+        open.countDown();
+    }
+
+    /**
+     * 들어왔음을 알리고 release 될 때까지 대기
+     */
+    public void pass() {
+        entered.countDown();
+        try {
+            open.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public void awaitEntered() throws InterruptedException {
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}